@@ -35,6 +35,8 @@ public:
   jlong v8RuntimePtr;
 };
 
+class ByteBufferReference;
+
 class V8Runtime {
 public:
   Isolate* isolate;
@@ -43,6 +45,13 @@ public:
   Persistent<Object>* globalObject;
   jobject v8;
   jthrowable pendingException;
+  StartupData* snapshotBlob;
+  jlong memoryLimit;
+  bool memoryLimitReached;
+  // Thrown by the memory limit handler, kept as a global ref since GC callbacks run in any JNI call
+  jthrowable memoryLimitException;
+  // Direct ByteBuffers backing ArrayBuffers, keyed by their address
+  std::multimap<void*, ByteBufferReference*> byteBuffers;
 
 #ifdef NODE_COMPATIBLE
   node::Environment* nodeEnvironment;
@@ -52,6 +61,16 @@ public:
 
 };
 
+// Keeps a direct ByteBuffer alive while V8 may still use its memory
+class ByteBufferReference {
+public:
+  V8Runtime* runtime;
+  jobject byteBuffer;
+  void* data;
+  size_t byteLength;
+  Persistent<ArrayBuffer> arrayBuffer;
+};
+
 v8::Platform* v8Platform;
 
 const char* ToCString(const String::Utf8Value& value) {
@@ -63,12 +82,15 @@ jclass v8cls = NULL;
 jclass v8ObjectCls = NULL;
 jclass v8ArrayCls = NULL;
 jclass v8FunctionCls = NULL;
+jclass v8ArrayBufferCls = NULL;
+jclass v8TypedArrayCls = NULL;
 jclass undefinedV8ObjectCls = NULL;
 jclass undefinedV8ArrayCls = NULL;
 jclass v8ResultsUndefinedCls = NULL;
 jclass v8ScriptCompilationCls = NULL;
 jclass v8ScriptExecutionException = NULL;
 jclass v8RuntimeException = NULL;
+jclass v8MemoryLimitExceptionCls = NULL;
 jclass throwableCls = NULL;
 jclass stringCls = NULL;
 jclass integerCls = NULL;
@@ -77,6 +99,8 @@ jclass booleanCls = NULL;
 jclass errorCls = NULL;
 jclass unsupportedOperationExceptionCls = NULL;
 jmethodID v8ArrayInitMethodID = NULL;
+jmethodID v8ArrayBufferInitMethodID = NULL;
+jmethodID v8TypedArrayInitMethodID = NULL;
 jmethodID v8ArrayGetHandleMethodID = NULL;
 jmethodID v8CallVoidMethodID = NULL;
 jmethodID v8ObjectReleaseMethodID = NULL;
@@ -89,6 +113,11 @@ jmethodID integerIntValueMethodID = NULL;
 jmethodID booleanBoolValueMethodID = NULL;
 jmethodID doubleDoubleValueMethodID = NULL;
 jmethodID v8CallObjectJavaMethodMethodID = NULL;
+jmethodID v8CallArgumentsJavaMethodMethodID = NULL;
+jmethodID v8CallIntJavaMethodMethodID = NULL;
+jmethodID v8CallDoubleJavaMethodMethodID = NULL;
+jmethodID v8CallBooleanJavaMethodMethodID = NULL;
+jmethodID v8CallStringJavaMethodMethodID = NULL;
 jmethodID v8ScriptCompilationInitMethodID = NULL;
 jmethodID v8ScriptExecutionExceptionInitMethodID = NULL;
 jmethodID undefinedV8ArrayInitMethodID = NULL;
@@ -98,6 +127,8 @@ jmethodID doubleInitMethodID = NULL;
 jmethodID booleanInitMethodID = NULL;
 jmethodID v8FunctionInitMethodID = NULL;
 jmethodID v8ObjectInitMethodID = NULL;
+jmethodID v8HandleMemoryLimitMethodID = NULL;
+jmethodID v8MemoryLimitExceptionInitMethodID = NULL;
 
 void throwParseException(JNIEnv *env, Isolate* isolate, TryCatch* tryCatch);
 void throwExecutionException(JNIEnv *env, Isolate* isolate, TryCatch* tryCatch, jlong v8RuntimePtr);
@@ -178,6 +209,20 @@ void addValueWithKey(JNIEnv* env, Isolate* isolate, jlong &v8RuntimePtr, jlong &
   env->ReleaseStringUTFChars(key, utfString_key);
 }
 
+Handle<String> getKey(Isolate* isolate, jlong &keyHandle) {
+  return Local<String>::New(isolate, *reinterpret_cast<Persistent<String>*>(keyHandle));
+}
+
+Handle<Value> getValueWithKey(Isolate* isolate, jlong &objectHandle, jlong &keyHandle) {
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  return object->Get(getKey(isolate, keyHandle));
+}
+
+void addValueWithKey(Isolate* isolate, jlong &objectHandle, jlong &keyHandle, Handle<Value> value) {
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  object->Set(getKey(isolate, keyHandle), value);
+}
+
 void getJNIEnv(JNIEnv*& env) {
   int getEnvStat = jvm->GetEnv((void **)&env, JNI_VERSION_1_6);
   if (getEnvStat == JNI_EDETACHED) {
@@ -227,6 +272,8 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
     v8ObjectCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Object"));
     v8ArrayCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Array"));
     v8FunctionCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Function"));
+    v8ArrayBufferCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8ArrayBuffer"));
+    v8TypedArrayCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8TypedArray"));
     undefinedV8ObjectCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Object$Undefined"));
     undefinedV8ArrayCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Array$Undefined"));
     stringCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/String"));
@@ -238,12 +285,15 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
     v8ScriptCompilationCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8ScriptCompilationException"));
     v8ScriptExecutionException = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8ScriptExecutionException"));
     v8RuntimeException = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8RuntimeException"));
+    v8MemoryLimitExceptionCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8MemoryLimitException"));
     errorCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/Error"));
     unsupportedOperationExceptionCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/UnsupportedOperationException"));
 
     // Get all method IDs
     v8ArrayInitMethodID = env->GetMethodID(v8ArrayCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
     v8ArrayGetHandleMethodID = env->GetMethodID(v8ArrayCls, "getHandle", "()J");
+    v8ArrayBufferInitMethodID = env->GetMethodID(v8ArrayBufferCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
+    v8TypedArrayInitMethodID = env->GetMethodID(v8TypedArrayCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
     v8CallVoidMethodID = (env)->GetMethodID(v8cls, "callVoidJavaMethod", "(JLcom/eclipsesource/v8/V8Object;Lcom/eclipsesource/v8/V8Array;)V");
     v8ObjectReleaseMethodID = env->GetMethodID(v8ObjectCls, "release", "()V");
     v8ArrayReleaseMethodID = env->GetMethodID(v8ArrayCls, "release", "()V");
@@ -254,6 +304,11 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
     booleanBoolValueMethodID = env->GetMethodID(booleanCls, "booleanValue", "()Z");
     doubleDoubleValueMethodID = env->GetMethodID(doubleCls, "doubleValue", "()D");
     v8CallObjectJavaMethodMethodID = (env)->GetMethodID(v8cls, "callObjectJavaMethod", "(JLcom/eclipsesource/v8/V8Object;Lcom/eclipsesource/v8/V8Array;)Ljava/lang/Object;");
+    v8CallArgumentsJavaMethodMethodID = (env)->GetMethodID(v8cls, "callArgumentsJavaMethod", "(JJI)Ljava/lang/Object;");
+    v8CallIntJavaMethodMethodID = (env)->GetMethodID(v8cls, "callIntJavaMethod", "(JLcom/eclipsesource/v8/V8Object;Lcom/eclipsesource/v8/V8Array;)I");
+    v8CallDoubleJavaMethodMethodID = (env)->GetMethodID(v8cls, "callDoubleJavaMethod", "(JLcom/eclipsesource/v8/V8Object;Lcom/eclipsesource/v8/V8Array;)D");
+    v8CallBooleanJavaMethodMethodID = (env)->GetMethodID(v8cls, "callBooleanJavaMethod", "(JLcom/eclipsesource/v8/V8Object;Lcom/eclipsesource/v8/V8Array;)Z");
+    v8CallStringJavaMethodMethodID = (env)->GetMethodID(v8cls, "callStringJavaMethod", "(JLcom/eclipsesource/v8/V8Object;Lcom/eclipsesource/v8/V8Array;)Ljava/lang/String;");
     v8DisposeMethodID = (env)->GetMethodID(v8cls, "disposeMethodID", "(J)V");
     v8ScriptCompilationInitMethodID = env->GetMethodID(v8ScriptCompilationCls, "<init>", "(Ljava/lang/String;ILjava/lang/String;Ljava/lang/String;II)V");
     v8ScriptExecutionExceptionInitMethodID = env->GetMethodID(v8ScriptExecutionException, "<init>", "(Ljava/lang/String;ILjava/lang/String;Ljava/lang/String;IILjava/lang/String;Ljava/lang/Throwable;)V");
@@ -264,6 +319,8 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
     booleanInitMethodID = env->GetMethodID(booleanCls, "<init>", "(Z)V");
     v8FunctionInitMethodID = env->GetMethodID(v8FunctionCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
     v8ObjectInitMethodID = env->GetMethodID(v8ObjectCls, "<init>", "(Lcom/eclipsesource/v8/V8;)V");
+    v8HandleMemoryLimitMethodID = env->GetMethodID(v8cls, "handleMemoryLimit", "(JJ)J");
+    v8MemoryLimitExceptionInitMethodID = env->GetMethodID(v8MemoryLimitExceptionCls, "<init>", "(Ljava/lang/String;Ljava/lang/Throwable;)V");
 
     return JNI_VERSION_1_6;
 }
@@ -341,16 +398,48 @@ JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1isRunning
  #endif
 }
 
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1createSnapshot
+ (JNIEnv *env, jclass, jstring source) {
+  const char* utfSource = env->GetStringUTFChars(source, NULL);
+  StartupData blob = v8::V8::CreateSnapshotDataBlob(utfSource);
+  env->ReleaseStringUTFChars(source, utfSource);
+  if (blob.data == NULL) {
+    return NULL;
+  }
+  jbyteArray result = env->NewByteArray(blob.raw_size);
+  env->SetByteArrayRegion(result, 0, blob.raw_size, reinterpret_cast<const jbyte*>(blob.data));
+  delete[] blob.data;
+  return result;
+}
+
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createIsolate
- (JNIEnv *env, jobject v8, jstring globalAlias) {
+ (JNIEnv *env, jobject v8, jstring globalAlias, jbyteArray snapshotBlob, jint maxHeapSize) {
   V8Runtime* runtime = new V8Runtime();
   v8::Isolate::CreateParams create_params;
   create_params.array_buffer_allocator = &array_buffer_allocator;
+  if (maxHeapSize > 0) {
+    create_params.constraints.set_max_old_space_size(maxHeapSize);
+  }
+  runtime->snapshotBlob = NULL;
+  if (snapshotBlob != NULL) {
+    // The isolate reads from the snapshot for its entire lifetime, so the runtime owns a copy
+    int length = env->GetArrayLength(snapshotBlob);
+    char* data = new char[length];
+    env->GetByteArrayRegion(snapshotBlob, 0, length, reinterpret_cast<jbyte*>(data));
+    runtime->snapshotBlob = new StartupData();
+    runtime->snapshotBlob->data = data;
+    runtime->snapshotBlob->raw_size = length;
+    create_params.snapshot_blob = runtime->snapshotBlob;
+  }
   runtime->isolate = v8::Isolate::New(create_params);
   Locker locker(runtime->isolate);
   runtime->isolate_scope = new Isolate::Scope(runtime->isolate);
   runtime->v8 = env->NewGlobalRef(v8);
   runtime->pendingException = NULL;
+  runtime->memoryLimit = 0;
+  runtime->memoryLimitReached = false;
+  runtime->memoryLimitException = NULL;
+  runtime->isolate->SetData(0, runtime);
   HandleScope handle_scope(runtime->isolate);
   Handle<ObjectTemplate> globalObject = ObjectTemplate::New();
   if (globalAlias == NULL) {
@@ -402,6 +491,241 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Array
   return reinterpret_cast<jlong>(container);
 }
 
+void releaseByteBufferReference(JNIEnv *env, ByteBufferReference* reference) {
+  std::multimap<void*, ByteBufferReference*>& byteBuffers = reference->runtime->byteBuffers;
+  std::pair<std::multimap<void*, ByteBufferReference*>::iterator, std::multimap<void*, ByteBufferReference*>::iterator> range = byteBuffers.equal_range(reference->data);
+  for (std::multimap<void*, ByteBufferReference*>::iterator it = range.first; it != range.second; ++it) {
+    if (it->second == reference) {
+      byteBuffers.erase(it);
+      break;
+    }
+  }
+  reference->arrayBuffer.Reset();
+  env->DeleteGlobalRef(reference->byteBuffer);
+  delete(reference);
+}
+
+ByteBufferReference* findByteBufferReference(V8Runtime* runtime, Local<ArrayBuffer> arrayBuffer) {
+  if (!arrayBuffer->IsExternal()) {
+    return NULL;
+  }
+  void* data = arrayBuffer->GetContents().Data();
+  std::pair<std::multimap<void*, ByteBufferReference*>::iterator, std::multimap<void*, ByteBufferReference*>::iterator> range = runtime->byteBuffers.equal_range(data);
+  for (std::multimap<void*, ByteBufferReference*>::iterator it = range.first; it != range.second; ++it) {
+    if (it->second->arrayBuffer == arrayBuffer) {
+      return it->second;
+    }
+  }
+  return NULL;
+}
+
+Local<ArrayBuffer> getArrayBuffer(Handle<Object> object) {
+  if (object->IsArrayBufferView()) {
+    return Local<ArrayBufferView>::Cast(object)->Buffer();
+  }
+  return Local<ArrayBuffer>::Cast(object);
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8ArrayBuffer
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jobject byteBuffer, jint capacity) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  // The memory is owned by the ByteBuffer, so V8 creates an externalized ArrayBuffer and never frees it
+  void* data = env->GetDirectBufferAddress(byteBuffer);
+  Local<ArrayBuffer> arrayBuffer = ArrayBuffer::New(isolate, data, capacity);
+  // The ByteBuffer is referenced until the ArrayBuffer is garbage collected, not for the life of the runtime
+  ByteBufferReference* reference = new ByteBufferReference();
+  reference->runtime = runtime;
+  reference->byteBuffer = env->NewGlobalRef(byteBuffer);
+  reference->data = data;
+  reference->byteLength = capacity;
+  reference->arrayBuffer.Reset(isolate, arrayBuffer);
+  reference->arrayBuffer.SetWeak(reference, [](v8::WeakCallbackInfo<ByteBufferReference> const& data) {
+    ByteBufferReference* reference = data.GetParameter();
+    data.GetIsolate()->AdjustAmountOfExternalAllocatedMemory(-static_cast<int64_t>(reference->byteLength));
+    JNIEnv * env;
+    getJNIEnv(env);
+    releaseByteBufferReference(env, reference);
+  }, WeakCallbackType::kParameter);
+  runtime->byteBuffers.insert(std::make_pair(data, reference));
+  isolate->AdjustAmountOfExternalAllocatedMemory(capacity);
+  Persistent<Object>* container = new Persistent<Object>;
+  container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, arrayBuffer);
+  return reinterpret_cast<jlong>(container);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getRetainedByteBufferCount
+(JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  return static_cast<jint>(runtime->byteBuffers.size());
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getArrayBufferByteLength
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  return static_cast<jint>(ArrayBuffer::Cast(*object)->ByteLength());
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getArrayBufferBackingStore
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  ArrayBuffer::Contents contents = ArrayBuffer::Cast(*object)->GetContents();
+  return env->NewDirectByteBuffer(contents.Data(), contents.ByteLength());
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getArrayBufferOwner
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  ByteBufferReference* reference = findByteBufferReference(runtime, getArrayBuffer(object));
+  if (reference == NULL) {
+    return NULL;
+  }
+  return env->NewLocalRef(reference->byteBuffer);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1transferArrayBuffer
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  Local<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::Cast(object);
+  if (!arrayBuffer->IsNeuterable()) {
+    return NULL;
+  }
+  ByteBufferReference* reference = findByteBufferReference(runtime, arrayBuffer);
+  if (reference == NULL) {
+    return NULL;
+  }
+  // The receiver becomes the only owner, so this runtime stops referencing the ByteBuffer
+  jobject result = env->NewLocalRef(reference->byteBuffer);
+  arrayBuffer->Neuter();
+  isolate->AdjustAmountOfExternalAllocatedMemory(-static_cast<int64_t>(reference->byteLength));
+  releaseByteBufferReference(env, reference);
+  return result;
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1detachArrayBuffer
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  ArrayBuffer* arrayBuffer = ArrayBuffer::Cast(*object);
+  if (!arrayBuffer->IsNeuterable()) {
+    return false;
+  }
+  if (arrayBuffer->IsExternal()) {
+    arrayBuffer->Neuter();
+    return true;
+  }
+  // The memory was allocated by V8, so it is taken over and freed once the buffer is detached
+  ArrayBuffer::Contents contents = arrayBuffer->Externalize();
+  arrayBuffer->Neuter();
+  array_buffer_allocator.Free(contents.Data(), contents.ByteLength());
+  return true;
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8TypedArray
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong bufferHandle, jint type, jint offset, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Object> bufferObject = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(bufferHandle));
+  Local<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::Cast(bufferObject);
+  Local<TypedArray> typedArray;
+  switch (type) {
+    case com_eclipsesource_v8_V8_INT_8_ARRAY:
+      typedArray = Int8Array::New(arrayBuffer, offset, length);
+      break;
+    case com_eclipsesource_v8_V8_UNSIGNED_INT_8_ARRAY:
+      typedArray = Uint8Array::New(arrayBuffer, offset, length);
+      break;
+    case com_eclipsesource_v8_V8_UNSIGNED_INT_8_CLAMPED_ARRAY:
+      typedArray = Uint8ClampedArray::New(arrayBuffer, offset, length);
+      break;
+    case com_eclipsesource_v8_V8_INT_16_ARRAY:
+      typedArray = Int16Array::New(arrayBuffer, offset, length);
+      break;
+    case com_eclipsesource_v8_V8_UNSIGNED_INT_16_ARRAY:
+      typedArray = Uint16Array::New(arrayBuffer, offset, length);
+      break;
+    case com_eclipsesource_v8_V8_INT_32_ARRAY:
+      typedArray = Int32Array::New(arrayBuffer, offset, length);
+      break;
+    case com_eclipsesource_v8_V8_UNSIGNED_INT_32_ARRAY:
+      typedArray = Uint32Array::New(arrayBuffer, offset, length);
+      break;
+    case com_eclipsesource_v8_V8_FLOAT_32_ARRAY:
+      typedArray = Float32Array::New(arrayBuffer, offset, length);
+      break;
+    case com_eclipsesource_v8_V8_FLOAT_64_ARRAY:
+      typedArray = Float64Array::New(arrayBuffer, offset, length);
+      break;
+    default:
+      throwError(env, "Unsupported typed array type.");
+      return 0;
+  }
+  Persistent<Object>* container = new Persistent<Object>;
+  container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, typedArray);
+  return reinterpret_cast<jlong>(container);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getTypedArrayType
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  if (object->IsInt8Array()) {
+    return com_eclipsesource_v8_V8_INT_8_ARRAY;
+  }
+  else if (object->IsUint8Array()) {
+    return com_eclipsesource_v8_V8_UNSIGNED_INT_8_ARRAY;
+  }
+  else if (object->IsUint8ClampedArray()) {
+    return com_eclipsesource_v8_V8_UNSIGNED_INT_8_CLAMPED_ARRAY;
+  }
+  else if (object->IsInt16Array()) {
+    return com_eclipsesource_v8_V8_INT_16_ARRAY;
+  }
+  else if (object->IsUint16Array()) {
+    return com_eclipsesource_v8_V8_UNSIGNED_INT_16_ARRAY;
+  }
+  else if (object->IsInt32Array()) {
+    return com_eclipsesource_v8_V8_INT_32_ARRAY;
+  }
+  else if (object->IsUint32Array()) {
+    return com_eclipsesource_v8_V8_UNSIGNED_INT_32_ARRAY;
+  }
+  else if (object->IsFloat32Array()) {
+    return com_eclipsesource_v8_V8_FLOAT_32_ARRAY;
+  }
+  else if (object->IsFloat64Array()) {
+    return com_eclipsesource_v8_V8_FLOAT_64_ARRAY;
+  }
+  return com_eclipsesource_v8_V8_UNKNOWN;
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getTypedArrayBuffer
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  Handle<Value> arrayBuffer = TypedArray::Cast(*object)->Buffer();
+  return getResult(env, v8, v8RuntimePtr, arrayBuffer, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getTypedArrayByteOffset
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  return static_cast<jint>(TypedArray::Cast(*object)->ByteOffset());
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getTypedArrayByteBuffer
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  TypedArray* typedArray = TypedArray::Cast(*object);
+  ArrayBuffer::Contents contents = typedArray->Buffer()->GetContents();
+  char* data = static_cast<char*>(contents.Data()) + typedArray->ByteOffset();
+  return env->NewDirectByteBuffer(data, typedArray->ByteLength());
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1release
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
   if (v8RuntimePtr == 0) {
@@ -414,6 +738,22 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1release
   delete(reinterpret_cast<Persistent<Object>*>(objectHandle));
 }
 
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseAll
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlongArray objectHandles, jint length) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  Locker locker(isolate);
+  HandleScope handle_scope(isolate);
+  jlong* handles = env->GetLongArrayElements(objectHandles, NULL);
+  for (int i = 0; i < length; i++) {
+    reinterpret_cast<Persistent<Object>*>(handles[i])->Reset();
+    delete(reinterpret_cast<Persistent<Object>*>(handles[i]));
+  }
+  env->ReleaseLongArrayElements(objectHandles, handles, JNI_ABORT);
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1terminateExecution
   (JNIEnv * env, jobject, jlong v8RuntimePtr) {
 	if (v8RuntimePtr == 0) {
@@ -424,6 +764,114 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1terminateExecution
 	return;
 }
 
+JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1getHeapStatistics
+  (JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  Locker locker(isolate);
+  HeapStatistics heapStatistics;
+  isolate->GetHeapStatistics(&heapStatistics);
+  jlong fill[7];
+  fill[0] = heapStatistics.total_heap_size();
+  fill[1] = heapStatistics.total_heap_size_executable();
+  fill[2] = heapStatistics.total_physical_size();
+  fill[3] = heapStatistics.total_available_size();
+  fill[4] = heapStatistics.used_heap_size();
+  fill[5] = heapStatistics.heap_size_limit();
+  fill[6] = isolate->AdjustAmountOfExternalAllocatedMemory(0);
+  jlongArray result = env->NewLongArray(7);
+  env->SetLongArrayRegion(result, 0, 7, fill);
+  return result;
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1lowMemoryNotification
+  (JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  Locker locker(isolate);
+  isolate->LowMemoryNotification();
+}
+
+void clearMemoryLimitException(JNIEnv* env, V8Runtime* runtime) {
+  if (runtime->memoryLimitException != NULL) {
+    env->DeleteGlobalRef(runtime->memoryLimitException);
+    runtime->memoryLimitException = NULL;
+  }
+}
+
+void memoryLimitCallback(Isolate* isolate, GCType type, GCCallbackFlags flags) {
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(isolate->GetData(0));
+  if (runtime->memoryLimit <= 0 || runtime->memoryLimitReached) {
+    return;
+  }
+  JNIEnv* env;
+  getJNIEnv(env);
+  if (env->ExceptionCheck()) {
+    return;
+  }
+  HeapStatistics heapStatistics;
+  isolate->GetHeapStatistics(&heapStatistics);
+  jlong usedHeapSize = heapStatistics.used_heap_size();
+  if (usedHeapSize <= runtime->memoryLimit) {
+    return;
+  }
+  jlong newLimit = env->CallLongMethod(runtime->v8, v8HandleMemoryLimitMethodID, usedHeapSize, runtime->memoryLimit);
+  if (env->ExceptionCheck()) {
+    jthrowable exception = env->ExceptionOccurred();
+    env->ExceptionClear();
+    clearMemoryLimitException(env, runtime);
+    runtime->memoryLimitException = (jthrowable)env->NewGlobalRef(exception);
+    env->DeleteLocalRef(exception);
+    newLimit = 0;
+  }
+  if (newLimit > usedHeapSize) {
+    runtime->memoryLimit = newLimit;
+  } else {
+    runtime->memoryLimitReached = true;
+    V8::TerminateExecution(isolate);
+  }
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setMemoryLimit
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong memoryLimit) {
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  Locker locker(isolate);
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
+  if (runtime->memoryLimit > 0) {
+    isolate->RemoveGCEpilogueCallback(memoryLimitCallback);
+  }
+  runtime->memoryLimit = memoryLimit;
+  runtime->memoryLimitReached = false;
+  clearMemoryLimitException(env, runtime);
+  if (memoryLimit > 0) {
+    isolate->AddGCEpilogueCallback(memoryLimitCallback);
+  }
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1cancelTerminateExecution
+  (JNIEnv * env, jobject, jlong v8RuntimePtr) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  isolate->CancelTerminateExecution();
+  // The termination may have been requested by the memory limit, for example after a
+  // GC outside of a script. Without a reset the memory limit would never trigger again.
+  // Exceptions thrown by Java callbacks are left pending, they are still to be wrapped.
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
+  if (runtime->memoryLimitReached) {
+    runtime->memoryLimitReached = false;
+    clearMemoryLimitException(env, runtime);
+  }
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1isExecutionTerminating
+  (JNIEnv * env, jobject, jlong v8RuntimePtr) {
+  if (v8RuntimePtr == 0) {
+    return false;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  return isolate->IsExecutionTerminating();
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseRuntime
 (JNIEnv *env, jobject, jlong v8RuntimePtr) {
   if (v8RuntimePtr == 0) {
@@ -431,11 +879,20 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseRuntime
   }
   Isolate* isolate = getIsolate(env, v8RuntimePtr);
   //HandleScope handle_scope(isolate);
+  std::multimap<void*, ByteBufferReference*>& byteBuffers = reinterpret_cast<V8Runtime*>(v8RuntimePtr)->byteBuffers;
+  while (!byteBuffers.empty()) {
+    releaseByteBufferReference(env, byteBuffers.begin()->second);
+  }
   reinterpret_cast<V8Runtime*>(v8RuntimePtr)->context_.Reset();
   delete(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate_scope);
   reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate->Dispose();
   env->DeleteGlobalRef(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->v8);
   V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
+  clearMemoryLimitException(env, runtime);
+  if (runtime->snapshotBlob != NULL) {
+    delete[] runtime->snapshotBlob->data;
+    delete(runtime->snapshotBlob);
+  }
   delete(reinterpret_cast<V8Runtime*>(v8RuntimePtr));
 }
 
@@ -580,6 +1037,176 @@ JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeScript
   return getResult(env, v8, v8RuntimePtr, result, expectedType);
 }
 
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1compileScript
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jstring jjstring, jstring jscriptName, jint jlineNumber) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  TryCatch tryCatch;
+  Local<Script> script;
+  if (!compileScript(isolate, jjstring, env, jscriptName, jlineNumber, script, &tryCatch))
+    return 0;
+  Persistent<Script>* container = new Persistent<Script>;
+  container->Reset(runtime->isolate, script);
+  return reinterpret_cast<jlong>(container);
+}
+
+ScriptCompiler::Source* createScriptSource(JNIEnv *env, Isolate* isolate, jstring &jscript, jstring &jscriptName, jint &jlineNumber, ScriptCompiler::CachedData* cachedData) {
+  Local<String> source = createV8String(env, isolate, jscript);
+  if (jscriptName == NULL) {
+    return new ScriptCompiler::Source(source, cachedData);
+  }
+  ScriptOrigin* scriptOriginPtr = createScriptOrigin(env, isolate, jscriptName, jlineNumber);
+  ScriptCompiler::Source* result = new ScriptCompiler::Source(source, *scriptOriginPtr, cachedData);
+  delete(scriptOriginPtr);
+  return result;
+}
+
+JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1compileScriptWithCodeCache
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jstring jjstring, jstring jscriptName, jint jlineNumber, jbyteArray jcodeCache) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  TryCatch tryCatch;
+  int length = env->GetArrayLength(jcodeCache);
+  uint8_t* data = new uint8_t[length];
+  env->GetByteArrayRegion(jcodeCache, 0, length, reinterpret_cast<jbyte*>(data));
+  // the source takes ownership of the cached data, which in turn owns the buffer
+  ScriptCompiler::CachedData* cachedData = new ScriptCompiler::CachedData(data, length, ScriptCompiler::CachedData::BufferOwned);
+  ScriptCompiler::Source* source = createScriptSource(env, isolate, jjstring, jscriptName, jlineNumber, cachedData);
+  Local<Script> script = ScriptCompiler::Compile(isolate, source, ScriptCompiler::kConsumeCodeCache);
+  if (tryCatch.HasCaught()) {
+    delete(source);
+    throwParseException(env, isolate, &tryCatch);
+    return NULL;
+  }
+  bool rejected = source->GetCachedData()->rejected;
+  delete(source);
+  Persistent<Script>* container = new Persistent<Script>;
+  container->Reset(runtime->isolate, script);
+
+  // Position 0 is the pointer to the container, position 1 is the rejected flag
+  jlongArray result = env->NewLongArray(2);
+  jlong fill[2];
+  fill[0] = reinterpret_cast<jlong>(container);
+  fill[1] = rejected ? 1 : 0;
+  (env)->SetLongArrayRegion(result, 0, 2, fill);
+  return result;
+}
+
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1createCodeCache
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jstring jjstring, jstring jscriptName, jint jlineNumber) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  TryCatch tryCatch;
+  ScriptCompiler::Source* source = createScriptSource(env, isolate, jjstring, jscriptName, jlineNumber, NULL);
+  ScriptCompiler::CompileUnbound(isolate, source, ScriptCompiler::kProduceCodeCache);
+  if (tryCatch.HasCaught()) {
+    delete(source);
+    throwParseException(env, isolate, &tryCatch);
+    return NULL;
+  }
+  jbyteArray result = NULL;
+  const ScriptCompiler::CachedData* cachedData = source->GetCachedData();
+  if (cachedData != NULL) {
+    result = env->NewByteArray(cachedData->length);
+    env->SetByteArrayRegion(result, 0, cachedData->length, reinterpret_cast<const jbyte*>(cachedData->data));
+  }
+  delete(source);
+  return result;
+}
+
+Local<Script> getScript(Isolate* isolate, jlong scriptHandle) {
+  return Local<Script>::New(isolate, *reinterpret_cast<Persistent<Script>*>(scriptHandle));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1runVoidScript
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong scriptHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  TryCatch tryCatch;
+  Local<Script> script = getScript(isolate, scriptHandle);
+  runScript(isolate, env, &script, &tryCatch, v8RuntimePtr);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1runIntegerScript
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong scriptHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  TryCatch tryCatch;
+  Local<Script> script = getScript(isolate, scriptHandle);
+  Local<Value> result;
+  if (!runScript(isolate, env, &script, &tryCatch, result, v8RuntimePtr))
+    return 0;
+  ASSERT_IS_NUMBER(result);
+  return result->Int32Value();
+}
+
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1runDoubleScript
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong scriptHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  TryCatch tryCatch;
+  Local<Script> script = getScript(isolate, scriptHandle);
+  Local<Value> result;
+  if (!runScript(isolate, env, &script, &tryCatch, result, v8RuntimePtr))
+    return 0;
+  ASSERT_IS_NUMBER(result);
+  return result->NumberValue();
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1runBooleanScript
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong scriptHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  TryCatch tryCatch;
+  Local<Script> script = getScript(isolate, scriptHandle);
+  Local<Value> result;
+  if (!runScript(isolate, env, &script, &tryCatch, result, v8RuntimePtr))
+    return false;
+  ASSERT_IS_BOOLEAN(result);
+  return result->BooleanValue();
+}
+
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1runStringScript
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong scriptHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  TryCatch tryCatch;
+  Local<Script> script = getScript(isolate, scriptHandle);
+  Local<Value> result;
+  if (!runScript(isolate, env, &script, &tryCatch, result, v8RuntimePtr))
+    return NULL;
+  ASSERT_IS_STRING(result);
+  String::Utf8Value utf(result->ToString());
+  return env->NewStringUTF(*utf);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1runScript
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jint expectedType, jlong scriptHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  TryCatch tryCatch;
+  Local<Script> script = getScript(isolate, scriptHandle);
+  Local<Value> result;
+  if (!runScript(isolate, env, &script, &tryCatch, result, v8RuntimePtr)) { return NULL; }
+  return getResult(env, v8, v8RuntimePtr, result, expectedType);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseScript
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong scriptHandle) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  Locker locker(isolate);
+  HandleScope handle_scope(isolate);
+  reinterpret_cast<Persistent<Script>*>(scriptHandle)->Reset();
+  delete(reinterpret_cast<Persistent<Script>*>(scriptHandle));
+}
+
+bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &receiverHandle, jlong &functionHandle, int size, Handle<Value>* args, Handle<Value> &result) {
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(functionHandle));
+  Handle<Object> receiver = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(receiverHandle));
+  Handle<Function> func = Handle<Function>::Cast(object);
+  TryCatch tryCatch;
+  result = func->Call(receiver, size, args);
+  if (tryCatch.HasCaught()) {
+    throwExecutionException(env, isolate, &tryCatch, v8RuntimePtr);
+    return false;
+  }
+  return true;
+}
+
 bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &receiverHandle, jlong &functionHandle, jlong &parameterHandle, Handle<Value> &result) {
   int size = 0;
   Handle<Value>* args = NULL;
@@ -591,23 +1218,14 @@ bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &r
       args[i] = parameters->Get(i);
     }
   }
-  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(functionHandle));
-  Handle<Object> receiver = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(receiverHandle));
-  Handle<Function> func = Handle<Function>::Cast(object);
-  TryCatch tryCatch;
-  result = func->Call(receiver, size, args);
+  bool success = invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, size, args, result);
   if (args != NULL) {
-    delete(args);
+    delete[] args;
   }
-  if (tryCatch.HasCaught()) {
-    throwExecutionException(env, isolate, &tryCatch, v8RuntimePtr);
-    return false;
-  }
-  return true;
+  return success;
 }
 
-bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &objectHandle, jstring &jfunctionName, jlong &parameterHandle, Handle<Value> &result) {
-  Local<String> functionName = createV8String(env, isolate, jfunctionName);
+bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &objectHandle, Handle<String> functionName, jlong &parameterHandle, Handle<Value> &result) {
   Handle<Object> parentObject = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
   int size = 0;
   Handle<Value>* args = NULL;
@@ -633,6 +1251,51 @@ bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &o
   return true;
 }
 
+bool invokeFunction(JNIEnv *env, Isolate* isolate, jlong &v8RuntimePtr, jlong &objectHandle, jstring &jfunctionName, jlong &parameterHandle, Handle<Value> &result) {
+  Local<String> functionName = createV8String(env, isolate, jfunctionName);
+  return invokeFunction(env, isolate, v8RuntimePtr, objectHandle, functionName, parameterHandle, result);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunctionWithIntegers
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jintArray parameters) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  int size = env->GetArrayLength(parameters);
+  jint * values = new jint[size];
+  (env)->GetIntArrayRegion(parameters, 0, size, values);
+  Handle<Value>* args = new Handle<Value>[size];
+  for (int i = 0; i < size; i++) {
+    args[i] = Int32::New(isolate, values[i]);
+  }
+  delete[] values;
+  Handle<Value> result;
+  bool success = invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, size, args, result);
+  delete[] args;
+  if (!success) {
+    return NULL;
+  }
+  return getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunctionWithDoubles
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jdoubleArray parameters) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  int size = env->GetArrayLength(parameters);
+  jdouble * values = new jdouble[size];
+  (env)->GetDoubleArrayRegion(parameters, 0, size, values);
+  Handle<Value>* args = new Handle<Value>[size];
+  for (int i = 0; i < size; i++) {
+    args[i] = Number::New(isolate, values[i]);
+  }
+  delete[] values;
+  Handle<Value> result;
+  bool success = invokeFunction(env, isolate, v8RuntimePtr, receiverHandle, functionHandle, size, args, result);
+  delete[] args;
+  if (!success) {
+    return NULL;
+  }
+  return getResult(env, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunction__JJJJ
   (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong receiverHandle, jlong functionHandle, jlong parameterHandle) {
     Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
@@ -661,93 +1324,346 @@ JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1executeIntegerFunction
   return result->Int32Value();
 }
 
-JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1executeDoubleFunction
-(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle) {
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1executeDoubleFunction
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, jfunctionName, parameterHandle, result))
+    return 0;
+  ASSERT_IS_NUMBER(result);
+  return result->NumberValue();
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1executeBooleanFunction
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, jfunctionName, parameterHandle, result))
+    return false;
+  ASSERT_IS_BOOLEAN(result);
+  return result->BooleanValue();
+}
+
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1executeStringFunction
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, jfunctionName, parameterHandle, result))
+    return NULL;
+  ASSERT_IS_STRING(result);
+  String::Utf8Value utf(result->ToString());
+  return env->NewStringUTF(*utf);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidFunction
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Value> result;
+  invokeFunction(env, isolate, v8RuntimePtr, objectHandle, jfunctionName, parameterHandle, result);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addUndefined
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Undefined(isolate));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addNull
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Null(isolate));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2I
+(JNIEnv * env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jint value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Int32::New(isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2D
+(JNIEnv * env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jdouble value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Number::New(isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2Ljava_lang_String_2
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jstring value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Value> v8Value = createV8String(env, isolate, value);
+  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, v8Value);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2Z
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jboolean value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Boolean::New(isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addObject
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jlong valueHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Value> value = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(valueHandle));
+  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, value);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1get
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jint expectedType, jlong objectHandle, jstring key) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> result = getValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key);
+  return getResult(env, v8, v8RuntimePtr, result, expectedType);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getValues
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jobjectArray keys, jintArray types, jobjectArray values) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  int length = env->GetArrayLength(keys);
+  jint * fill = new jint[length];
+  for (int i = 0; i < length; i++) {
+    jstring key = (jstring) env->GetObjectArrayElement(keys, i);
+    Handle<Value> v8Value = object->Get(createV8String(env, isolate, key));
+    env->DeleteLocalRef(key);
+    int type = getType(v8Value);
+    fill[i] = type < 0 ? com_eclipsesource_v8_V8_UNDEFINED : type;
+    // Undefined and null values are left as null, the Java side substitutes undefined
+    jobject result = getResult(env, v8, v8RuntimePtr, v8Value, com_eclipsesource_v8_V8_UNDEFINED);
+    env->SetObjectArrayElement(values, i, result);
+    if (result != NULL) {
+      env->DeleteLocalRef(result);
+    }
+  }
+  (env)->SetIntArrayRegion(types, 0, length, fill);
+  delete[] fill;
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addAll
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jobjectArray keys, jintArray types, jdoubleArray numbers, jlongArray handles, jobjectArray values) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  int length = env->GetArrayLength(keys);
+  jint * valueTypes = new jint[length];
+  jdouble * valueNumbers = new jdouble[length];
+  jlong * valueHandles = new jlong[length];
+  (env)->GetIntArrayRegion(types, 0, length, valueTypes);
+  (env)->GetDoubleArrayRegion(numbers, 0, length, valueNumbers);
+  (env)->GetLongArrayRegion(handles, 0, length, valueHandles);
+  for (int i = 0; i < length; i++) {
+    Handle<Value> v8Value;
+    switch (valueTypes[i]) {
+      case com_eclipsesource_v8_V8_INTEGER:
+        v8Value = Int32::New(isolate, static_cast<int32_t>(valueNumbers[i]));
+        break;
+      case com_eclipsesource_v8_V8_DOUBLE:
+        v8Value = Number::New(isolate, valueNumbers[i]);
+        break;
+      case com_eclipsesource_v8_V8_BOOLEAN:
+        v8Value = Boolean::New(isolate, valueNumbers[i] != 0);
+        break;
+      case com_eclipsesource_v8_V8_STRING: {
+        jstring string = (jstring) env->GetObjectArrayElement(values, i);
+        v8Value = createV8String(env, isolate, string);
+        env->DeleteLocalRef(string);
+        break;
+      }
+      case com_eclipsesource_v8_V8_V8_OBJECT:
+        v8Value = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(valueHandles[i]));
+        break;
+      case com_eclipsesource_v8_V8_UNDEFINED:
+        v8Value = Undefined(isolate);
+        break;
+      default:
+        v8Value = Null(isolate);
+        break;
+    }
+    jstring key = (jstring) env->GetObjectArrayElement(keys, i);
+    object->Set(createV8String(env, isolate, key), v8Value);
+    env->DeleteLocalRef(key);
+  }
+  delete[] valueTypes;
+  delete[] valueNumbers;
+  delete[] valueHandles;
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Key
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jstring name) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  const char* utfString = env->GetStringUTFChars(name, NULL);
+  // Internalized strings are hashed once, and property lookups compare them by identity
+  Local<String> key = String::NewFromUtf8(isolate, utfString, String::kInternalizedString);
+  env->ReleaseStringUTFChars(name, utfString);
+  Persistent<String>* container = new Persistent<String>;
+  container->Reset(isolate, key);
+  return reinterpret_cast<jlong>(container);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong keyHandle) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  Locker locker(isolate);
+  HandleScope handle_scope(isolate);
+  reinterpret_cast<Persistent<String>*>(keyHandle)->Reset();
+  delete(reinterpret_cast<Persistent<String>*>(keyHandle));
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1containsWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  return object->Has(getKey(isolate, keyHandle));
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getTypeWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getValueWithKey(isolate, objectHandle, keyHandle);
+  int type = getType(v8Value);
+  if (type < 0) {
+    throwResultUndefinedException(env, "");
+  }
+  return type;
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getIntegerWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getValueWithKey(isolate, objectHandle, keyHandle);
+  ASSERT_IS_NUMBER(v8Value);
+  return v8Value->Int32Value();
+}
+
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1getDoubleWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getValueWithKey(isolate, objectHandle, keyHandle);
+  ASSERT_IS_NUMBER(v8Value);
+  return v8Value->NumberValue();
+}
+
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1getStringWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getValueWithKey(isolate, objectHandle, keyHandle);
+  ASSERT_IS_STRING(v8Value);
+  String::Utf8Value utf(v8Value->ToString());
+  return env->NewStringUTF(*utf);
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1getBooleanWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  Handle<Value> v8Value = getValueWithKey(isolate, objectHandle, keyHandle);
+  ASSERT_IS_BOOLEAN(v8Value);
+  return v8Value->BooleanValue();
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getWithKey
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jint expectedType, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> result = getValueWithKey(isolate, objectHandle, keyHandle);
+  return getResult(env, v8, v8RuntimePtr, result, expectedType);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunctionWithKey
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jint expectedType, jlong objectHandle, jlong keyHandle, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, getKey(isolate, keyHandle), parameterHandle, result))
+    return NULL;
+  return getResult(env, v8, v8RuntimePtr, result, expectedType);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1executeIntegerFunctionWithKey
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jlong parameterHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> result;
+  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, getKey(isolate, keyHandle), parameterHandle, result))
+    return 0;
+  ASSERT_IS_NUMBER(result);
+  return result->Int32Value();
+}
+
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1executeDoubleFunctionWithKey
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jlong parameterHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
   Handle<Value> result;
-  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, jfunctionName, parameterHandle, result))
+  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, getKey(isolate, keyHandle), parameterHandle, result))
     return 0;
   ASSERT_IS_NUMBER(result);
   return result->NumberValue();
 }
 
-JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1executeBooleanFunction
-(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle) {
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1executeBooleanFunctionWithKey
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jlong parameterHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, false);
   Handle<Value> result;
-  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, jfunctionName, parameterHandle, result))
+  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, getKey(isolate, keyHandle), parameterHandle, result))
     return false;
   ASSERT_IS_BOOLEAN(result);
   return result->BooleanValue();
 }
 
-JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1executeStringFunction
-(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle) {
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1executeStringFunctionWithKey
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jlong parameterHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
   Handle<Value> result;
-  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, jfunctionName, parameterHandle, result))
+  if (!invokeFunction(env, isolate, v8RuntimePtr, objectHandle, getKey(isolate, keyHandle), parameterHandle, result))
     return NULL;
   ASSERT_IS_STRING(result);
   String::Utf8Value utf(result->ToString());
   return env->NewStringUTF(*utf);
 }
 
-JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidFunction
-(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jstring jfunctionName, jlong parameterHandle) {
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidFunctionWithKey
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jlong parameterHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
   Handle<Value> result;
-  invokeFunction(env, isolate, v8RuntimePtr, objectHandle, jfunctionName, parameterHandle, result);
+  invokeFunction(env, isolate, v8RuntimePtr, objectHandle, getKey(isolate, keyHandle), parameterHandle, result);
 }
 
-JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addUndefined
-(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key) {
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addIntegerWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jint value) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
-  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Undefined(isolate));
+  addValueWithKey(isolate, objectHandle, keyHandle, Int32::New(isolate, value));
 }
 
-JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addNull
-(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key) {
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addDoubleWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jdouble value) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
-  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Null(isolate));
+  addValueWithKey(isolate, objectHandle, keyHandle, Number::New(isolate, value));
 }
 
-JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2I
-(JNIEnv * env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jint value) {
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addBooleanWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jboolean value) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
-  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Int32::New(isolate, value));
+  addValueWithKey(isolate, objectHandle, keyHandle, Boolean::New(isolate, value));
 }
 
-JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2D
-(JNIEnv * env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jdouble value) {
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addStringWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jstring value) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
-  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Number::New(isolate, value));
+  addValueWithKey(isolate, objectHandle, keyHandle, createV8String(env, isolate, value));
 }
 
-JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2Ljava_lang_String_2
-(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jstring value) {
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addObjectWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jlong valueHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
-  Handle<Value> v8Value = createV8String(env, isolate, value);
-  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, v8Value);
+  Handle<Value> value = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(valueHandle));
+  addValueWithKey(isolate, objectHandle, keyHandle, value);
 }
 
-JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2Z
-(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jboolean value) {
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addUndefinedWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
-  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, Boolean::New(isolate, value));
+  addValueWithKey(isolate, objectHandle, keyHandle, Undefined(isolate));
 }
 
-JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addObject
-(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key, jlong valueHandle) {
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addNullWithKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
-  Handle<Value> value = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(valueHandle));
-  addValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key, value);
-}
-
-JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1get
-(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jint expectedType, jlong objectHandle, jstring key) {
-  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
-  Handle<Value> result = getValueWithKey(env, isolate, v8RuntimePtr, objectHandle, key);
-  return getResult(env, v8, v8RuntimePtr, result, expectedType);
+  addValueWithKey(isolate, objectHandle, keyHandle, Null(isolate));
 }
 
 JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getInteger
@@ -1040,6 +1956,87 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayUndefinedItem
 }
 
 
+bool getArrayWriteIndex(JNIEnv *env, Handle<Object> &array, jint index, int &result) {
+  // A negative index appends the values to the end of the array
+  if (index >= 0) {
+    result = index;
+    return true;
+  }
+  if ( array->IsTypedArray() ) {
+    throwV8RuntimeException(env, "Cannot push to a Typed Array.");
+    return false;
+  }
+  result = Array::Cast(*array)->Length();
+  return true;
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1arraySetIntegers
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index, jintArray values, jint offset, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> array = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(arrayHandle));
+  int start = 0;
+  if (!getArrayWriteIndex(env, array, index, start)) {
+    return;
+  }
+  jint * items = new jint[length];
+  (env)->GetIntArrayRegion(values, offset, length, items);
+  for (int i = 0; i < length; i++) {
+    array->Set(start + i, Int32::New(isolate, items[i]));
+  }
+  delete[] items;
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1arraySetDoubles
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index, jdoubleArray values, jint offset, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> array = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(arrayHandle));
+  int start = 0;
+  if (!getArrayWriteIndex(env, array, index, start)) {
+    return;
+  }
+  jdouble * items = new jdouble[length];
+  (env)->GetDoubleArrayRegion(values, offset, length, items);
+  for (int i = 0; i < length; i++) {
+    array->Set(start + i, Number::New(isolate, items[i]));
+  }
+  delete[] items;
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1arraySetBooleans
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index, jbooleanArray values, jint offset, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> array = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(arrayHandle));
+  int start = 0;
+  if (!getArrayWriteIndex(env, array, index, start)) {
+    return;
+  }
+  jboolean * items = new jboolean[length];
+  (env)->GetBooleanArrayRegion(values, offset, length, items);
+  for (int i = 0; i < length; i++) {
+    array->Set(start + i, Boolean::New(isolate, items[i]));
+  }
+  delete[] items;
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1arraySetStrings
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint index, jobjectArray values, jint offset, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> array = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(arrayHandle));
+  int start = 0;
+  if (!getArrayWriteIndex(env, array, index, start)) {
+    return;
+  }
+  for (int i = 0; i < length; i++) {
+    jstring item = (jstring) env->GetObjectArrayElement(values, offset + i);
+    if (item == NULL) {
+      array->Set(start + i, Null(isolate));
+    } else {
+      array->Set(start + i, createV8String(env, isolate, item));
+      env->DeleteLocalRef(item);
+    }
+  }
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayIntItem
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong arrayHandle, jint value) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
@@ -1186,6 +2183,24 @@ jobject createParameterArray(JNIEnv* env, jlong v8RuntimePtr, jobject v8, int si
   return result;
 }
 
+bool throwPendingJavaException(JNIEnv* env, MethodDescriptor* md) {
+  if (!env->ExceptionCheck()) {
+    return false;
+  }
+  Isolate* isolate = getIsolate(env, md->v8RuntimePtr);
+  reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException = env->ExceptionOccurred();
+  env->ExceptionClear();
+  jstring exceptionMessage = (jstring)env->CallObjectMethod(reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException, throwableGetMessageMethodID);
+  if (exceptionMessage != NULL) {
+    Local<String> v8String = createV8String(env, isolate, exceptionMessage);
+    isolate->ThrowException(v8String);
+  }
+  else {
+    isolate->ThrowException(String::NewFromUtf8(isolate, "Unhandled Java Exception"));
+  }
+  return true;
+}
+
 void voidCallback(const FunctionCallbackInfo<Value>& args) {
   int size = args.Length();
   Local<External> data = Local<External>::Cast(args.Data());
@@ -1198,19 +2213,7 @@ void voidCallback(const FunctionCallbackInfo<Value>& args) {
   Handle<Value> receiver = args.This();
   jobject jreceiver = getResult(env, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);  
   env->CallVoidMethod(v8, v8CallVoidMethodID, md->methodID, jreceiver, parameters);
-  if (env->ExceptionCheck()) {
-    Isolate* isolate = getIsolate(env, md->v8RuntimePtr);
-    reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException = env->ExceptionOccurred();
-    env->ExceptionClear();
-    jstring exceptionMessage = (jstring)env->CallObjectMethod(reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException, throwableGetMessageMethodID);
-    if (exceptionMessage != NULL) {
-      Local<String> v8String = createV8String(env, isolate, exceptionMessage);
-      isolate->ThrowException(v8String);
-    }
-    else {
-      isolate->ThrowException(String::NewFromUtf8(isolate, "Unhandled Java Exception"));
-    }
-  }
+  throwPendingJavaException(env, md);
   env->CallVoidMethod(parameters, v8ArrayReleaseMethodID);
   env->CallVoidMethod(jreceiver, v8ObjectReleaseMethodID);
   env->DeleteLocalRef(jreceiver);
@@ -1252,31 +2255,9 @@ double getDouble(JNIEnv* env, jobject &object) {
   return env->CallDoubleMethod(object, doubleDoubleValueMethodID);
 }
 
-void objectCallback(const FunctionCallbackInfo<Value>& args) {
-  int size = args.Length();
-  Local<External> data = Local<External>::Cast(args.Data());
-  void *methodDescriptorPtr = data->Value();
-  MethodDescriptor* md = static_cast<MethodDescriptor*>(methodDescriptorPtr);
-  jobject v8 = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->v8;
-  Isolate* isolate = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->isolate;
-  JNIEnv * env;
-  getJNIEnv(env);
-  jobject parameters = createParameterArray(env, md->v8RuntimePtr, v8, size, args);
-  Handle<Value> receiver = args.This();
-  jobject jreceiver = getResult(env, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
-  jobject resultObject = env->CallObjectMethod(v8, v8CallObjectJavaMethodMethodID, md->methodID, jreceiver, parameters);
-  if (env->ExceptionCheck()) {
-    Isolate* isolate = getIsolate(env, md->v8RuntimePtr);
-    reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException = env->ExceptionOccurred();
-    env->ExceptionClear();
-    jstring exceptionMessage = (jstring)env->CallObjectMethod(reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException, throwableGetMessageMethodID);
-    if (exceptionMessage != NULL) {
-      Local<String> v8String = createV8String(env, isolate, exceptionMessage);
-      isolate->ThrowException(v8String);
-    }
-    else {
-      isolate->ThrowException(String::NewFromUtf8(isolate, "Unhandled Java Exception"));
-    }
+void setCallbackResult(JNIEnv* env, MethodDescriptor* md, Isolate* isolate, const FunctionCallbackInfo<Value>& args, jobject &resultObject) {
+  if (throwPendingJavaException(env, md)) {
+    return;
   }
   else if (resultObject == NULL) {
     args.GetReturnValue().SetNull();
@@ -1323,15 +2304,129 @@ void objectCallback(const FunctionCallbackInfo<Value>& args) {
       args.GetReturnValue().SetUndefined();
     }
   }
+}
+
+void objectCallback(const FunctionCallbackInfo<Value>& args) {
+  int size = args.Length();
+  Local<External> data = Local<External>::Cast(args.Data());
+  void *methodDescriptorPtr = data->Value();
+  MethodDescriptor* md = static_cast<MethodDescriptor*>(methodDescriptorPtr);
+  jobject v8 = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->v8;
+  Isolate* isolate = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->isolate;
+  JNIEnv * env;
+  getJNIEnv(env);
+  jobject parameters = createParameterArray(env, md->v8RuntimePtr, v8, size, args);
+  Handle<Value> receiver = args.This();
+  jobject jreceiver = getResult(env, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
+  jobject resultObject = env->CallObjectMethod(v8, v8CallObjectJavaMethodMethodID, md->methodID, jreceiver, parameters);
+  setCallbackResult(env, md, isolate, args, resultObject);
+  if (resultObject != NULL) {
+    env->DeleteLocalRef(resultObject);
+  }
+  env->CallVoidMethod(parameters, v8ArrayReleaseMethodID);
+  env->CallVoidMethod(jreceiver, v8ObjectReleaseMethodID);
+  env->DeleteLocalRef(jreceiver);
+  env->DeleteLocalRef(parameters);
+}
+
+void argumentsCallback(const FunctionCallbackInfo<Value>& args) {
+  Local<External> data = Local<External>::Cast(args.Data());
+  void *methodDescriptorPtr = data->Value();
+  MethodDescriptor* md = static_cast<MethodDescriptor*>(methodDescriptorPtr);
+  jobject v8 = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->v8;
+  Isolate* isolate = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->isolate;
+  JNIEnv * env;
+  getJNIEnv(env);
+  // The arguments are passed by reference and are only valid during this call
+  jlong argumentsPtr = reinterpret_cast<jlong>(&args);
+  jobject resultObject = env->CallObjectMethod(v8, v8CallArgumentsJavaMethodMethodID, md->methodID, argumentsPtr, args.Length());
+  setCallbackResult(env, md, isolate, args, resultObject);
   if (resultObject != NULL) {
     env->DeleteLocalRef(resultObject);
   }
+}
+
+MethodDescriptor* getMethodDescriptor(const FunctionCallbackInfo<Value>& args) {
+  Local<External> data = Local<External>::Cast(args.Data());
+  return static_cast<MethodDescriptor*>(data->Value());
+}
+
+void releaseCallbackParameters(JNIEnv* env, jobject &jreceiver, jobject &parameters) {
   env->CallVoidMethod(parameters, v8ArrayReleaseMethodID);
   env->CallVoidMethod(jreceiver, v8ObjectReleaseMethodID);
   env->DeleteLocalRef(jreceiver);
   env->DeleteLocalRef(parameters);
 }
 
+void intCallback(const FunctionCallbackInfo<Value>& args) {
+  MethodDescriptor* md = getMethodDescriptor(args);
+  jobject v8 = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->v8;
+  JNIEnv * env;
+  getJNIEnv(env);
+  jobject parameters = createParameterArray(env, md->v8RuntimePtr, v8, args.Length(), args);
+  Handle<Value> receiver = args.This();
+  jobject jreceiver = getResult(env, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
+  jint result = env->CallIntMethod(v8, v8CallIntJavaMethodMethodID, md->methodID, jreceiver, parameters);
+  if (!throwPendingJavaException(env, md)) {
+    args.GetReturnValue().Set(result);
+  }
+  releaseCallbackParameters(env, jreceiver, parameters);
+}
+
+void doubleCallback(const FunctionCallbackInfo<Value>& args) {
+  MethodDescriptor* md = getMethodDescriptor(args);
+  jobject v8 = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->v8;
+  JNIEnv * env;
+  getJNIEnv(env);
+  jobject parameters = createParameterArray(env, md->v8RuntimePtr, v8, args.Length(), args);
+  Handle<Value> receiver = args.This();
+  jobject jreceiver = getResult(env, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
+  jdouble result = env->CallDoubleMethod(v8, v8CallDoubleJavaMethodMethodID, md->methodID, jreceiver, parameters);
+  if (!throwPendingJavaException(env, md)) {
+    args.GetReturnValue().Set(result);
+  }
+  releaseCallbackParameters(env, jreceiver, parameters);
+}
+
+void booleanCallback(const FunctionCallbackInfo<Value>& args) {
+  MethodDescriptor* md = getMethodDescriptor(args);
+  jobject v8 = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->v8;
+  JNIEnv * env;
+  getJNIEnv(env);
+  jobject parameters = createParameterArray(env, md->v8RuntimePtr, v8, args.Length(), args);
+  Handle<Value> receiver = args.This();
+  jobject jreceiver = getResult(env, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
+  jboolean result = env->CallBooleanMethod(v8, v8CallBooleanJavaMethodMethodID, md->methodID, jreceiver, parameters);
+  if (!throwPendingJavaException(env, md)) {
+    args.GetReturnValue().Set(result == JNI_TRUE);
+  }
+  releaseCallbackParameters(env, jreceiver, parameters);
+}
+
+void stringCallback(const FunctionCallbackInfo<Value>& args) {
+  MethodDescriptor* md = getMethodDescriptor(args);
+  jobject v8 = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->v8;
+  Isolate* isolate = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->isolate;
+  JNIEnv * env;
+  getJNIEnv(env);
+  jobject parameters = createParameterArray(env, md->v8RuntimePtr, v8, args.Length(), args);
+  Handle<Value> receiver = args.This();
+  jobject jreceiver = getResult(env, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
+  jstring result = (jstring) env->CallObjectMethod(v8, v8CallStringJavaMethodMethodID, md->methodID, jreceiver, parameters);
+  if (!throwPendingJavaException(env, md)) {
+    if (result == NULL) {
+      args.GetReturnValue().SetNull();
+    }
+    else {
+      args.GetReturnValue().Set(createV8String(env, isolate, result));
+    }
+  }
+  if (result != NULL) {
+    env->DeleteLocalRef(result);
+  }
+  releaseCallbackParameters(env, jreceiver, parameters);
+}
+
 JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Function
 (JNIEnv *env, jobject, jlong v8RuntimePtr) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
@@ -1363,13 +2458,8 @@ JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Function
   return result;
 }
 
-JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
-(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring functionName, jboolean voidMethod) {
+jlong registerCallback(JNIEnv *env, jlong v8RuntimePtr, jlong objectHandle, jstring functionName, FunctionCallback callback) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
-  FunctionCallback callback = voidCallback;
-  if (!voidMethod) {
-    callback = objectCallback;
-  }
   Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
   Local<String> v8FunctionName = createV8String(env, isolate, functionName);
   isolate->IdleNotification(1000);
@@ -1391,12 +2481,120 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
   return md->methodID;
 }
 
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring functionName, jboolean voidMethod) {
+  FunctionCallback callback = voidCallback;
+  if (!voidMethod) {
+    callback = objectCallback;
+  }
+  return registerCallback(env, v8RuntimePtr, objectHandle, functionName, callback);
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerArgumentsJavaMethod
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring functionName) {
+  return registerCallback(env, v8RuntimePtr, objectHandle, functionName, argumentsCallback);
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerTypedJavaMethod
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring functionName, jint returnType) {
+  FunctionCallback callback = NULL;
+  switch (returnType) {
+    case com_eclipsesource_v8_V8_INTEGER:
+      callback = intCallback;
+      break;
+    case com_eclipsesource_v8_V8_DOUBLE:
+      callback = doubleCallback;
+      break;
+    case com_eclipsesource_v8_V8_BOOLEAN:
+      callback = booleanCallback;
+      break;
+    case com_eclipsesource_v8_V8_STRING:
+      callback = stringCallback;
+      break;
+    default:
+      throwV8RuntimeException(env, "Unsupported callback return type.");
+      return 0;
+  }
+  return registerCallback(env, v8RuntimePtr, objectHandle, functionName, callback);
+}
+
+Local<Value> getArgument(jlong argumentsPtr, jint index) {
+  return (*reinterpret_cast<const FunctionCallbackInfo<Value>*>(argumentsPtr))[index];
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getArgumentType
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong argumentsPtr, jint index) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getArgument(argumentsPtr, index);
+  int type = getType(v8Value);
+  if (type < 0) {
+    throwResultUndefinedException(env, "");
+  }
+  return type;
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getArgumentInteger
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong argumentsPtr, jint index) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getArgument(argumentsPtr, index);
+  ASSERT_IS_NUMBER(v8Value);
+  return v8Value->Int32Value();
+}
+
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1getArgumentDouble
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong argumentsPtr, jint index) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getArgument(argumentsPtr, index);
+  ASSERT_IS_NUMBER(v8Value);
+  return v8Value->NumberValue();
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1getArgumentBoolean
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong argumentsPtr, jint index) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  Handle<Value> v8Value = getArgument(argumentsPtr, index);
+  ASSERT_IS_BOOLEAN(v8Value);
+  return v8Value->BooleanValue();
+}
+
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1getArgumentString
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong argumentsPtr, jint index) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getArgument(argumentsPtr, index);
+  ASSERT_IS_STRING(v8Value);
+  String::Utf8Value utf(v8Value->ToString());
+  return env->NewStringUTF(*utf);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getArgument
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong argumentsPtr, jint index) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> v8Value = getArgument(argumentsPtr, index);
+  return getResult(env, v8, v8RuntimePtr, v8Value, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getArgumentsReceiver
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong argumentsPtr) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL);
+  Handle<Value> receiver = reinterpret_cast<const FunctionCallbackInfo<Value>*>(argumentsPtr)->This();
+  return getResult(env, v8, v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseMethodDescriptor
   (JNIEnv *, jobject, jlong, jlong methodDescriptorPtr) {
   MethodDescriptor* md = reinterpret_cast<MethodDescriptor*>(methodDescriptorPtr);
   delete(md);
 }
 
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseMethodDescriptors
+  (JNIEnv *env, jobject, jlong, jlongArray methodDescriptors, jint length) {
+  jlong* descriptors = env->GetLongArrayElements(methodDescriptors, NULL);
+  for (int i = 0; i < length; i++) {
+    delete(reinterpret_cast<MethodDescriptor*>(descriptors[i]));
+  }
+  env->ReleaseLongArrayElements(methodDescriptors, descriptors, JNI_ABORT);
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setPrototype
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong prototypeHandle) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, );
@@ -1538,7 +2736,21 @@ void throwParseException(JNIEnv *env, Isolate* isolate, TryCatch* tryCatch) {
   }
 }
 
+void throwMemoryLimitException(JNIEnv *env, jlong v8RuntimePtr) {
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
+  runtime->memoryLimitReached = false;
+  jstring jmessage = env->NewStringUTF("Script terminated, the heap exceeded the memory limit.");
+  jthrowable result = (jthrowable)env->NewObject(v8MemoryLimitExceptionCls, v8MemoryLimitExceptionInitMethodID, jmessage, runtime->memoryLimitException);
+  env->DeleteLocalRef(jmessage);
+  clearMemoryLimitException(env, runtime);
+  (env)->Throw(result);
+}
+
 void throwExecutionException(JNIEnv *env, Isolate* isolate, TryCatch* tryCatch, jlong v8RuntimePtr) {
+  if (reinterpret_cast<V8Runtime*>(v8RuntimePtr)->memoryLimitReached && !tryCatch->CanContinue()) {
+    throwMemoryLimitException(env, v8RuntimePtr);
+    return;
+  }
   String::Utf8Value exception(tryCatch->Exception());
   const char* exceptionString = ToCString(exception);
   Handle<Message> message = tryCatch->Message();
@@ -1605,7 +2817,13 @@ jobject getResult(JNIEnv *env, jobject &v8, jlong v8RuntimePtr, Handle<Value> &r
     return objectResult;
   }
   else if (result->IsTypedArray()) {
-    jobject objectResult = env->NewObject(v8ArrayCls, v8ArrayInitMethodID, v8);
+    jobject objectResult = env->NewObject(v8TypedArrayCls, v8TypedArrayInitMethodID, v8);
+    jlong resultHandle = getHandle(env, objectResult);
+    reinterpret_cast<Persistent<Object>*>(resultHandle)->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, result->ToObject());
+    return objectResult;
+  }
+  else if (result->IsArrayBuffer()) {
+    jobject objectResult = env->NewObject(v8ArrayBufferCls, v8ArrayBufferInitMethodID, v8);
     jlong resultHandle = getHandle(env, objectResult);
     reinterpret_cast<Persistent<Object>*>(resultHandle)->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, result->ToObject());
     return objectResult;
@@ -29,6 +29,24 @@ extern "C" {
 #define com_eclipsesource_v8_V8_V8_TYPED_ARRAY 8L
 #undef com_eclipsesource_v8_V8_UNDEFINED
 #define com_eclipsesource_v8_V8_UNDEFINED 99L
+#undef com_eclipsesource_v8_V8_INT_8_ARRAY
+#define com_eclipsesource_v8_V8_INT_8_ARRAY 9L
+#undef com_eclipsesource_v8_V8_UNSIGNED_INT_8_ARRAY
+#define com_eclipsesource_v8_V8_UNSIGNED_INT_8_ARRAY 10L
+#undef com_eclipsesource_v8_V8_UNSIGNED_INT_8_CLAMPED_ARRAY
+#define com_eclipsesource_v8_V8_UNSIGNED_INT_8_CLAMPED_ARRAY 11L
+#undef com_eclipsesource_v8_V8_INT_16_ARRAY
+#define com_eclipsesource_v8_V8_INT_16_ARRAY 12L
+#undef com_eclipsesource_v8_V8_UNSIGNED_INT_16_ARRAY
+#define com_eclipsesource_v8_V8_UNSIGNED_INT_16_ARRAY 13L
+#undef com_eclipsesource_v8_V8_INT_32_ARRAY
+#define com_eclipsesource_v8_V8_INT_32_ARRAY 1L
+#undef com_eclipsesource_v8_V8_UNSIGNED_INT_32_ARRAY
+#define com_eclipsesource_v8_V8_UNSIGNED_INT_32_ARRAY 14L
+#undef com_eclipsesource_v8_V8_FLOAT_32_ARRAY
+#define com_eclipsesource_v8_V8_FLOAT_32_ARRAY 15L
+#undef com_eclipsesource_v8_V8_FLOAT_64_ARRAY
+#define com_eclipsesource_v8_V8_FLOAT_64_ARRAY 2L
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _initNewV8Object
@@ -56,10 +74,34 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseRuntime
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _createIsolate
- * Signature: (Ljava/lang/String;)J
+ * Signature: (Ljava/lang/String;[BI)J
  */
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createIsolate
-  (JNIEnv *, jobject, jstring);
+  (JNIEnv *, jobject, jstring, jbyteArray, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getHeapStatistics
+ * Signature: (J)[J
+ */
+JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1getHeapStatistics
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _lowMemoryNotification
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1lowMemoryNotification
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setMemoryLimit
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setMemoryLimit
+  (JNIEnv *, jobject, jlong, jlong);
 
 /*
  * Class:     com_eclipsesource_v8_V8
@@ -109,6 +151,86 @@ JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeScript
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidScript
   (JNIEnv *, jobject, jlong, jstring, jstring, jint);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _compileScript
+ * Signature: (JLjava/lang/String;Ljava/lang/String;I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1compileScript
+  (JNIEnv *, jobject, jlong, jstring, jstring, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _compileScriptWithCodeCache
+ * Signature: (JLjava/lang/String;Ljava/lang/String;I[B)[J
+ */
+JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1compileScriptWithCodeCache
+  (JNIEnv *, jobject, jlong, jstring, jstring, jint, jbyteArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _createCodeCache
+ * Signature: (JLjava/lang/String;Ljava/lang/String;I)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1createCodeCache
+  (JNIEnv *, jobject, jlong, jstring, jstring, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _runIntegerScript
+ * Signature: (JJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1runIntegerScript
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _runDoubleScript
+ * Signature: (JJ)D
+ */
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1runDoubleScript
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _runStringScript
+ * Signature: (JJ)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1runStringScript
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _runBooleanScript
+ * Signature: (JJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1runBooleanScript
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _runScript
+ * Signature: (JIJ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1runScript
+  (JNIEnv *, jobject, jlong, jint, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _runVoidScript
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1runVoidScript
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _releaseScript
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseScript
+  (JNIEnv *, jobject, jlong, jlong);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _release
@@ -117,6 +239,14 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidScript
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1release
   (JNIEnv *, jobject, jlong, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _releaseAll
+ * Signature: (J[JI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseAll
+  (JNIEnv *, jobject, jlong, jlongArray, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _releaseMethodDescriptor
@@ -125,6 +255,14 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1release
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseMethodDescriptor
   (JNIEnv *, jobject, jlong, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _releaseMethodDescriptors
+ * Signature: (J[JI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseMethodDescriptors
+  (JNIEnv *, jobject, jlong, jlongArray, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _contains
@@ -181,6 +319,198 @@ JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1getString
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1get
   (JNIEnv *, jobject, jlong, jint, jlong, jstring);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _initNewV8Key
+ * Signature: (JLjava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Key
+  (JNIEnv *, jobject, jlong, jstring);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _releaseKey
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseKey
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _containsWithKey
+ * Signature: (JJJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1containsWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getTypeWithKey
+ * Signature: (JJJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getTypeWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getIntegerWithKey
+ * Signature: (JJJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getIntegerWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getBooleanWithKey
+ * Signature: (JJJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1getBooleanWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getDoubleWithKey
+ * Signature: (JJJ)D
+ */
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1getDoubleWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getStringWithKey
+ * Signature: (JJJ)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1getStringWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getWithKey
+ * Signature: (JIJJ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getWithKey
+  (JNIEnv *, jobject, jlong, jint, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeIntegerFunctionWithKey
+ * Signature: (JJJJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1executeIntegerFunctionWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeDoubleFunctionWithKey
+ * Signature: (JJJJ)D
+ */
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1executeDoubleFunctionWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeStringFunctionWithKey
+ * Signature: (JJJJ)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1executeStringFunctionWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeBooleanFunctionWithKey
+ * Signature: (JJJJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1executeBooleanFunctionWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeFunctionWithKey
+ * Signature: (JIJJJ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunctionWithKey
+  (JNIEnv *, jobject, jlong, jint, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeVoidFunctionWithKey
+ * Signature: (JJJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidFunctionWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addIntegerWithKey
+ * Signature: (JJJI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addIntegerWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addBooleanWithKey
+ * Signature: (JJJZ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addBooleanWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jboolean);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addDoubleWithKey
+ * Signature: (JJJD)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addDoubleWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jdouble);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addStringWithKey
+ * Signature: (JJJLjava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addStringWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jstring);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addObjectWithKey
+ * Signature: (JJJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addObjectWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addUndefinedWithKey
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addUndefinedWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addNullWithKey
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addNullWithKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getValues
+ * Signature: (JJ[Ljava/lang/String;[I[Ljava/lang/Object;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getValues
+  (JNIEnv *, jobject, jlong, jlong, jobjectArray, jintArray, jobjectArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addAll
+ * Signature: (JJ[Ljava/lang/String;[I[D[J[Ljava/lang/Object;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addAll
+  (JNIEnv *, jobject, jlong, jlong, jobjectArray, jintArray, jdoubleArray, jlongArray, jobjectArray);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _executeIntegerFunction
@@ -229,6 +559,22 @@ JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunction__JIJLja
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunction__JJJJ
   (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeFunctionWithIntegers
+ * Signature: (JJJ[I)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunctionWithIntegers
+  (JNIEnv *, jobject, jlong, jlong, jlong, jintArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeFunctionWithDoubles
+ * Signature: (JJJ[D)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeFunctionWithDoubles
+  (JNIEnv *, jobject, jlong, jlong, jlong, jdoubleArray);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _executeVoidFunction
@@ -333,6 +679,78 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addUndefined
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addNull
   (JNIEnv *, jobject, jlong, jlong, jstring);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _registerArgumentsJavaMethod
+ * Signature: (JJLjava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerArgumentsJavaMethod
+  (JNIEnv *, jobject, jlong, jlong, jstring);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _registerTypedJavaMethod
+ * Signature: (JJLjava/lang/String;I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerTypedJavaMethod
+  (JNIEnv *, jobject, jlong, jlong, jstring, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArgumentType
+ * Signature: (JJI)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getArgumentType
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArgumentInteger
+ * Signature: (JJI)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getArgumentInteger
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArgumentDouble
+ * Signature: (JJI)D
+ */
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1getArgumentDouble
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArgumentBoolean
+ * Signature: (JJI)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1getArgumentBoolean
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArgumentString
+ * Signature: (JJI)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1getArgumentString
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArgument
+ * Signature: (JJI)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getArgument
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArgumentsReceiver
+ * Signature: (JJ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getArgumentsReceiver
+  (JNIEnv *, jobject, jlong, jlong);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _registerJavaMethod
@@ -349,6 +767,102 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Array
   (JNIEnv *, jobject, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _initNewV8ArrayBuffer
+ * Signature: (JLjava/nio/ByteBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8ArrayBuffer
+  (JNIEnv *, jobject, jlong, jobject, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArrayBufferByteLength
+ * Signature: (JJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getArrayBufferByteLength
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArrayBufferBackingStore
+ * Signature: (JJ)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getArrayBufferBackingStore
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getArrayBufferOwner
+ * Signature: (JJ)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getArrayBufferOwner
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getRetainedByteBufferCount
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getRetainedByteBufferCount
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _transferArrayBuffer
+ * Signature: (JJ)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1transferArrayBuffer
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _detachArrayBuffer
+ * Signature: (JJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1detachArrayBuffer
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _initNewV8TypedArray
+ * Signature: (JJIII)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8TypedArray
+  (JNIEnv *, jobject, jlong, jlong, jint, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getTypedArrayType
+ * Signature: (JJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getTypedArrayType
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getTypedArrayBuffer
+ * Signature: (JJ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getTypedArrayBuffer
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getTypedArrayByteOffset
+ * Signature: (JJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getTypedArrayByteOffset
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getTypedArrayByteBuffer
+ * Signature: (JJ)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getTypedArrayByteBuffer
+  (JNIEnv *, jobject, jlong, jlong);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _initNewV8Function
@@ -413,6 +927,38 @@ JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1arrayGet
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addArrayIntItem
   (JNIEnv *, jobject, jlong, jlong, jint);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _arraySetIntegers
+ * Signature: (JJI[III)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1arraySetIntegers
+  (JNIEnv *, jobject, jlong, jlong, jint, jintArray, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _arraySetDoubles
+ * Signature: (JJI[DII)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1arraySetDoubles
+  (JNIEnv *, jobject, jlong, jlong, jint, jdoubleArray, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _arraySetBooleans
+ * Signature: (JJI[ZII)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1arraySetBooleans
+  (JNIEnv *, jobject, jlong, jlong, jint, jbooleanArray, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _arraySetStrings
+ * Signature: (JJI[Ljava/lang/String;II)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1arraySetStrings
+  (JNIEnv *, jobject, jlong, jlong, jint, jobjectArray, jint, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _addArrayBooleanItem
@@ -581,6 +1127,14 @@ JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1getVersion
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setFlags
   (JNIEnv *, jclass, jstring);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _createSnapshot
+ * Signature: (Ljava/lang/String;)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1createSnapshot
+  (JNIEnv *, jclass, jstring);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _terminateExecution
@@ -589,6 +1143,22 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setFlags
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1terminateExecution
   (JNIEnv *, jobject, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _cancelTerminateExecution
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1cancelTerminateExecution
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _isExecutionTerminating
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1isExecutionTerminating
+  (JNIEnv *, jobject, jlong);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _getGlobalObject
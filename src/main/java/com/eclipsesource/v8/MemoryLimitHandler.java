@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Classes that implement this interface decide what happens when
+ * the heap of a runtime grows past the memory limit set with
+ * V8#setMemoryLimitHandler.
+ *
+ * The handler is called on the runtime's thread right after a
+ * garbage collection, while V8 cannot allocate. It must not use the
+ * runtime, or any of its values, other than to read its statistics.
+ */
+public interface MemoryLimitHandler {
+
+    /**
+     * Called when the used heap of a runtime exceeds the memory limit
+     * after a garbage collection.
+     *
+     * @param runtime The runtime whose heap exceeded the limit.
+     * @param usedHeapSize The used heap size in bytes.
+     * @param memoryLimit The current memory limit in bytes.
+     *
+     * @return A new memory limit larger than usedHeapSize to let the script
+     * continue, or any smaller value to terminate the script. A terminated
+     * script fails with a V8MemoryLimitException.
+     */
+    public long memoryLimitReached(V8 runtime, long usedHeapSize, long memoryLimit);
+
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Callbacks to track the native handles created and disposed by a runtime.
+ * ReferenceHandlers are registered using V8#addReferenceHandler and are
+ * called on the runtime's thread.
+ */
+public interface ReferenceHandler {
+
+    /**
+     * Called when a native handle is created for a V8Value.
+     *
+     * @param object The V8Value that was created.
+     */
+    public void v8HandleCreated(V8Value object);
+
+    /**
+     * Called when the native handle of a V8Value is disposed.
+     *
+     * @param object The V8Value that was released.
+     */
+    public void v8HandleDisposed(V8Value object);
+
+}
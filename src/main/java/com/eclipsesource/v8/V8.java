@@ -10,13 +10,18 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import com.eclipsesource.v8.utils.V8Executor;
 import com.eclipsesource.v8.utils.V8Map;
@@ -48,6 +53,14 @@ public class V8 extends V8Object {
     private V8Map<V8Executor>           executors               = null;
     private boolean                     forceTerminateExecutors = false;
     private Map<Long, MethodDescriptor> functionRegistry        = new HashMap<Long, MethodDescriptor>();
+    private final V8Arguments           arguments               = new V8Arguments(this);
+    private List<ReferenceHandler>      referenceHandlers       = new ArrayList<ReferenceHandler>();
+    private boolean                     autoRelease             = false;
+    private ReferenceQueue<Releasable>  referenceQueue          = null;
+    private Set<ValueReference>         valueReferences         = null;
+    private long                        autoReleasedCount       = 0;
+    private long                        explicitlyReleasedCount = 0;
+    private MemoryLimitHandler          memoryLimitHandler      = null;
 
     private static boolean   nativeLibraryLoaded = false;
     private static Error     nativeLoadError     = null;
@@ -56,11 +69,35 @@ public class V8 extends V8Object {
     private static Object    invalid             = new Object();
 
     private class MethodDescriptor {
-        Object           object;
-        Method           method;
-        JavaCallback     callback;
-        JavaVoidCallback voidCallback;
-        boolean          includeReceiver;
+        Object              object;
+        Method              method;
+        JavaCallback        callback;
+        JavaVoidCallback    voidCallback;
+        V8ArgumentsCallback argumentsCallback;
+        JavaIntCallback     intCallback;
+        JavaDoubleCallback  doubleCallback;
+        JavaBooleanCallback booleanCallback;
+        JavaStringCallback  stringCallback;
+        boolean             includeReceiver;
+        // Resolved once when a Java method is registered
+        Object[]            defaultValues;
+        boolean             hasVarArgs;
+        int                 varArgIndex;
+        Class<?>            varArgType;
+        // Reused between calls, null while a call is in progress
+        Object[]            args;
+    }
+
+    // Tracks the native handle of a V8Value or V8Script in auto release mode
+    static class ValueReference extends PhantomReference<Releasable> {
+        final long    handle;
+        final boolean script;
+
+        ValueReference(final Releasable referent, final long handle, final boolean script, final ReferenceQueue<Releasable> queue) {
+            super(referent, queue);
+            this.handle = handle;
+            this.script = script;
+        }
     }
 
     private synchronized static void load(final String tmpDirectory) {
@@ -136,6 +173,71 @@ public class V8 extends V8Object {
      * @return A new isolated V8 Runtime.
      */
     public static V8 createV8Runtime(final String globalAlias, final String tempDirectory) {
+        return createV8Runtime(globalAlias, tempDirectory, null);
+    }
+
+    /**
+     * Creates a new V8Runtime from a startup snapshot and loads the required
+     * native libraries if they are not already loaded. The runtime starts with
+     * the state that was captured in the snapshot, so any libraries loaded when
+     * the snapshot was created are available without executing them again.
+     * Snapshots are created using a V8SnapshotBuilder.
+     *
+     * The current thread is given the lock to this runtime.
+     *
+     * @param globalAlias The name to associate with the global scope.
+     * @param tempDirectory The name of the directory to extract the native
+     * libraries too.
+     * @param snapshotBlob The startup snapshot to create the runtime from, or
+     * null to create an empty runtime.
+     *
+     * @return A new isolated V8 Runtime.
+     */
+    public static V8 createV8Runtime(final String globalAlias, final String tempDirectory, final byte[] snapshotBlob) {
+        return createV8Runtime(globalAlias, tempDirectory, snapshotBlob, 0);
+    }
+
+    /**
+     * Creates a new V8Runtime with a limit on the size of its heap, and loads
+     * the required native libraries if they are not already loaded. When the
+     * limit is reached, V8 collects garbage more aggressively and terminates
+     * the process if it still cannot allocate. Runtimes that grow can be
+     * monitored using getHeapStatistics and replaced before the limit is reached.
+     *
+     * The current thread is given the lock to this runtime.
+     *
+     * @param globalAlias The name to associate with the global scope.
+     * @param tempDirectory The name of the directory to extract the native
+     * libraries too.
+     * @param snapshotBlob The startup snapshot to create the runtime from, or
+     * null to create an empty runtime.
+     * @param maxHeapSize The maximum size of the old generation of the heap
+     * in megabytes, or 0 to use the V8 default.
+     *
+     * @return A new isolated V8 Runtime.
+     */
+    public static V8 createV8Runtime(final String globalAlias, final String tempDirectory, final byte[] snapshotBlob, final int maxHeapSize) {
+        if (maxHeapSize < 0) {
+            throw new IllegalArgumentException("Heap size must not be negative.");
+        }
+        initializeNatives(tempDirectory);
+        V8 runtime = new V8(globalAlias, snapshotBlob, maxHeapSize);
+        synchronized (lock) {
+            runtimeCounter++;
+        }
+        return runtime;
+    }
+
+    static byte[] createSnapshot(final String source, final String tempDirectory) {
+        initializeNatives(tempDirectory);
+        byte[] result = _createSnapshot(source);
+        if (result == null) {
+            throw new V8RuntimeException("Startup snapshot could not be created, the script failed.");
+        }
+        return result;
+    }
+
+    private static void initializeNatives(final String tempDirectory) {
         if (!nativeLibraryLoaded) {
             synchronized (lock) {
                 if (!nativeLibraryLoaded) {
@@ -148,11 +250,6 @@ public class V8 extends V8Object {
             _setFlags(v8Flags);
             initialized = true;
         }
-        V8 runtime = new V8(globalAlias);
-        synchronized (lock) {
-            runtimeCounter++;
-        }
-        return runtime;
     }
 
     private static void checkNativeLibraryLoaded() {
@@ -172,11 +269,19 @@ public class V8 extends V8Object {
     }
 
     protected V8(final String globalAlias) {
+        this(globalAlias, null);
+    }
+
+    protected V8(final String globalAlias, final byte[] snapshotBlob) {
+        this(globalAlias, snapshotBlob, 0);
+    }
+
+    protected V8(final String globalAlias, final byte[] snapshotBlob, final int maxHeapSize) {
         super(null);
         released = false;
         locker = new V8Locker();
         checkThread();
-        v8RuntimePtr = _createIsolate(globalAlias);
+        v8RuntimePtr = _createIsolate(globalAlias, snapshotBlob, maxHeapSize);
         objectHandle = _getGlobalObject(v8RuntimePtr);
     }
 
@@ -231,6 +336,93 @@ public class V8 extends V8Object {
         terminateExecution(v8RuntimePtr);
     }
 
+    /**
+     * Cancels a termination requested with terminateExecution that has not
+     * taken effect yet, for example because it was requested after the
+     * script had already completed. Without cancelling, the next script
+     * executed on this runtime would be terminated as soon as it starts.
+     * Executors are no longer force terminated when the runtime is released.
+     * If the termination was caused by the memory limit, the memory limit
+     * is re-armed so that it terminates the next script that exceeds it.
+     *
+     * A terminated script always unwinds completely, so once the terminated
+     * call has returned the runtime can be used again.
+     */
+    public void cancelTerminateExecution() {
+        forceTerminateExecutors = false;
+        cancelTerminateExecution(v8RuntimePtr);
+    }
+
+    /**
+     * Determines if JavaScript executing on this runtime is currently being
+     * terminated, which is the case while the termination unwinds the
+     * JavaScript frames on the stack. This method must be called on the
+     * thread that holds the lock of the runtime, typically from a Java
+     * callback, since the state of the runtime cannot be read safely while
+     * another thread may release it.
+     *
+     * @return True if the execution is terminating, false otherwise or if
+     * the runtime has been released.
+     */
+    public boolean isExecutionTerminating() {
+        if (isReleased()) {
+            return false;
+        }
+        checkThread();
+        return isExecutionTerminating(v8RuntimePtr);
+    }
+
+    /**
+     * Returns statistics about the JavaScript heap of this runtime.
+     *
+     * @return A snapshot of the current heap statistics.
+     */
+    public V8HeapStatistics getHeapStatistics() {
+        checkThread();
+        return new V8HeapStatistics(getHeapStatistics(v8RuntimePtr));
+    }
+
+    /**
+     * Notifies V8 that the system is running low on memory. V8 performs
+     * a full garbage collection and releases as much memory as it can.
+     * This call blocks until the collection is done.
+     */
+    public void lowMemoryNotification() {
+        checkThread();
+        lowMemoryNotification(v8RuntimePtr);
+    }
+
+    /**
+     * Sets a memory limit for this runtime, below the maximum heap size
+     * V8 can grow to. When the used heap still exceeds the limit after a
+     * garbage collection, the handler is called to decide whether the
+     * script may continue with a larger limit, or is terminated. A terminated
+     * script fails with a V8MemoryLimitException instead of exhausting the
+     * heap, which would abort the whole process.
+     *
+     * If the handler throws an exception, the script is terminated and the
+     * exception is the cause of the V8MemoryLimitException.
+     *
+     * @param handler The handler to call, or null to always terminate
+     * scripts that exceed the limit.
+     * @param memoryLimit The memory limit in bytes, or 0 to remove the limit.
+     */
+    public void setMemoryLimitHandler(final MemoryLimitHandler handler, final long memoryLimit) {
+        checkThread();
+        if (memoryLimit < 0) {
+            throw new IllegalArgumentException("Memory limit must not be negative.");
+        }
+        memoryLimitHandler = handler;
+        setMemoryLimit(v8RuntimePtr, memoryLimit);
+    }
+
+    protected long handleMemoryLimit(final long usedHeapSize, final long memoryLimit) {
+        if (memoryLimitHandler == null) {
+            return 0;
+        }
+        return memoryLimitHandler.memoryLimitReached(this, usedHeapSize, memoryLimit);
+    }
+
     /**
      * Release native resources associated with this runtime. Once
      * released, a runtime cannot be reused.
@@ -250,6 +442,7 @@ public class V8 extends V8Object {
             executors.clear();
         }
         releaseNativeMethodDescriptors();
+        releaseTrackedValues();
         synchronized (lock) {
             runtimeCounter--;
         }
@@ -263,16 +456,29 @@ public class V8 extends V8Object {
 
     private void releaseNativeMethodDescriptors() {
         Set<Long> nativeMethodDescriptors = functionRegistry.keySet();
+        long[] methodDescriptors = new long[nativeMethodDescriptors.size()];
+        int length = 0;
         for (Long nativeMethodDescriptor : nativeMethodDescriptors) {
-            releaseMethodDescriptor(v8RuntimePtr, nativeMethodDescriptor);
+            methodDescriptors[length++] = nativeMethodDescriptor;
+        }
+        if (length > 0) {
+            releaseMethodDescriptors(v8RuntimePtr, methodDescriptors, length);
         }
     }
 
     private void releaseResources() {
         if (resources != null) {
+            // Other resources are released first, since they may still use
+            // the registered values. The values are then released in one batch.
+            List<V8Value> values = new ArrayList<V8Value>();
             for (Releasable releasable : resources) {
-                releasable.release();
+                if ((releasable instanceof V8Value) && (((V8Value) releasable).getRuntime() == this)) {
+                    values.add((V8Value) releasable);
+                } else {
+                    releasable.release();
+                }
             }
+            releaseValues(values.toArray(new V8Value[values.size()]));
             resources.clear();
             resources = null;
         }
@@ -294,6 +500,238 @@ public class V8 extends V8Object {
         executors.put(key, executor);
     }
 
+    /**
+     * Enables or disables auto release mode. In auto release mode, V8Values
+     * and V8Scripts created on this runtime are tracked, and the native handles of values
+     * that are no longer reachable from Java are released by the runtime
+     * the next time a script is executed, or when releaseUnreachableValues
+     * is called. Tracked values that are still reachable when the runtime
+     * is released are released with it, and are not reported as leaks.
+     *
+     * Values may still be released explicitly. Disabling auto release only
+     * affects values that are created afterwards.
+     *
+     * @param autoRelease True to track new values, false otherwise.
+     */
+    public void setAutoRelease(final boolean autoRelease) {
+        checkThread();
+        if (autoRelease && (referenceQueue == null)) {
+            referenceQueue = new ReferenceQueue<Releasable>();
+            valueReferences = new HashSet<ValueReference>();
+        }
+        this.autoRelease = autoRelease;
+    }
+
+    /**
+     * Determines if auto release mode is enabled for this runtime.
+     *
+     * @return True if new V8Values are tracked and released once they
+     * are unreachable, false otherwise.
+     */
+    public boolean isAutoRelease() {
+        return autoRelease;
+    }
+
+    /**
+     * Releases the native handles of all tracked V8Values that have been
+     * garbage collected by Java. This happens automatically before
+     * scripts are executed.
+     *
+     * @return The number of native handles that were released.
+     */
+    public int releaseUnreachableValues() {
+        checkThread();
+        return processReferenceQueue();
+    }
+
+    /**
+     * Returns the number of tracked V8Values whose native handles were
+     * released by the runtime, because they became unreachable or the
+     * runtime was released.
+     *
+     * @return The number of automatically released values.
+     */
+    public long getAutoReleasedCount() {
+        return autoReleasedCount;
+    }
+
+    /**
+     * Returns the number of tracked V8Values that were released explicitly,
+     * before they became unreachable.
+     *
+     * @return The number of explicitly released values.
+     */
+    public long getExplicitlyReleasedCount() {
+        return explicitlyReleasedCount;
+    }
+
+    void trackValue(final V8Value value) {
+        if (autoRelease) {
+            value.valueReference = trackReference(value, value.objectHandle, false);
+        }
+    }
+
+    void trackScript(final V8Script script) {
+        if (autoRelease) {
+            script.valueReference = trackReference(script, script.getHandle(), true);
+        }
+    }
+
+    private ValueReference trackReference(final Releasable referent, final long handle, final boolean script) {
+        ValueReference reference = new ValueReference(referent, handle, script, referenceQueue);
+        valueReferences.add(reference);
+        return reference;
+    }
+
+    private void untrackReference(final ValueReference reference) {
+        reference.clear();
+        if (valueReferences.remove(reference)) {
+            explicitlyReleasedCount++;
+        }
+    }
+
+    int processReferenceQueue() {
+        if (referenceQueue == null) {
+            return 0;
+        }
+        List<ValueReference> unreachable = null;
+        ValueReference reference;
+        while ((reference = (ValueReference) referenceQueue.poll()) != null) {
+            if (valueReferences.remove(reference)) {
+                if (unreachable == null) {
+                    unreachable = new ArrayList<ValueReference>();
+                }
+                unreachable.add(reference);
+            }
+        }
+        if (unreachable == null) {
+            return 0;
+        }
+        releaseValueReferences(unreachable);
+        return unreachable.size();
+    }
+
+    private void releaseTrackedValues() {
+        if ((valueReferences == null) || valueReferences.isEmpty()) {
+            return;
+        }
+        List<ValueReference> tracked = new ArrayList<ValueReference>(valueReferences);
+        valueReferences.clear();
+        for (ValueReference reference : tracked) {
+            reference.clear();
+        }
+        releaseValueReferences(tracked);
+    }
+
+    private void releaseValueReferences(final List<ValueReference> references) {
+        long[] handles = new long[references.size()];
+        int length = 0;
+        for (ValueReference reference : references) {
+            if (reference.script) {
+                releaseScript(v8RuntimePtr, reference.handle);
+            } else {
+                handles[length++] = reference.handle;
+            }
+        }
+        if (length > 0) {
+            releaseAll(v8RuntimePtr, handles, length);
+        }
+        objectReferences -= references.size();
+        autoReleasedCount += references.size();
+    }
+
+    /**
+     * Adds a ReferenceHandler to track when new V8Values are created
+     * and released. ReferenceHandlers are notified on the runtime's thread.
+     *
+     * @param handler The ReferenceHandler to add.
+     */
+    public void addReferenceHandler(final ReferenceHandler handler) {
+        checkThread();
+        referenceHandlers.add(0, handler);
+    }
+
+    /**
+     * Removes an existing ReferenceHandler from the collection of reference
+     * handlers. If the ReferenceHandler does not exist in the collection,
+     * it is ignored.
+     *
+     * @param handler The reference handler to remove.
+     */
+    public void removeReferenceHandler(final ReferenceHandler handler) {
+        checkThread();
+        referenceHandlers.remove(handler);
+    }
+
+    /**
+     * Returns the number of V8Values (and other native handles such as
+     * V8Keys) that have been created on this runtime and not yet released.
+     *
+     * @return The number of unreleased object references.
+     */
+    public long getObjectReferenceCount() {
+        checkThread();
+        return objectReferences;
+    }
+
+    /**
+     * Releases a group of V8Values with a single call into the native
+     * runtime. Values that are null, undefined or already released are
+     * ignored. All values must belong to this runtime.
+     *
+     * @param values The values to release.
+     */
+    public void releaseValues(final V8Value... values) {
+        checkThread();
+        int length = 0;
+        for (V8Value value : values) {
+            if ((value == null) || value.isUndefined() || value.isReleased()) {
+                continue;
+            }
+            if (value == this) {
+                throw new IllegalArgumentException("Cannot release the runtime as a value");
+            }
+            if (value.getRuntime() != this) {
+                throw new IllegalArgumentException("Value belongs to a different runtime");
+            }
+            length++;
+        }
+        if (length == 0) {
+            return;
+        }
+        long[] handles = new long[length];
+        V8Value[] releasedValues = new V8Value[length];
+        int count = 0;
+        for (V8Value value : values) {
+            if ((value == null) || value.isUndefined() || value.isReleased()) {
+                continue;
+            }
+            value.released = true;
+            handles[count] = value.objectHandle;
+            releasedValues[count] = value;
+            count++;
+        }
+        if (count > 0) {
+            releaseAll(v8RuntimePtr, handles, count);
+        }
+        for (int i = 0; i < count; i++) {
+            releaseObjRef(releasedValues[i]);
+        }
+    }
+
+    /**
+     * Returns the number of direct ByteBuffers that back ArrayBuffers on
+     * this runtime. A ByteBuffer is referenced by the runtime until its
+     * ArrayBuffer is garbage collected by V8 or transferred.
+     *
+     * @return The number of referenced ByteBuffers.
+     */
+    public int getRetainedByteBufferCount() {
+        checkThread();
+        checkReleased();
+        return _getRetainedByteBufferCount(v8RuntimePtr);
+    }
+
     /**
      * Removes the executor from this runtime. The executor is
      * *NOT* shutdown, simply removed from the list of known
@@ -389,6 +827,7 @@ public class V8 extends V8Object {
     public int executeIntegerScript(final String script, final String scriptName, final int lineNumber) {
         checkThread();
         checkScript(script);
+        processReferenceQueue();
         return executeIntegerScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
@@ -425,6 +864,7 @@ public class V8 extends V8Object {
     public double executeDoubleScript(final String script, final String scriptName, final int lineNumber) {
         checkThread();
         checkScript(script);
+        processReferenceQueue();
         return executeDoubleScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
@@ -456,6 +896,7 @@ public class V8 extends V8Object {
     public String executeStringScript(final String script, final String scriptName, final int lineNumber) {
         checkThread();
         checkScript(script);
+        processReferenceQueue();
         return executeStringScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
@@ -487,6 +928,7 @@ public class V8 extends V8Object {
     public boolean executeBooleanScript(final String script, final String scriptName, final int lineNumber) {
         checkThread();
         checkScript(script);
+        processReferenceQueue();
         return executeBooleanScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
@@ -550,9 +992,76 @@ public class V8 extends V8Object {
     public Object executeScript(final String script, final String scriptName, final int lineNumber) {
         checkThread();
         checkScript(script);
+        processReferenceQueue();
         return executeScript(getV8RuntimePtr(), UNKNOWN, script, scriptName, lineNumber);
     }
 
+    /**
+     * Executes a JS Script on this runtime and returns the result as a Java Object.
+     * If the script does not complete within the timeout, it is terminated and
+     * a V8ScriptTimeoutException is thrown. The runtime can be used afterwards.
+     *
+     * @param script The script to execute.
+     * @param timeout The maximum time the script may run.
+     * @param unit The unit of the timeout.
+     *
+     * @return The result of the script as a Java Object.
+     */
+    public Object executeScript(final String script, final long timeout, final TimeUnit unit) {
+        return executeScript(script, null, 0, timeout, unit);
+    }
+
+    /**
+     * Executes a JS Script on this runtime and returns the result as a Java Object.
+     * If the script does not complete within the timeout, it is terminated and
+     * a V8ScriptTimeoutException is thrown. The runtime can be used afterwards.
+     *
+     * Timeouts of all runtimes are monitored by a single shared watchdog thread.
+     *
+     * @param script The script to execute.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     * @param timeout The maximum time the script may run.
+     * @param unit The unit of the timeout.
+     *
+     * @return The result of the script as a Java Object.
+     */
+    public Object executeScript(final String script, final String scriptName, final int lineNumber, final long timeout, final TimeUnit unit) {
+        checkThread();
+        checkScript(script);
+        processReferenceQueue();
+        V8Watchdog.Deadline deadline = startTimeout(timeout, unit);
+        try {
+            return executeScript(getV8RuntimePtr(), UNKNOWN, script, scriptName, lineNumber);
+        } catch (RuntimeException e) {
+            if (isTimedOut(deadline)) {
+                throw new V8ScriptTimeoutException(scriptName, unit.toMillis(timeout), e);
+            }
+            throw e;
+        } finally {
+            stopTimeout(deadline);
+        }
+    }
+
+    V8Watchdog.Deadline startTimeout(final long timeout, final TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive.");
+        }
+        return V8Watchdog.getInstance().schedule(this, unit.toNanos(timeout));
+    }
+
+    boolean isTimedOut(final V8Watchdog.Deadline deadline) {
+        return V8Watchdog.getInstance().isExpired(deadline);
+    }
+
+    void stopTimeout(final V8Watchdog.Deadline deadline) {
+        if (V8Watchdog.getInstance().cancel(deadline)) {
+            // the script may have completed before the termination took effect
+            cancelTerminateExecution(v8RuntimePtr);
+        }
+    }
+
     /**
      * Executes a JS Script on this runtime and returns the result as a V8Object.
      * If the result is not a V8Object, then a V8ResultUndefinedException is thrown.
@@ -607,9 +1116,89 @@ public class V8 extends V8Object {
     public void executeVoidScript(final String script, final String scriptName, final int lineNumber) {
         checkThread();
         checkScript(script);
+        processReferenceQueue();
         executeVoidScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
+    /**
+     * Compiles a JS Script on this runtime without executing it. The
+     * resulting V8Script can be executed many times without being parsed
+     * or compiled again. The V8Script must be released.
+     *
+     * @param script The script to compile.
+     *
+     * @return The compiled script.
+     */
+    public V8Script compileScript(final String script) {
+        return compileScript(script, null, 0);
+    }
+
+    /**
+     * Compiles a JS Script on this runtime without executing it. The
+     * resulting V8Script can be executed many times without being parsed
+     * or compiled again. The V8Script must be released.
+     *
+     * @param script The script to compile.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     *
+     * @return The compiled script.
+     */
+    public V8Script compileScript(final String script, final String scriptName, final int lineNumber) {
+        checkThread();
+        checkScript(script);
+        long scriptHandle = compileScript(v8RuntimePtr, script, scriptName, lineNumber);
+        return new V8Script(this, scriptHandle, false);
+    }
+
+    /**
+     * Compiles a JS Script on this runtime using code cache data previously
+     * produced by createCodeCache. If the code cache is accepted, the script
+     * is deserialized instead of being parsed and compiled. If V8 rejects the
+     * code cache (for example, because it was produced by a different version
+     * of V8 or for a different source) the script is compiled normally, and
+     * V8Script#isCodeCacheRejected() will return true.
+     *
+     * @param script The script to compile.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     * @param codeCache The code cache data for this script, or null to compile without
+     * a code cache.
+     *
+     * @return The compiled script.
+     */
+    public V8Script compileScript(final String script, final String scriptName, final int lineNumber, final byte[] codeCache) {
+        if (codeCache == null) {
+            return compileScript(script, scriptName, lineNumber);
+        }
+        checkThread();
+        checkScript(script);
+        // position 0 is the script reference, position 1 is non-zero if the code cache was rejected
+        long[] result = compileScriptWithCodeCache(v8RuntimePtr, script, scriptName, lineNumber, codeCache);
+        return new V8Script(this, result[0], result[1] != 0);
+    }
+
+    /**
+     * Compiles a JS Script on this runtime and returns the V8 code cache data
+     * for it. The code cache can be persisted and passed to compileScript
+     * on this or any other runtime to avoid parsing and compiling the same
+     * script again. The script is not executed.
+     *
+     * @param script The script to produce the code cache for.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     *
+     * @return The code cache data, or null if V8 did not produce any.
+     */
+    public byte[] createCodeCache(final String script, final String scriptName, final int lineNumber) {
+        checkThread();
+        checkScript(script);
+        return createCodeCache(v8RuntimePtr, script, scriptName, lineNumber);
+    }
+
     /**
      * Returns the locker associated with this runtime. The locker allows
      * threads to give up control of the runtime and other threads to acquire
@@ -646,6 +1235,7 @@ public class V8 extends V8Object {
         methodDescriptor.object = object;
         methodDescriptor.method = method;
         methodDescriptor.includeReceiver = includeReceiver;
+        resolveParameters(methodDescriptor);
         long methodID = registerJavaMethod(getV8RuntimePtr(), objectHandle, jsFunctionName, isVoidMethod(method));
         functionRegistry.put(methodID, methodDescriptor);
     }
@@ -662,12 +1252,65 @@ public class V8 extends V8Object {
         createAndRegisterMethodDescriptor(callback, methodID);
     }
 
+    void registerArgumentsCallback(final V8ArgumentsCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.argumentsCallback = callback;
+        long methodID = registerArgumentsJavaMethod(getV8RuntimePtr(), objectHandle, jsFunctionName);
+        functionRegistry.put(methodID, methodDescriptor);
+    }
+
+    void registerIntCallback(final JavaIntCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.intCallback = callback;
+        long methodID = registerTypedJavaMethod(getV8RuntimePtr(), objectHandle, jsFunctionName, INTEGER);
+        functionRegistry.put(methodID, methodDescriptor);
+    }
+
+    void registerDoubleCallback(final JavaDoubleCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.doubleCallback = callback;
+        long methodID = registerTypedJavaMethod(getV8RuntimePtr(), objectHandle, jsFunctionName, DOUBLE);
+        functionRegistry.put(methodID, methodDescriptor);
+    }
+
+    void registerBooleanCallback(final JavaBooleanCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.booleanCallback = callback;
+        long methodID = registerTypedJavaMethod(getV8RuntimePtr(), objectHandle, jsFunctionName, BOOLEAN);
+        functionRegistry.put(methodID, methodDescriptor);
+    }
+
+    void registerStringCallback(final JavaStringCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.stringCallback = callback;
+        long methodID = registerTypedJavaMethod(getV8RuntimePtr(), objectHandle, jsFunctionName, STRING);
+        functionRegistry.put(methodID, methodDescriptor);
+    }
+
     void createAndRegisterMethodDescriptor(final JavaCallback callback, final long methodID) {
         MethodDescriptor methodDescriptor = new MethodDescriptor();
         methodDescriptor.callback = callback;
         functionRegistry.put(methodID, methodDescriptor);
     }
 
+    private void resolveParameters(final MethodDescriptor methodDescriptor) {
+        Method method = methodDescriptor.method;
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        methodDescriptor.hasVarArgs = method.isVarArgs();
+        methodDescriptor.varArgIndex = methodDescriptor.hasVarArgs ? parameterTypes.length - 1 : parameterTypes.length;
+        if (methodDescriptor.hasVarArgs) {
+            methodDescriptor.varArgType = parameterTypes[methodDescriptor.varArgIndex].getComponentType();
+        }
+        methodDescriptor.defaultValues = setDefaultValues(new Object[parameterTypes.length], parameterTypes, null, methodDescriptor.includeReceiver);
+        methodDescriptor.args = new Object[parameterTypes.length];
+        try {
+            // Skipping the access checks makes each invocation considerably cheaper
+            method.setAccessible(true);
+        } catch (SecurityException e) {
+            // do nothing, the method is invoked with access checks
+        }
+    }
+
     private boolean isVoidMethod(final Method method) {
         Class<?> returnType = method.getReturnType();
         if (returnType.equals(Void.TYPE)) {
@@ -694,10 +1337,10 @@ public class V8 extends V8Object {
         if (methodDescriptor.callback != null) {
             return checkResult(methodDescriptor.callback.invoke(receiver, parameters));
         }
-        boolean hasVarArgs = methodDescriptor.method.isVarArgs();
-        Object[] args = getArgs(receiver, methodDescriptor, parameters, hasVarArgs);
-        checkArgs(args);
+        Object[] args = takeArgs(methodDescriptor);
         try {
+            setArgs(receiver, methodDescriptor, parameters, args);
+            checkArgs(args);
             Object result = methodDescriptor.method.invoke(methodDescriptor.object, args);
             return checkResult(result);
         } catch (InvocationTargetException e) {
@@ -707,11 +1350,40 @@ public class V8 extends V8Object {
         } catch (IllegalArgumentException e) {
             throw e;
         } finally {
-            releaseArguments(args, hasVarArgs);
+            releaseArguments(methodDescriptor, args);
         }
 
     }
 
+    protected Object callArgumentsJavaMethod(final long methodID, final long argumentsPtr, final int length) throws Throwable {
+        MethodDescriptor methodDescriptor = functionRegistry.get(methodID);
+        // Callbacks can be nested, so the arguments of the outer call are restored afterwards
+        long previousArgumentsPtr = arguments.getArgumentsPtr();
+        int previousLength = arguments.getLength();
+        arguments.set(argumentsPtr, length);
+        try {
+            return checkResult(methodDescriptor.argumentsCallback.invoke(arguments));
+        } finally {
+            arguments.set(previousArgumentsPtr, previousLength);
+        }
+    }
+
+    protected int callIntJavaMethod(final long methodID, final V8Object receiver, final V8Array parameters) throws Throwable {
+        return functionRegistry.get(methodID).intCallback.invoke(receiver, parameters);
+    }
+
+    protected double callDoubleJavaMethod(final long methodID, final V8Object receiver, final V8Array parameters) throws Throwable {
+        return functionRegistry.get(methodID).doubleCallback.invoke(receiver, parameters);
+    }
+
+    protected boolean callBooleanJavaMethod(final long methodID, final V8Object receiver, final V8Array parameters) throws Throwable {
+        return functionRegistry.get(methodID).booleanCallback.invoke(receiver, parameters);
+    }
+
+    protected String callStringJavaMethod(final long methodID, final V8Object receiver, final V8Array parameters) throws Throwable {
+        return functionRegistry.get(methodID).stringCallback.invoke(receiver, parameters);
+    }
+
     private Object checkResult(final Object result) {
         if (result == null) {
             return result;
@@ -738,10 +1410,10 @@ public class V8 extends V8Object {
             methodDescriptor.voidCallback.invoke(receiver, parameters);
             return;
         }
-        boolean hasVarArgs = methodDescriptor.method.isVarArgs();
-        Object[] args = getArgs(receiver, methodDescriptor, parameters, hasVarArgs);
-        checkArgs(args);
+        Object[] args = takeArgs(methodDescriptor);
         try {
+            setArgs(receiver, methodDescriptor, parameters, args);
+            checkArgs(args);
             methodDescriptor.method.invoke(methodDescriptor.object, args);
         } catch (InvocationTargetException e) {
             throw e.getTargetException();
@@ -750,7 +1422,7 @@ public class V8 extends V8Object {
         } catch (IllegalArgumentException e) {
             throw e;
         } finally {
-            releaseArguments(args, hasVarArgs);
+            releaseArguments(methodDescriptor, args);
         }
     }
 
@@ -762,8 +1434,8 @@ public class V8 extends V8Object {
         }
     }
 
-    private void releaseArguments(final Object[] args, final boolean hasVarArgs) {
-        if (hasVarArgs && ((args.length > 0) && (args[args.length - 1] instanceof Object[]))) {
+    private void releaseArguments(final MethodDescriptor methodDescriptor, final Object[] args) {
+        if (methodDescriptor.hasVarArgs && ((args.length > 0) && (args[args.length - 1] instanceof Object[]))) {
             Object[] varArgs = (Object[]) args[args.length - 1];
             for (Object object : varArgs) {
                 if (object instanceof V8Object) {
@@ -771,46 +1443,62 @@ public class V8 extends V8Object {
                 }
             }
         }
-        for (Object arg : args) {
-            if (arg instanceof V8Object) {
-                ((V8Value) arg).release();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof V8Object) {
+                ((V8Value) args[i]).release();
             }
+            args[i] = null;
         }
+        methodDescriptor.args = args;
     }
 
-    private Object[] getArgs(final V8Object receiver, final MethodDescriptor methodDescriptor, final V8Array parameters, final boolean hasVarArgs) {
-        int numberOfParameters = methodDescriptor.method.getParameterTypes().length;
-        int varArgIndex = hasVarArgs ? numberOfParameters - 1 : numberOfParameters;
-        Object[] args = setDefaultValues(new Object[numberOfParameters], methodDescriptor.method.getParameterTypes(), receiver, methodDescriptor.includeReceiver);
-        List<Object> varArgs = new ArrayList<Object>();
-        populateParamters(parameters, varArgIndex, args, varArgs, methodDescriptor.includeReceiver);
-        if (hasVarArgs) {
-            Object varArgContainer = getVarArgContainer(methodDescriptor.method.getParameterTypes(), varArgs.size());
-            System.arraycopy(varArgs.toArray(), 0, varArgContainer, 0, varArgs.size());
-            args[varArgIndex] = varArgContainer;
+    private Object[] takeArgs(final MethodDescriptor methodDescriptor) {
+        Object[] args = methodDescriptor.args;
+        if (args == null) {
+            // The method was called re-entrantly, the reusable arguments are in use
+            return new Object[methodDescriptor.defaultValues.length];
         }
+        methodDescriptor.args = null;
         return args;
     }
 
-    private Object getVarArgContainer(final Class<?>[] parameterTypes, final int size) {
-        Class<?> clazz = parameterTypes[parameterTypes.length - 1];
-        if (clazz.isArray()) {
-            clazz = clazz.getComponentType();
-        }
-        Object result = java.lang.reflect.Array.newInstance(clazz, size);
-        return result;
-    }
-
-    private void populateParamters(final V8Array parameters, final int varArgIndex, final Object[] args, final List<Object> varArgs, final boolean includeReceiver) {
+    private void setArgs(final V8Object receiver, final MethodDescriptor methodDescriptor, final V8Array parameters, final Object[] args) {
+        System.arraycopy(methodDescriptor.defaultValues, 0, args, 0, args.length);
         int start = 0;
-        if (includeReceiver) {
+        if (methodDescriptor.includeReceiver) {
             start = 1;
+            args[0] = receiver;
         }
-        for (int i = start; i < (parameters.length() + start); i++) {
-            if (i >= varArgIndex) {
-                varArgs.add(getArrayItem(parameters, i - start));
-            } else {
-                args[i] = getArrayItem(parameters, i - start);
+        int length = parameters.length();
+        int varArgIndex = methodDescriptor.varArgIndex;
+        for (int i = start; (i < (length + start)) && (i < varArgIndex); i++) {
+            args[i] = getArrayItem(parameters, i - start);
+        }
+        if (methodDescriptor.hasVarArgs) {
+            int first = varArgIndex - start;
+            Object varArgs = java.lang.reflect.Array.newInstance(methodDescriptor.varArgType, Math.max(0, length - first));
+            // The arguments that were already set are released if a later one does not fit
+            args[varArgIndex] = varArgs;
+            setVarArgs(methodDescriptor, parameters, first, varArgs);
+        }
+    }
+
+    private void setVarArgs(final MethodDescriptor methodDescriptor, final V8Array parameters, final int first, final Object varArgs) {
+        int size = java.lang.reflect.Array.getLength(varArgs);
+        boolean primitive = methodDescriptor.varArgType.isPrimitive();
+        for (int i = 0; i < size; i++) {
+            Object item = getArrayItem(parameters, first + i);
+            try {
+                if (primitive) {
+                    java.lang.reflect.Array.set(varArgs, i, item);
+                } else {
+                    ((Object[]) varArgs)[i] = item;
+                }
+            } catch (RuntimeException e) {
+                if (item instanceof V8Value) {
+                    ((V8Value) item).release();
+                }
+                throw e;
             }
         }
     }
@@ -898,10 +1586,54 @@ public class V8 extends V8Object {
         _executeVoidScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
+    protected long compileScript(final long v8RuntimePtr, final String script, final String scriptName, final int lineNumber) {
+        return _compileScript(v8RuntimePtr, script, scriptName, lineNumber);
+    }
+
+    protected long[] compileScriptWithCodeCache(final long v8RuntimePtr, final String script, final String scriptName, final int lineNumber, final byte[] codeCache) {
+        return _compileScriptWithCodeCache(v8RuntimePtr, script, scriptName, lineNumber, codeCache);
+    }
+
+    protected byte[] createCodeCache(final long v8RuntimePtr, final String script, final String scriptName, final int lineNumber) {
+        return _createCodeCache(v8RuntimePtr, script, scriptName, lineNumber);
+    }
+
+    protected int runIntegerScript(final long v8RuntimePtr, final long scriptHandle) {
+        return _runIntegerScript(v8RuntimePtr, scriptHandle);
+    }
+
+    protected double runDoubleScript(final long v8RuntimePtr, final long scriptHandle) {
+        return _runDoubleScript(v8RuntimePtr, scriptHandle);
+    }
+
+    protected String runStringScript(final long v8RuntimePtr, final long scriptHandle) {
+        return _runStringScript(v8RuntimePtr, scriptHandle);
+    }
+
+    protected boolean runBooleanScript(final long v8RuntimePtr, final long scriptHandle) {
+        return _runBooleanScript(v8RuntimePtr, scriptHandle);
+    }
+
+    protected Object runScript(final long v8RuntimePtr, final int expectedType, final long scriptHandle) {
+        return _runScript(v8RuntimePtr, expectedType, scriptHandle);
+    }
+
+    protected void runVoidScript(final long v8RuntimePtr, final long scriptHandle) {
+        _runVoidScript(v8RuntimePtr, scriptHandle);
+    }
+
+    protected void releaseScript(final long v8RuntimePtr, final long scriptHandle) {
+        _releaseScript(v8RuntimePtr, scriptHandle);
+    }
+
     protected void release(final long v8RuntimePtr, final long objectHandle) {
         _release(v8RuntimePtr, objectHandle);
     }
 
+    protected void releaseAll(final long v8RuntimePtr, final long[] objectHandles, final int length) {
+        _releaseAll(v8RuntimePtr, objectHandles, length);
+    }
+
     protected boolean contains(final long v8RuntimePtr, final long objectHandle, final String key) {
         return _contains(v8RuntimePtr, objectHandle, key);
     }
@@ -930,6 +1662,102 @@ public class V8 extends V8Object {
         return _get(v8RuntimePtr, expectedType, objectHandle, key);
     }
 
+    protected void getValues(final long v8RuntimePtr, final long objectHandle, final String[] keys, final int[] types, final Object[] values) {
+        _getValues(v8RuntimePtr, objectHandle, keys, types, values);
+    }
+
+    protected void addAll(final long v8RuntimePtr, final long objectHandle, final String[] keys, final int[] types, final double[] numbers, final long[] handles, final Object[] values) {
+        _addAll(v8RuntimePtr, objectHandle, keys, types, numbers, handles, values);
+    }
+
+    protected long initNewV8Key(final long v8RuntimePtr, final String name) {
+        return _initNewV8Key(v8RuntimePtr, name);
+    }
+
+    protected void releaseKey(final long v8RuntimePtr, final long keyHandle) {
+        _releaseKey(v8RuntimePtr, keyHandle);
+    }
+
+    protected boolean containsWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _containsWithKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected int getTypeWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getTypeWithKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected int getIntegerWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getIntegerWithKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected boolean getBooleanWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getBooleanWithKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected double getDoubleWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getDoubleWithKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected String getStringWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getStringWithKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected Object getWithKey(final long v8RuntimePtr, final int expectedType, final long objectHandle, final long keyHandle) {
+        return _getWithKey(v8RuntimePtr, expectedType, objectHandle, keyHandle);
+    }
+
+    protected int executeIntegerFunctionWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final long parametersHandle) {
+        return _executeIntegerFunctionWithKey(v8RuntimePtr, objectHandle, keyHandle, parametersHandle);
+    }
+
+    protected double executeDoubleFunctionWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final long parametersHandle) {
+        return _executeDoubleFunctionWithKey(v8RuntimePtr, objectHandle, keyHandle, parametersHandle);
+    }
+
+    protected String executeStringFunctionWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final long parametersHandle) {
+        return _executeStringFunctionWithKey(v8RuntimePtr, objectHandle, keyHandle, parametersHandle);
+    }
+
+    protected boolean executeBooleanFunctionWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final long parametersHandle) {
+        return _executeBooleanFunctionWithKey(v8RuntimePtr, objectHandle, keyHandle, parametersHandle);
+    }
+
+    protected Object executeFunctionWithKey(final long v8RuntimePtr, final int expectedType, final long objectHandle, final long keyHandle, final long parametersHandle) {
+        return _executeFunctionWithKey(v8RuntimePtr, expectedType, objectHandle, keyHandle, parametersHandle);
+    }
+
+    protected void executeVoidFunctionWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final long parametersHandle) {
+        _executeVoidFunctionWithKey(v8RuntimePtr, objectHandle, keyHandle, parametersHandle);
+    }
+
+    protected void addIntegerWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final int value) {
+        _addIntegerWithKey(v8RuntimePtr, objectHandle, keyHandle, value);
+    }
+
+    protected void addBooleanWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final boolean value) {
+        _addBooleanWithKey(v8RuntimePtr, objectHandle, keyHandle, value);
+    }
+
+    protected void addDoubleWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final double value) {
+        _addDoubleWithKey(v8RuntimePtr, objectHandle, keyHandle, value);
+    }
+
+    protected void addStringWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final String value) {
+        _addStringWithKey(v8RuntimePtr, objectHandle, keyHandle, value);
+    }
+
+    protected void addObjectWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final long valueHandle) {
+        _addObjectWithKey(v8RuntimePtr, objectHandle, keyHandle, valueHandle);
+    }
+
+    protected void addUndefinedWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        _addUndefinedWithKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected void addNullWithKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        _addNullWithKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
     protected int executeIntegerFunction(final long v8RuntimePtr, final long objectHandle, final String name, final long parametersHandle) {
         return _executeIntegerFunction(v8RuntimePtr, objectHandle, name, parametersHandle);
     }
@@ -954,6 +1782,14 @@ public class V8 extends V8Object {
         return _executeFunction(v8RuntimePtr, receiverHandle, functionHandle, parametersHandle);
     }
 
+    protected Object executeFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final int[] parameters) {
+        return _executeFunctionWithIntegers(v8RuntimePtr, receiverHandle, functionHandle, parameters);
+    }
+
+    protected Object executeFunction(final long v8RuntimePtr, final long receiverHandle, final long functionHandle, final double[] parameters) {
+        return _executeFunctionWithDoubles(v8RuntimePtr, receiverHandle, functionHandle, parameters);
+    }
+
     protected void executeVoidFunction(final long v8RuntimePtr, final long objectHandle, final String name, final long parametersHandle) {
         _executeVoidFunction(v8RuntimePtr, objectHandle, name, parametersHandle);
     }
@@ -1009,10 +1845,90 @@ public class V8 extends V8Object {
     protected long registerJavaMethod(final long v8RuntimePtr, final long objectHandle, final String functionName, final boolean voidMethod) {
         return _registerJavaMethod(v8RuntimePtr, objectHandle, functionName, voidMethod);
     }
+    protected long registerArgumentsJavaMethod(final long v8RuntimePtr, final long objectHandle, final String functionName) {
+        return _registerArgumentsJavaMethod(v8RuntimePtr, objectHandle, functionName);
+    }
+
+    protected long registerTypedJavaMethod(final long v8RuntimePtr, final long objectHandle, final String functionName, final int returnType) {
+        return _registerTypedJavaMethod(v8RuntimePtr, objectHandle, functionName, returnType);
+    }
+
+    protected int getArgumentType(final long v8RuntimePtr, final long argumentsPtr, final int index) {
+        return _getArgumentType(v8RuntimePtr, argumentsPtr, index);
+    }
+
+    protected int getArgumentInteger(final long v8RuntimePtr, final long argumentsPtr, final int index) {
+        return _getArgumentInteger(v8RuntimePtr, argumentsPtr, index);
+    }
+
+    protected double getArgumentDouble(final long v8RuntimePtr, final long argumentsPtr, final int index) {
+        return _getArgumentDouble(v8RuntimePtr, argumentsPtr, index);
+    }
+
+    protected boolean getArgumentBoolean(final long v8RuntimePtr, final long argumentsPtr, final int index) {
+        return _getArgumentBoolean(v8RuntimePtr, argumentsPtr, index);
+    }
+
+    protected String getArgumentString(final long v8RuntimePtr, final long argumentsPtr, final int index) {
+        return _getArgumentString(v8RuntimePtr, argumentsPtr, index);
+    }
+
+    protected Object getArgument(final long v8RuntimePtr, final long argumentsPtr, final int index) {
+        return _getArgument(v8RuntimePtr, argumentsPtr, index);
+    }
+
+    protected Object getArgumentsReceiver(final long v8RuntimePtr, final long argumentsPtr) {
+        return _getArgumentsReceiver(v8RuntimePtr, argumentsPtr);
+    }
+
     protected long initNewV8Array(final long v8RuntimePtr) {
         return _initNewV8Array(v8RuntimePtr);
     }
 
+    protected long initNewV8ArrayBuffer(final long v8RuntimePtr, final ByteBuffer byteBuffer, final int capacity) {
+        return _initNewV8ArrayBuffer(v8RuntimePtr, byteBuffer, capacity);
+    }
+
+    protected int getArrayBufferByteLength(final long v8RuntimePtr, final long objectHandle) {
+        return _getArrayBufferByteLength(v8RuntimePtr, objectHandle);
+    }
+
+    protected ByteBuffer getArrayBufferBackingStore(final long v8RuntimePtr, final long objectHandle) {
+        return _getArrayBufferBackingStore(v8RuntimePtr, objectHandle);
+    }
+
+    protected ByteBuffer getArrayBufferOwner(final long v8RuntimePtr, final long objectHandle) {
+        return _getArrayBufferOwner(v8RuntimePtr, objectHandle);
+    }
+
+    protected ByteBuffer transferArrayBuffer(final long v8RuntimePtr, final long objectHandle) {
+        return _transferArrayBuffer(v8RuntimePtr, objectHandle);
+    }
+
+    protected boolean detachArrayBuffer(final long v8RuntimePtr, final long objectHandle) {
+        return _detachArrayBuffer(v8RuntimePtr, objectHandle);
+    }
+
+    protected long initNewV8TypedArray(final long v8RuntimePtr, final long bufferHandle, final int type, final int offset, final int length) {
+        return _initNewV8TypedArray(v8RuntimePtr, bufferHandle, type, offset, length);
+    }
+
+    protected int getTypedArrayType(final long v8RuntimePtr, final long objectHandle) {
+        return _getTypedArrayType(v8RuntimePtr, objectHandle);
+    }
+
+    protected Object getTypedArrayBuffer(final long v8RuntimePtr, final long objectHandle) {
+        return _getTypedArrayBuffer(v8RuntimePtr, objectHandle);
+    }
+
+    protected int getTypedArrayByteOffset(final long v8RuntimePtr, final long objectHandle) {
+        return _getTypedArrayByteOffset(v8RuntimePtr, objectHandle);
+    }
+
+    protected ByteBuffer getTypedArrayByteBuffer(final long v8RuntimePtr, final long objectHandle) {
+        return _getTypedArrayByteBuffer(v8RuntimePtr, objectHandle);
+    }
+
     protected long[] initNewV8Function(final long v8RuntimePtr) {
         checkThread();
         return _initNewV8Function(v8RuntimePtr);
@@ -1046,6 +1962,22 @@ public class V8 extends V8Object {
         _addArrayIntItem(v8RuntimePtr, arrayHandle, value);
     }
 
+    protected void arraySetIntegers(final long v8RuntimePtr, final long arrayHandle, final int index, final int[] values, final int offset, final int length) {
+        _arraySetIntegers(v8RuntimePtr, arrayHandle, index, values, offset, length);
+    }
+
+    protected void arraySetDoubles(final long v8RuntimePtr, final long arrayHandle, final int index, final double[] values, final int offset, final int length) {
+        _arraySetDoubles(v8RuntimePtr, arrayHandle, index, values, offset, length);
+    }
+
+    protected void arraySetBooleans(final long v8RuntimePtr, final long arrayHandle, final int index, final boolean[] values, final int offset, final int length) {
+        _arraySetBooleans(v8RuntimePtr, arrayHandle, index, values, offset, length);
+    }
+
+    protected void arraySetStrings(final long v8RuntimePtr, final long arrayHandle, final int index, final String[] values, final int offset, final int length) {
+        _arraySetStrings(v8RuntimePtr, arrayHandle, index, values, offset, length);
+    }
+
     protected void addArrayBooleanItem(final long v8RuntimePtr, final long arrayHandle, final boolean value) {
         _addArrayBooleanItem(v8RuntimePtr, arrayHandle, value);
     }
@@ -1126,17 +2058,47 @@ public class V8 extends V8Object {
         _terminateExecution(v8RuntimePtr);
     }
 
+    protected void cancelTerminateExecution(final long v8RuntimePtr) {
+        _cancelTerminateExecution(v8RuntimePtr);
+    }
+
+    protected boolean isExecutionTerminating(final long v8RuntimePtr) {
+        return _isExecutionTerminating(v8RuntimePtr);
+    }
+
+    protected long[] getHeapStatistics(final long v8RuntimePtr) {
+        return _getHeapStatistics(v8RuntimePtr);
+    }
+
+    protected void lowMemoryNotification(final long v8RuntimePtr) {
+        _lowMemoryNotification(v8RuntimePtr);
+    }
+
+    protected void setMemoryLimit(final long v8RuntimePtr, final long memoryLimit) {
+        _setMemoryLimit(v8RuntimePtr, memoryLimit);
+    }
+
     protected void releaseMethodDescriptor(final long v8RuntimePtr, final long methodDescriptor) {
         _releaseMethodDescriptor(v8RuntimePtr, methodDescriptor);
     }
 
+    protected void releaseMethodDescriptors(final long v8RuntimePtr, final long[] methodDescriptors, final int length) {
+        _releaseMethodDescriptors(v8RuntimePtr, methodDescriptors, length);
+    }
+
     private native long _initNewV8Object(long v8RuntimePtr);
 
     private native void _createTwin(long v8RuntimePtr, long objectHandle, long twinHandle);
 
     private native void _releaseRuntime(long v8RuntimePtr);
 
-    private native long _createIsolate(String globalAlias);
+    private native long _createIsolate(String globalAlias, byte[] snapshotBlob, int maxHeapSize);
+
+    private native long[] _getHeapStatistics(long v8RuntimePtr);
+
+    private native void _lowMemoryNotification(long v8RuntimePtr);
+
+    private native void _setMemoryLimit(long v8RuntimePtr, long memoryLimit);
 
     private native int _executeIntegerScript(long v8RuntimePtr, final String script, final String scriptName, final int lineNumber);
 
@@ -1150,10 +2112,34 @@ public class V8 extends V8Object {
 
     private native void _executeVoidScript(long v8RuntimePtr, String script, String scriptName, int lineNumber);
 
+    private native long _compileScript(long v8RuntimePtr, String script, String scriptName, int lineNumber);
+
+    private native long[] _compileScriptWithCodeCache(long v8RuntimePtr, String script, String scriptName, int lineNumber, byte[] codeCache);
+
+    private native byte[] _createCodeCache(long v8RuntimePtr, String script, String scriptName, int lineNumber);
+
+    private native int _runIntegerScript(long v8RuntimePtr, long scriptHandle);
+
+    private native double _runDoubleScript(long v8RuntimePtr, long scriptHandle);
+
+    private native String _runStringScript(long v8RuntimePtr, long scriptHandle);
+
+    private native boolean _runBooleanScript(long v8RuntimePtr, long scriptHandle);
+
+    private native Object _runScript(long v8RuntimePtr, int expectedType, long scriptHandle);
+
+    private native void _runVoidScript(long v8RuntimePtr, long scriptHandle);
+
+    private native void _releaseScript(long v8RuntimePtr, long scriptHandle);
+
     private native void _release(long v8RuntimePtr, long objectHandle);
 
+    private native void _releaseAll(long v8RuntimePtr, long[] objectHandles, int length);
+
     private native void _releaseMethodDescriptor(long v8RuntimePtr, long methodDescriptor);
 
+    private native void _releaseMethodDescriptors(long v8RuntimePtr, long[] methodDescriptors, int length);
+
     private native boolean _contains(long v8RuntimePtr, long objectHandle, final String key);
 
     private native String[] _getKeys(long v8RuntimePtr, long objectHandle);
@@ -1168,6 +2154,54 @@ public class V8 extends V8Object {
 
     private native Object _get(long v8RuntimePtr, int expectedType, long objectHandle, final String key);
 
+    private native long _initNewV8Key(long v8RuntimePtr, String name);
+
+    private native void _releaseKey(long v8RuntimePtr, long keyHandle);
+
+    private native boolean _containsWithKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native int _getTypeWithKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native int _getIntegerWithKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native boolean _getBooleanWithKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native double _getDoubleWithKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native String _getStringWithKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native Object _getWithKey(long v8RuntimePtr, int expectedType, long objectHandle, long keyHandle);
+
+    private native int _executeIntegerFunctionWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, long parametersHandle);
+
+    private native double _executeDoubleFunctionWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, long parametersHandle);
+
+    private native String _executeStringFunctionWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, long parametersHandle);
+
+    private native boolean _executeBooleanFunctionWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, long parametersHandle);
+
+    private native Object _executeFunctionWithKey(long v8RuntimePtr, int expectedType, long objectHandle, long keyHandle, long parametersHandle);
+
+    private native void _executeVoidFunctionWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, long parametersHandle);
+
+    private native void _addIntegerWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, int value);
+
+    private native void _addBooleanWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, boolean value);
+
+    private native void _addDoubleWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, double value);
+
+    private native void _addStringWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, String value);
+
+    private native void _addObjectWithKey(long v8RuntimePtr, long objectHandle, long keyHandle, long valueHandle);
+
+    private native void _addUndefinedWithKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native void _addNullWithKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native void _getValues(long v8RuntimePtr, long objectHandle, String[] keys, int[] types, Object[] values);
+
+    private native void _addAll(long v8RuntimePtr, long objectHandle, String[] keys, int[] types, double[] numbers, long[] handles, Object[] values);
+
     private native int _executeIntegerFunction(long v8RuntimePtr, long objectHandle, String name, long parametersHandle);
 
     private native double _executeDoubleFunction(long v8RuntimePtr, long objectHandle, String name, long parametersHandle);
@@ -1180,6 +2214,10 @@ public class V8 extends V8Object {
 
     private native Object _executeFunction(long v8RuntimePtr, long receiverHandle, long functionHandle, long parametersHandle);
 
+    private native Object _executeFunctionWithIntegers(long v8RuntimePtr, long receiverHandle, long functionHandle, int[] parameters);
+
+    private native Object _executeFunctionWithDoubles(long v8RuntimePtr, long receiverHandle, long functionHandle, double[] parameters);
+
     private native void _executeVoidFunction(long v8RuntimePtr, long objectHandle, final String name, final long parametersHandle);
 
     private native boolean _equals(long v8RuntimePtr, long objectHandle, long that);
@@ -1206,10 +2244,52 @@ public class V8 extends V8Object {
 
     private native void _addNull(long v8RuntimePtr, long objectHandle, final String key);
 
+    private native long _registerArgumentsJavaMethod(long v8RuntimePtr, long objectHandle, String functionName);
+
+    private native long _registerTypedJavaMethod(long v8RuntimePtr, long objectHandle, String functionName, int returnType);
+
+    private native int _getArgumentType(long v8RuntimePtr, long argumentsPtr, int index);
+
+    private native int _getArgumentInteger(long v8RuntimePtr, long argumentsPtr, int index);
+
+    private native double _getArgumentDouble(long v8RuntimePtr, long argumentsPtr, int index);
+
+    private native boolean _getArgumentBoolean(long v8RuntimePtr, long argumentsPtr, int index);
+
+    private native String _getArgumentString(long v8RuntimePtr, long argumentsPtr, int index);
+
+    private native Object _getArgument(long v8RuntimePtr, long argumentsPtr, int index);
+
+    private native Object _getArgumentsReceiver(long v8RuntimePtr, long argumentsPtr);
+
     private native long _registerJavaMethod(long v8RuntimePtr, long objectHandle, final String functionName, final boolean voidMethod);
 
     private native long _initNewV8Array(long v8RuntimePtr);
 
+    private native long _initNewV8ArrayBuffer(long v8RuntimePtr, ByteBuffer byteBuffer, int capacity);
+
+    private native int _getArrayBufferByteLength(long v8RuntimePtr, long objectHandle);
+
+    private native ByteBuffer _getArrayBufferBackingStore(long v8RuntimePtr, long objectHandle);
+
+    private native ByteBuffer _getArrayBufferOwner(long v8RuntimePtr, long objectHandle);
+
+    private native int _getRetainedByteBufferCount(long v8RuntimePtr);
+
+    private native ByteBuffer _transferArrayBuffer(long v8RuntimePtr, long objectHandle);
+
+    private native boolean _detachArrayBuffer(long v8RuntimePtr, long objectHandle);
+
+    private native long _initNewV8TypedArray(long v8RuntimePtr, long bufferHandle, int type, int offset, int length);
+
+    private native int _getTypedArrayType(long v8RuntimePtr, long objectHandle);
+
+    private native Object _getTypedArrayBuffer(long v8RuntimePtr, long objectHandle);
+
+    private native int _getTypedArrayByteOffset(long v8RuntimePtr, long objectHandle);
+
+    private native ByteBuffer _getTypedArrayByteBuffer(long v8RuntimePtr, long objectHandle);
+
     private native long[] _initNewV8Function(long v8RuntimePtr);
 
     private native int _arrayGetSize(long v8RuntimePtr, long arrayHandle);
@@ -1226,6 +2306,14 @@ public class V8 extends V8Object {
 
     private native void _addArrayIntItem(long v8RuntimePtr, long arrayHandle, int value);
 
+    private native void _arraySetIntegers(long v8RuntimePtr, long arrayHandle, int index, int[] values, int offset, int length);
+
+    private native void _arraySetDoubles(long v8RuntimePtr, long arrayHandle, int index, double[] values, int offset, int length);
+
+    private native void _arraySetBooleans(long v8RuntimePtr, long arrayHandle, int index, boolean[] values, int offset, int length);
+
+    private native void _arraySetStrings(long v8RuntimePtr, long arrayHandle, int index, String[] values, int offset, int length);
+
     private native void _addArrayBooleanItem(long v8RuntimePtr, long arrayHandle, boolean value);
 
     private native void _addArrayDoubleItem(long v8RuntimePtr, long arrayHandle, double value);
@@ -1268,8 +2356,14 @@ public class V8 extends V8Object {
 
     private static native void _setFlags(String v8flags);
 
+    private static native byte[] _createSnapshot(String source);
+
     private native void _terminateExecution(final long v8RuntimePtr);
 
+    private native void _cancelTerminateExecution(final long v8RuntimePtr);
+
+    private native boolean _isExecutionTerminating(final long v8RuntimePtr);
+
     private native long _getGlobalObject(final long v8RuntimePtr);
 
     private native long _getBuildID();
@@ -1284,8 +2378,46 @@ public class V8 extends V8Object {
         objectReferences++;
     }
 
+    void addObjRef(final V8Value reference) {
+        objectReferences++;
+        if (!referenceHandlers.isEmpty()) {
+            notifyReferenceCreated(reference);
+        }
+    }
+
     void releaseObjRef() {
         objectReferences--;
     }
 
+    void releaseObjRef(final V8Value reference) {
+        if (reference.valueReference != null) {
+            untrackReference(reference.valueReference);
+            reference.valueReference = null;
+        }
+        if (!referenceHandlers.isEmpty()) {
+            notifyReferenceDisposed(reference);
+        }
+        objectReferences--;
+    }
+
+    void releaseObjRef(final V8Script script) {
+        if (script.valueReference != null) {
+            untrackReference(script.valueReference);
+            script.valueReference = null;
+        }
+        objectReferences--;
+    }
+
+    private void notifyReferenceCreated(final V8Value object) {
+        for (ReferenceHandler referenceHandler : new ArrayList<ReferenceHandler>(referenceHandlers)) {
+            referenceHandler.v8HandleCreated(object);
+        }
+    }
+
+    private void notifyReferenceDisposed(final V8Value object) {
+        for (ReferenceHandler referenceHandler : new ArrayList<ReferenceHandler>(referenceHandlers)) {
+            referenceHandler.v8HandleDisposed(object);
+        }
+    }
+
 }
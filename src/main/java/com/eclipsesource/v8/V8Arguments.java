@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A view of the arguments of a JS Function call that invoked a
+ * V8ArgumentsCallback. The arguments are read directly from the
+ * native call, and are only valid until the callback returns.
+ *
+ * Each runtime reuses the same instance for all calls, so a
+ * V8Arguments must never be stored or passed to another thread.
+ */
+public final class V8Arguments {
+
+    private final V8 v8;
+    private long     argumentsPtr = 0;
+    private int      length       = 0;
+
+    V8Arguments(final V8 v8) {
+        this.v8 = v8;
+    }
+
+    /**
+     * Returns the runtime the function was called on.
+     *
+     * @return The runtime.
+     */
+    public V8 getRuntime() {
+        return v8;
+    }
+
+    /**
+     * Returns the number of arguments the function was called with.
+     *
+     * @return The number of arguments.
+     */
+    public int length() {
+        checkValid();
+        return length;
+    }
+
+    /**
+     * Returns the type of the argument at the given index.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The type of the argument, or UNDEFINED if the
+     * index is out of bounds.
+     */
+    public int getType(final int index) {
+        checkValid();
+        return v8.getArgumentType(v8.getV8RuntimePtr(), argumentsPtr, index);
+    }
+
+    /**
+     * Returns the argument at the given index as an integer. If the
+     * argument is not a number, a V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The argument as an integer.
+     */
+    public int getInteger(final int index) {
+        checkValid();
+        return v8.getArgumentInteger(v8.getV8RuntimePtr(), argumentsPtr, index);
+    }
+
+    /**
+     * Returns the argument at the given index as a double. If the
+     * argument is not a number, a V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The argument as a double.
+     */
+    public double getDouble(final int index) {
+        checkValid();
+        return v8.getArgumentDouble(v8.getV8RuntimePtr(), argumentsPtr, index);
+    }
+
+    /**
+     * Returns the argument at the given index as a boolean. If the
+     * argument is not a boolean, a V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The argument as a boolean.
+     */
+    public boolean getBoolean(final int index) {
+        checkValid();
+        return v8.getArgumentBoolean(v8.getV8RuntimePtr(), argumentsPtr, index);
+    }
+
+    /**
+     * Returns the argument at the given index as a String. If the
+     * argument is not a String, a V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The argument as a String.
+     */
+    public String getString(final int index) {
+        checkValid();
+        return v8.getArgumentString(v8.getV8RuntimePtr(), argumentsPtr, index);
+    }
+
+    /**
+     * Returns the argument at the given index as a Java Object.
+     * Primitives are boxed, and V8Values returned must be released.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The argument as a Java Object.
+     */
+    public Object get(final int index) {
+        checkValid();
+        return v8.getArgument(v8.getV8RuntimePtr(), argumentsPtr, index);
+    }
+
+    /**
+     * Returns the V8Object the function was called on. The
+     * V8Object must be released. If the function was not called
+     * on an object, undefined is returned.
+     *
+     * @return The receiver of the call.
+     */
+    public V8Object getReceiver() {
+        checkValid();
+        Object result = v8.getArgumentsReceiver(v8.getV8RuntimePtr(), argumentsPtr);
+        if (result instanceof V8Object) {
+            return (V8Object) result;
+        }
+        return new V8Object.Undefined();
+    }
+
+    long getArgumentsPtr() {
+        return argumentsPtr;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    void set(final long argumentsPtr, final int length) {
+        this.argumentsPtr = argumentsPtr;
+        this.length = length;
+    }
+
+    private void checkValid() {
+        v8.checkThread();
+        if (argumentsPtr == 0) {
+            throw new IllegalStateException("Arguments are only valid during the callback.");
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Classes that implement this interface provide a method
+ * which can be invoked from JavaScript. Unlike a JavaCallback,
+ * the arguments are not copied into a V8Array. Instead they are
+ * read directly from the native call, so callbacks that only
+ * take primitive arguments do not allocate any Java objects.
+ *
+ * After creating an instance of a class that implements this
+ * interface it can be registered as a Callback on a V8Object.
+ */
+public interface V8ArgumentsCallback {
+
+    /**
+     * Called when a JS Function invokes a the registered Java
+     * method.
+     *
+     * @param arguments The arguments passed to the JS Function. The
+     * arguments are only valid until this method returns, and must not
+     * be stored.
+     *
+     * @return A result that should be passed back to JavaScript. The
+     * result must be either an Integer, Double, Boolean, String or V8Value.
+     */
+    public Object invoke(V8Arguments arguments);
+
+}
@@ -18,6 +18,9 @@ package com.eclipsesource.v8;
  */
 public class V8Array extends V8Object {
 
+    // Index passed to the bulk writers to append at the end of the array
+    private static final int APPEND = -1;
+
     protected V8Array() {
 
     }
@@ -33,6 +36,11 @@ public class V8Array extends V8Object {
         v8.checkThread();
     }
 
+    protected V8Array(final V8 v8, final Object data) {
+        super(v8, data);
+        v8.checkThread();
+    }
+
     @Override
     protected V8Value createTwin() {
         return new V8Array(v8);
@@ -50,7 +58,7 @@ public class V8Array extends V8Object {
     @Override
     protected long initialize(final long runtimePtr, final Object data) {
         long handle = v8.initNewV8Array(runtimePtr);
-        v8.addObjRef();
+        v8.addObjRef(this);
         released = false;
         return handle;
     }
@@ -519,6 +527,187 @@ public class V8Array extends V8Object {
         return this;
     }
 
+    /**
+     * Pushes a range of integer values to the end of the Array using a
+     * single native call. In particular, this[length + i] = values[offset + i]
+     * for i in [0, length).
+     *
+     * @param values The values to push to the array.
+     * @param offset The index in values of the first value to push.
+     * @param length The number of values to push.
+     *
+     * @return The receiver.
+     */
+    public V8Array pushAll(final int[] values, final int offset, final int length) {
+        v8.checkThread();
+        checkReleased();
+        checkRange(values.length, offset, length);
+        v8.arraySetIntegers(v8.getV8RuntimePtr(), getHandle(), APPEND, values, offset, length);
+        return this;
+    }
+
+    /**
+     * Pushes a range of double values to the end of the Array using a
+     * single native call. In particular, this[length + i] = values[offset + i]
+     * for i in [0, length).
+     *
+     * @param values The values to push to the array.
+     * @param offset The index in values of the first value to push.
+     * @param length The number of values to push.
+     *
+     * @return The receiver.
+     */
+    public V8Array pushAll(final double[] values, final int offset, final int length) {
+        v8.checkThread();
+        checkReleased();
+        checkRange(values.length, offset, length);
+        v8.arraySetDoubles(v8.getV8RuntimePtr(), getHandle(), APPEND, values, offset, length);
+        return this;
+    }
+
+    /**
+     * Pushes a range of boolean values to the end of the Array using a
+     * single native call. In particular, this[length + i] = values[offset + i]
+     * for i in [0, length).
+     *
+     * @param values The values to push to the array.
+     * @param offset The index in values of the first value to push.
+     * @param length The number of values to push.
+     *
+     * @return The receiver.
+     */
+    public V8Array pushAll(final boolean[] values, final int offset, final int length) {
+        v8.checkThread();
+        checkReleased();
+        checkRange(values.length, offset, length);
+        v8.arraySetBooleans(v8.getV8RuntimePtr(), getHandle(), APPEND, values, offset, length);
+        return this;
+    }
+
+    /**
+     * Pushes a range of String values to the end of the Array using a
+     * single native call. In particular, this[length + i] = values[offset + i]
+     * for i in [0, length). null Strings are pushed as null.
+     *
+     * @param values The values to push to the array.
+     * @param offset The index in values of the first value to push.
+     * @param length The number of values to push.
+     *
+     * @return The receiver.
+     */
+    public V8Array pushAll(final String[] values, final int offset, final int length) {
+        v8.checkThread();
+        checkReleased();
+        checkRange(values.length, offset, length);
+        v8.arraySetStrings(v8.getV8RuntimePtr(), getHandle(), APPEND, values, offset, length);
+        return this;
+    }
+
+    /**
+     * Sets a range of integer values starting at the given index using a
+     * single native call. In particular, this[index + i] = values[offset + i]
+     * for i in [0, length). The array grows if required. Typed arrays
+     * have a fixed length, so a range that does not fit into a typed array
+     * is rejected with an IndexOutOfBoundsException.
+     *
+     * @param index The index in the array of the first value to set.
+     * @param values The values to set.
+     * @param offset The index in values of the first value to set.
+     * @param length The number of values to set.
+     *
+     * @return The receiver.
+     */
+    public V8Array set(final int index, final int[] values, final int offset, final int length) {
+        v8.checkThread();
+        checkReleased();
+        checkRange(values.length, offset, length);
+        checkSetRange(index, length);
+        v8.arraySetIntegers(v8.getV8RuntimePtr(), getHandle(), index, values, offset, length);
+        return this;
+    }
+
+    /**
+     * Sets a range of double values starting at the given index using a
+     * single native call. In particular, this[index + i] = values[offset + i]
+     * for i in [0, length). The array grows if required. Typed arrays
+     * have a fixed length, so a range that does not fit into a typed array
+     * is rejected with an IndexOutOfBoundsException.
+     *
+     * @param index The index in the array of the first value to set.
+     * @param values The values to set.
+     * @param offset The index in values of the first value to set.
+     * @param length The number of values to set.
+     *
+     * @return The receiver.
+     */
+    public V8Array set(final int index, final double[] values, final int offset, final int length) {
+        v8.checkThread();
+        checkReleased();
+        checkRange(values.length, offset, length);
+        checkSetRange(index, length);
+        v8.arraySetDoubles(v8.getV8RuntimePtr(), getHandle(), index, values, offset, length);
+        return this;
+    }
+
+    /**
+     * Sets a range of boolean values starting at the given index using a
+     * single native call. In particular, this[index + i] = values[offset + i]
+     * for i in [0, length). The array grows if required. Typed arrays
+     * have a fixed length, so a range that does not fit into a typed array
+     * is rejected with an IndexOutOfBoundsException.
+     *
+     * @param index The index in the array of the first value to set.
+     * @param values The values to set.
+     * @param offset The index in values of the first value to set.
+     * @param length The number of values to set.
+     *
+     * @return The receiver.
+     */
+    public V8Array set(final int index, final boolean[] values, final int offset, final int length) {
+        v8.checkThread();
+        checkReleased();
+        checkRange(values.length, offset, length);
+        checkSetRange(index, length);
+        v8.arraySetBooleans(v8.getV8RuntimePtr(), getHandle(), index, values, offset, length);
+        return this;
+    }
+
+    /**
+     * Sets a range of String values starting at the given index using a
+     * single native call. In particular, this[index + i] = values[offset + i]
+     * for i in [0, length). The array grows if required. Typed arrays
+     * have a fixed length, so a range that does not fit into a typed array
+     * is rejected with an IndexOutOfBoundsException.
+     * null Strings are set as null.
+     *
+     * @param index The index in the array of the first value to set.
+     * @param values The values to set.
+     * @param offset The index in values of the first value to set.
+     * @param length The number of values to set.
+     *
+     * @return The receiver.
+     */
+    public V8Array set(final int index, final String[] values, final int offset, final int length) {
+        v8.checkThread();
+        checkReleased();
+        checkRange(values.length, offset, length);
+        checkSetRange(index, length);
+        v8.arraySetStrings(v8.getV8RuntimePtr(), getHandle(), index, values, offset, length);
+        return this;
+    }
+
+    void checkSetRange(final int index, final int length) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
+    private static void checkRange(final int size, final int offset, final int length) {
+        if ((offset < 0) || (length < 0) || (offset > (size - length))) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Size: " + size);
+        }
+    }
+
     static class Undefined extends V8Array {
 
         public Undefined() {
@@ -643,6 +832,240 @@ public class V8Array extends V8Object {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#contains(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public boolean contains(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getType(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public int getType(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getInteger(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public int getInteger(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getBoolean(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public boolean getBoolean(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getDouble(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public double getDouble(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getString(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public String getString(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getArray(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Array getArray(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getObject(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Object getObject(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeIntegerFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public int executeIntegerFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeDoubleFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public double executeDoubleFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeStringFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public String executeStringFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeBooleanFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public boolean executeBooleanFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeArrayFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public V8Array executeArrayFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeObjectFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public V8Object executeObjectFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public Object executeFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeVoidFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public void executeVoidFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, int)
+         */
+        @Override
+        public V8Object add(final V8Key key, final int value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, boolean)
+         */
+        @Override
+        public V8Object add(final V8Key key, final boolean value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, double)
+         */
+        @Override
+        public V8Object add(final V8Key key, final double value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, java.lang.String)
+         */
+        @Override
+        public V8Object add(final V8Key key, final String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Value)
+         */
+        @Override
+        public V8Object add(final V8Key key, final V8Value value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#addUndefined(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Object addUndefined(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#addNull(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Object addNull(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#get(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public Object get(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#addAll(java.lang.String[], java.lang.Object[])
+         */
+        @Override
+        public V8Object addAll(final String[] keys, final Object[] values) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getValues(java.lang.String[], int[], java.lang.Object[])
+         */
+        @Override
+        public void getValues(final String[] keys, final int[] types, final Object[] values) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#addUndefined(java.lang.String)
@@ -814,6 +1237,51 @@ public class V8Array extends V8Object {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaMethod(com.eclipsesource.v8.V8ArgumentsCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaMethod(final V8ArgumentsCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaIntMethod(com.eclipsesource.v8.JavaIntCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaIntMethod(final JavaIntCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaDoubleMethod(com.eclipsesource.v8.JavaDoubleCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaDoubleMethod(final JavaDoubleCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaBooleanMethod(com.eclipsesource.v8.JavaBooleanCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaBooleanMethod(final JavaBooleanCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaStringMethod(com.eclipsesource.v8.JavaStringCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaStringMethod(final JavaStringCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#registerJavaMethod(java.lang.Object, java.lang.String, java.lang.String, java.lang.Class[], boolean)
@@ -1057,6 +1525,78 @@ public class V8Array extends V8Object {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#pushAll(int[], int, int)
+         */
+        @Override
+        public V8Array pushAll(final int[] values, final int offset, final int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#pushAll(double[], int, int)
+         */
+        @Override
+        public V8Array pushAll(final double[] values, final int offset, final int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#pushAll(boolean[], int, int)
+         */
+        @Override
+        public V8Array pushAll(final boolean[] values, final int offset, final int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#pushAll(java.lang.String[], int, int)
+         */
+        @Override
+        public V8Array pushAll(final String[] values, final int offset, final int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#set(int, int[], int, int)
+         */
+        @Override
+        public V8Array set(final int index, final int[] values, final int offset, final int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#set(int, double[], int, int)
+         */
+        @Override
+        public V8Array set(final int index, final double[] values, final int offset, final int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#set(int, boolean[], int, int)
+         */
+        @Override
+        public V8Array set(final int index, final boolean[] values, final int offset, final int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Array#set(int, java.lang.String[], int, int)
+         */
+        @Override
+        public V8Array set(final int index, final String[] values, final int offset, final int length) {
+            throw new UnsupportedOperationException();
+        }
+
     }
 
 }
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A V8ArrayBuffer represents a JavaScript ArrayBuffer. The contents
+ * of the buffer can be accessed from Java as a direct ByteBuffer, without
+ * copying. An ArrayBuffer can also be created on top of an existing direct
+ * ByteBuffer, in which case JavaScript reads and writes the Java memory.
+ *
+ * ArrayBuffers created from Java are backed by a direct ByteBuffer, which
+ * the runtime references until V8 garbage collects the ArrayBuffer. The
+ * ByteBuffers returned for them share that memory and keep it alive.
+ * ArrayBuffers allocated by JavaScript use memory owned by V8, which is
+ * freed once the ArrayBuffer is garbage collected or transferred. A
+ * ByteBuffer returned for such an ArrayBuffer must not be used after the
+ * V8ArrayBuffer has been released or transferred.
+ */
+public class V8ArrayBuffer extends V8Object {
+
+    /**
+     * Creates a new V8ArrayBuffer with the given capacity. The memory is
+     * allocated as a direct ByteBuffer and initialized to zero.
+     *
+     * @param v8 The runtime on which to create the ArrayBuffer.
+     * @param capacity The size of the buffer in bytes.
+     */
+    public V8ArrayBuffer(final V8 v8, final int capacity) {
+        super(v8, ByteBuffer.allocateDirect(capacity));
+    }
+
+    /**
+     * Creates a new V8ArrayBuffer on top of a direct ByteBuffer. The
+     * contents are not copied, JavaScript reads and writes the memory
+     * of the ByteBuffer directly. The runtime keeps a reference to the
+     * ByteBuffer until V8 garbage collects the ArrayBuffer, since
+     * JavaScript may still reference it after this V8ArrayBuffer is
+     * released.
+     *
+     * @param v8 The runtime on which to create the ArrayBuffer.
+     * @param byteBuffer The direct ByteBuffer to share with JavaScript.
+     */
+    public V8ArrayBuffer(final V8 v8, final ByteBuffer byteBuffer) {
+        super(v8, checkDirect(byteBuffer));
+    }
+
+    V8ArrayBuffer(final V8 v8) {
+        super(v8);
+    }
+
+    @Override
+    protected long initialize(final long runtimePtr, final Object data) {
+        long handle;
+        if (data instanceof ByteBuffer) {
+            ByteBuffer byteBuffer = (ByteBuffer) data;
+            handle = v8.initNewV8ArrayBuffer(runtimePtr, byteBuffer, byteBuffer.capacity());
+        } else {
+            return super.initialize(runtimePtr, data);
+        }
+        v8.addObjRef(this);
+        released = false;
+        return handle;
+    }
+
+    @Override
+    protected V8Value createTwin() {
+        return new V8ArrayBuffer(v8);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.V8Object#twin()
+     */
+    @Override
+    public V8ArrayBuffer twin() {
+        return (V8ArrayBuffer) super.twin();
+    }
+
+    /**
+     * Returns the size of this buffer in bytes.
+     *
+     * @return The size of the buffer.
+     */
+    public int getByteLength() {
+        v8.checkThread();
+        checkReleased();
+        return v8.getArrayBufferByteLength(v8.getV8RuntimePtr(), objectHandle);
+    }
+
+    /**
+     * Returns a direct ByteBuffer that shares its memory with this
+     * ArrayBuffer. Changes made through the ByteBuffer are visible to
+     * JavaScript and vice versa. The ByteBuffer uses the native byte
+     * order, which is the byte order used by typed arrays.
+     *
+     * If the memory is owned by V8, the ByteBuffer must not be used after
+     * this V8ArrayBuffer has been released or transferred.
+     *
+     * @return A ByteBuffer view of this ArrayBuffer.
+     */
+    public ByteBuffer getBackingStore() {
+        v8.checkThread();
+        checkReleased();
+        ByteBuffer owner = v8.getArrayBufferOwner(v8.getV8RuntimePtr(), objectHandle);
+        ByteBuffer result;
+        if (owner != null) {
+            // a view of the owner keeps the memory alive
+            result = owner.duplicate();
+            result.clear();
+        } else {
+            result = v8.getArrayBufferBackingStore(v8.getV8RuntimePtr(), objectHandle);
+        }
+        return result.order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Transfers the contents of this ArrayBuffer out of the runtime. The
+     * ArrayBuffer is detached: its length becomes zero, and JavaScript can
+     * no longer access the memory through it or through any of its views.
+     * The returned ByteBuffer is the only owner of the contents.
+     *
+     * If this ArrayBuffer was created from Java, the memory is handed
+     * over without copying and the runtime no longer references it.
+     * Otherwise the contents are copied to a new direct ByteBuffer and the
+     * memory held by V8 is freed.
+     *
+     * @return A direct ByteBuffer with the contents of this ArrayBuffer.
+     */
+    public ByteBuffer transfer() {
+        v8.checkThread();
+        checkReleased();
+        // detaches the buffer and releases the reference of the runtime to its owner
+        ByteBuffer owner = v8.transferArrayBuffer(v8.getV8RuntimePtr(), objectHandle);
+        ByteBuffer result;
+        if (owner != null) {
+            result = owner.duplicate();
+            result.clear();
+        } else {
+            ByteBuffer contents = v8.getArrayBufferBackingStore(v8.getV8RuntimePtr(), objectHandle);
+            result = ByteBuffer.allocateDirect(contents.capacity());
+            result.put(contents);
+            result.clear();
+            if (!v8.detachArrayBuffer(v8.getV8RuntimePtr(), objectHandle)) {
+                throw new IllegalStateException("ArrayBuffer cannot be detached.");
+            }
+        }
+        return result.order(ByteOrder.nativeOrder());
+    }
+
+    private static ByteBuffer checkDirect(final ByteBuffer byteBuffer) {
+        if (!byteBuffer.isDirect()) {
+            throw new IllegalArgumentException("ByteBuffer must be a direct ByteBuffer.");
+        }
+        return byteBuffer;
+    }
+
+}
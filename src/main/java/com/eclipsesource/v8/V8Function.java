@@ -10,6 +10,8 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * A V8Value that represents a JavaScript function.
  * JavaScript functions cannot be created in Java, but
@@ -47,7 +49,7 @@ public class V8Function extends V8Object {
         long[] pointers = v8.initNewV8Function(runtimePtr);
         // position 0 is the object reference, position 1 is the function reference
         v8.createAndRegisterMethodDescriptor(javaCallback, pointers[1]);
-        v8.addObjRef();
+        v8.addObjRef(this);
         released = false;
         return pointers[0];
     }
@@ -80,4 +82,74 @@ public class V8Function extends V8Object {
         return v8.executeFunction(v8.getV8RuntimePtr(), receiverHandle, objectHandle, parametersHandle);
     }
 
+    /**
+     * Invoke the JavaScript function on the current runtime. If the function
+     * does not return within the timeout, it is terminated and a
+     * V8ScriptTimeoutException is thrown. The runtime can be used afterwards.
+     *
+     * @param receiver The object on which to call the function on. The
+     * receiver will be mapped to 'this' in JavaScript. If receiver is null
+     * or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     * @param timeout The maximum time the function may run.
+     * @param unit The unit of the timeout.
+     *
+     * @return The result of JavaScript function.
+     */
+    public Object call(final V8Object receiver, final V8Array parameters, final long timeout, final TimeUnit unit) {
+        v8.checkThread();
+        checkReleased();
+        V8Watchdog.Deadline deadline = v8.startTimeout(timeout, unit);
+        try {
+            return call(receiver, parameters);
+        } catch (RuntimeException e) {
+            if (v8.isTimedOut(deadline)) {
+                throw new V8ScriptTimeoutException(null, unit.toMillis(timeout), e);
+            }
+            throw e;
+        } finally {
+            v8.stopTimeout(deadline);
+        }
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime with integer
+     * parameters. The parameters are passed directly to the function,
+     * without creating a V8Array.
+     *
+     * @param receiver The object on which to call the function on. The
+     * receiver will be mapped to 'this' in JavaScript. If receiver is null
+     * or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public Object callInt(V8Object receiver, final int... parameters) {
+        v8.checkThread();
+        checkReleased();
+        receiver = receiver != null ? receiver : v8;
+        long receiverHandle = receiver.isUndefined() ? v8.objectHandle : receiver.objectHandle;
+        return v8.executeFunction(v8.getV8RuntimePtr(), receiverHandle, objectHandle, parameters);
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime with double
+     * parameters. The parameters are passed directly to the function,
+     * without creating a V8Array.
+     *
+     * @param receiver The object on which to call the function on. The
+     * receiver will be mapped to 'this' in JavaScript. If receiver is null
+     * or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     *
+     * @return The result of JavaScript function.
+     */
+    public Object callDouble(V8Object receiver, final double... parameters) {
+        v8.checkThread();
+        checkReleased();
+        receiver = receiver != null ? receiver : v8;
+        long receiverHandle = receiver.isUndefined() ? v8.objectHandle : receiver.objectHandle;
+        return v8.executeFunction(v8.getV8RuntimePtr(), receiverHandle, objectHandle, parameters);
+    }
+
 }
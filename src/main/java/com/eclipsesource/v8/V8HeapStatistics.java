@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A snapshot of the JavaScript heap of a runtime. V8HeapStatistics
+ * are obtained using V8#getHeapStatistics. All sizes are in bytes.
+ */
+public class V8HeapStatistics {
+
+    private final long totalHeapSize;
+    private final long totalHeapSizeExecutable;
+    private final long totalPhysicalSize;
+    private final long totalAvailableSize;
+    private final long usedHeapSize;
+    private final long heapSizeLimit;
+    private final long externalMemory;
+
+    V8HeapStatistics(final long[] statistics) {
+        totalHeapSize = statistics[0];
+        totalHeapSizeExecutable = statistics[1];
+        totalPhysicalSize = statistics[2];
+        totalAvailableSize = statistics[3];
+        usedHeapSize = statistics[4];
+        heapSizeLimit = statistics[5];
+        externalMemory = statistics[6];
+    }
+
+    /**
+     * Returns the size of the heap reserved by the runtime.
+     *
+     * @return The total heap size.
+     */
+    public long getTotalHeapSize() {
+        return totalHeapSize;
+    }
+
+    /**
+     * Returns the size of the heap reserved for executable code.
+     *
+     * @return The total size of the executable heap.
+     */
+    public long getTotalHeapSizeExecutable() {
+        return totalHeapSizeExecutable;
+    }
+
+    /**
+     * Returns the amount of physical memory committed for the heap.
+     *
+     * @return The total physical size.
+     */
+    public long getTotalPhysicalSize() {
+        return totalPhysicalSize;
+    }
+
+    /**
+     * Returns the amount of memory that can still be allocated
+     * before the heap limit is reached.
+     *
+     * @return The total available size.
+     */
+    public long getTotalAvailableSize() {
+        return totalAvailableSize;
+    }
+
+    /**
+     * Returns the size of the live and not yet collected objects
+     * on the heap.
+     *
+     * @return The used heap size.
+     */
+    public long getUsedHeapSize() {
+        return usedHeapSize;
+    }
+
+    /**
+     * Returns the maximum size the heap can grow to.
+     *
+     * @return The heap size limit.
+     */
+    public long getHeapSizeLimit() {
+        return heapSizeLimit;
+    }
+
+    /**
+     * Returns the amount of memory outside of the heap that is kept
+     * alive by JavaScript objects, such as the backing stores of
+     * ArrayBuffers, as reported to V8.
+     *
+     * @return The external memory size.
+     */
+    public long getExternalMemory() {
+        return externalMemory;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "V8HeapStatistics [usedHeapSize=" + usedHeapSize + ", totalHeapSize=" + totalHeapSize + ", heapSizeLimit=" + heapSizeLimit
+                + ", externalMemory=" + externalMemory + "]";
+    }
+
+}
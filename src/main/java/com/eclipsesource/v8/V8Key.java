@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A property name that has been converted to an internalized JavaScript
+ * String once, and can be used to access properties and invoke functions
+ * on any V8Object of the same runtime. Using a V8Key instead of a Java
+ * String avoids converting and hashing the name on every access, which
+ * is useful when the same properties are accessed in a tight loop.
+ *
+ * V8Keys have native resources and must be released when they
+ * are no longer needed.
+ */
+public final class V8Key implements Releasable {
+
+    private final V8     v8;
+    private final String name;
+    private long         handle;
+    private boolean      released;
+
+    /**
+     * Creates a new V8Key for the given property name.
+     *
+     * @param v8 The runtime on which to create the key. The key can only
+     * be used with V8Objects of this runtime.
+     * @param name The property name.
+     */
+    public V8Key(final V8 v8, final String name) {
+        if (name == null) {
+            throw new NullPointerException("Name is null");
+        }
+        v8.checkThread();
+        this.v8 = v8;
+        this.name = name;
+        handle = v8.initNewV8Key(v8.getV8RuntimePtr(), name);
+        v8.addObjRef();
+    }
+
+    /**
+     * Returns the property name of this key.
+     *
+     * @return The property name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the runtime this key was created on.
+     *
+     * @return Returns the V8 runtime this key is associated with.
+     */
+    public V8 getRuntime() {
+        return v8;
+    }
+
+    /**
+     * Determine if the native resources have been released. Once released
+     * a V8Key can no longer be used.
+     *
+     * @return Returns true if this key has been released, false otherwise.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.Releasable#release()
+     */
+    @Override
+    public void release() {
+        v8.checkThread();
+        if (!released) {
+            released = true;
+            v8.releaseKey(v8.getV8RuntimePtr(), handle);
+            v8.releaseObjRef();
+        }
+    }
+
+    long getHandle(final V8 runtime) {
+        if (released) {
+            throw new IllegalStateException("Object released");
+        }
+        if (runtime != v8) {
+            throw new IllegalArgumentException("V8Key belongs to a different runtime");
+        }
+        return handle;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
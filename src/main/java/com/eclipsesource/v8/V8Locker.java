@@ -10,15 +10,32 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Represents a lock for a V8Runtime that can be moved between
  * threads. When instantiated, the lock is automatically assigned
  * to the current thread. If another thread wishes to acquire the
  * lock, it must first be released.
+ *
+ * By default, acquiring a lock held by another thread throws an Error.
+ * In blocking mode, threads wait for the lock instead and are granted
+ * the lock in the order they asked for it. The locker keeps track of
+ * how long threads waited for and held the lock.
  */
 public class V8Locker {
 
-    private Thread thread = null;
+    private volatile Thread          thread         = null;
+    private boolean                  blocking       = false;
+    private final LinkedList<Thread> waiters        = new LinkedList<Thread>();
+    private long                     acquiredTime   = 0;
+    private long                     acquireCount   = 0;
+    private long                     contendedCount = 0;
+    private long                     totalWaitTime  = 0;
+    private long                     maxWaitTime    = 0;
+    private long                     totalHoldTime  = 0;
+    private long                     maxHoldTime    = 0;
 
     V8Locker() {
         acquire();
@@ -26,14 +43,104 @@ public class V8Locker {
 
     /**
      * Acquire the lock if it's currently not acquired by another
-     * thread. If it's current held by another thread, an
-     * Error will be thrown.
+     * thread. If it's current held by another thread, or other threads
+     * are waiting for it, an Error will be thrown, unless the locker is
+     * in blocking mode, in which case the calling thread waits until the
+     * lock is released and all threads that asked for it before were served.
      */
     public synchronized void acquire() {
-        if ((thread != null) && (thread != Thread.currentThread())) {
-            throw new Error("Invalid V8 thread access.");
+        if (!blocking) {
+            if (thread == Thread.currentThread()) {
+                return;
+            }
+            // a free lock belongs to the first waiting thread
+            if ((thread != null) || !waiters.isEmpty()) {
+                throw new Error("Invalid V8 thread access.");
+            }
+            lock(Thread.currentThread(), 0);
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                waitForLock(0);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
         }
-        thread = Thread.currentThread();
+    }
+
+    /**
+     * Acquire the lock, waiting up to the given timeout for another
+     * thread to release it. Waiting threads are granted the lock in
+     * the order they asked for it, regardless of the blocking mode.
+     *
+     * @param timeout The maximum time to wait for the lock.
+     * @param unit The unit of the timeout.
+     *
+     * @return Returns true if the lock was acquired, false if the
+     * timeout elapsed first.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public synchronized boolean tryAcquire(final long timeout, final TimeUnit unit) throws InterruptedException {
+        if (timeout <= 0) {
+            if (thread == Thread.currentThread()) {
+                return true;
+            }
+            if ((thread != null) || !waiters.isEmpty()) {
+                return false;
+            }
+            lock(Thread.currentThread(), 0);
+            return true;
+        }
+        return waitForLock(Math.max(1, unit.toNanos(timeout)));
+    }
+
+    private boolean waitForLock(final long timeoutNanos) throws InterruptedException {
+        Thread current = Thread.currentThread();
+        if (thread == current) {
+            return true;
+        }
+        long start = System.nanoTime();
+        if ((thread == null) && waiters.isEmpty()) {
+            lock(current, 0);
+            return true;
+        }
+        waiters.add(current);
+        try {
+            while ((thread != null) || (waiters.getFirst() != current)) {
+                if (timeoutNanos == 0) {
+                    wait();
+                    continue;
+                }
+                long remaining = timeoutNanos - (System.nanoTime() - start);
+                if (remaining <= 0) {
+                    return false;
+                }
+                wait(remaining / 1000000, (int) (remaining % 1000000));
+            }
+        } finally {
+            waiters.remove(current);
+            if (thread != current) {
+                notifyAll();
+            }
+        }
+        contendedCount++;
+        lock(current, System.nanoTime() - start);
+        return true;
+    }
+
+    private void lock(final Thread current, final long waitTime) {
+        thread = current;
+        acquiredTime = System.nanoTime();
+        acquireCount++;
+        totalWaitTime += waitTime;
+        maxWaitTime = Math.max(maxWaitTime, waitTime);
     }
 
     /**
@@ -43,7 +150,11 @@ public class V8Locker {
      */
     public synchronized void release() {
         checkThread();
+        long holdTime = System.nanoTime() - acquiredTime;
+        totalHoldTime += holdTime;
+        maxHoldTime = Math.max(maxHoldTime, holdTime);
         thread = null;
+        notifyAll();
     }
 
     /**
@@ -67,4 +178,97 @@ public class V8Locker {
         return thread == Thread.currentThread();
     }
 
+    /**
+     * Sets whether V8Locker#acquire waits for the lock when it's held
+     * by another thread, rather than throwing an Error.
+     *
+     * @param blocking True to wait for the lock, false to fail fast.
+     */
+    public synchronized void setBlocking(final boolean blocking) {
+        this.blocking = blocking;
+    }
+
+    /**
+     * Determine if V8Locker#acquire waits for the lock when it's held
+     * by another thread.
+     *
+     * @return Returns true if the locker is in blocking mode, false otherwise.
+     */
+    public synchronized boolean isBlocking() {
+        return blocking;
+    }
+
+    /**
+     * Returns the number of threads currently waiting for the lock.
+     *
+     * @return The number of waiting threads.
+     */
+    public synchronized int getQueueLength() {
+        return waiters.size();
+    }
+
+    /**
+     * Returns the number of times the lock was acquired.
+     *
+     * @return The number of acquisitions.
+     */
+    public synchronized long getAcquireCount() {
+        return acquireCount;
+    }
+
+    /**
+     * Returns the number of times the lock was acquired after
+     * waiting for another thread to release it.
+     *
+     * @return The number of contended acquisitions.
+     */
+    public synchronized long getContendedCount() {
+        return contendedCount;
+    }
+
+    /**
+     * Returns the time threads spent waiting for the lock.
+     *
+     * @param unit The unit to return the time in.
+     *
+     * @return The total wait time.
+     */
+    public synchronized long getTotalWaitTime(final TimeUnit unit) {
+        return unit.convert(totalWaitTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the longest time a thread waited for the lock.
+     *
+     * @param unit The unit to return the time in.
+     *
+     * @return The maximum wait time.
+     */
+    public synchronized long getMaxWaitTime(final TimeUnit unit) {
+        return unit.convert(maxWaitTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the time threads held the lock before releasing it.
+     *
+     * @param unit The unit to return the time in.
+     *
+     * @return The total hold time.
+     */
+    public synchronized long getTotalHoldTime(final TimeUnit unit) {
+        return unit.convert(totalHoldTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the longest time a thread held the lock before
+     * releasing it.
+     *
+     * @param unit The unit to return the time in.
+     *
+     * @return The maximum hold time.
+     */
+    public synchronized long getMaxHoldTime(final TimeUnit unit) {
+        return unit.convert(maxHoldTime, TimeUnit.NANOSECONDS);
+    }
+
 }
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * An exception used to indicate that a script was terminated because
+ * the heap of its runtime exceeded the memory limit. The runtime can
+ * still be used after the exception was thrown.
+ */
+@SuppressWarnings("serial")
+public class V8MemoryLimitException extends V8RuntimeException {
+
+    V8MemoryLimitException(final String message, final Throwable cause) {
+        super(message);
+        if (cause != null) {
+            initCause(cause);
+        }
+    }
+
+}
@@ -38,6 +38,7 @@ public class V8Object extends V8Value {
         if (v8 != null) {
             this.v8.checkThread();
             objectHandle = initialize(this.v8.getV8RuntimePtr(), data);
+            this.v8.trackValue(this);
         }
     }
 
@@ -135,6 +136,32 @@ public class V8Object extends V8Value {
         return V8.getUndefined();
     }
 
+    /**
+     * Returns the values associated with a set of keys using a single
+     * native call. For each key, the type of the value is stored in types
+     * and the value in values, as returned by get(String). If the
+     * types or values arrays are not large enough to hold the results,
+     * an IndexOutOfBoundsException is thrown. V8Values that are returned
+     * must be released.
+     *
+     * @param keys The keys whose values to return.
+     * @param types The array to put the types of the values in.
+     * @param values The array to put the values in.
+     */
+    public void getValues(final String[] keys, final int[] types, final Object[] values) {
+        v8.checkThread();
+        checkReleased();
+        if ((keys.length > types.length) || (keys.length > values.length)) {
+            throw new IndexOutOfBoundsException();
+        }
+        v8.getValues(v8.getV8RuntimePtr(), objectHandle, keys, types, values);
+        for (int i = 0; i < keys.length; i++) {
+            if (types[i] == UNDEFINED) {
+                values[i] = V8.getUndefined();
+            }
+        }
+    }
+
     /**
      * Returns the integer value associated with this key. If the value
      * associated with this key does not exist, or if it's not an integer, then
@@ -472,6 +499,55 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Adds a set of key value pairs to the receiver using a single
+     * native call. Values can be Integers, Doubles, Booleans, Strings,
+     * V8Values, null or undefined.
+     *
+     * @param keys The keys to associate the values with.
+     * @param values The values to add. values[i] is associated with keys[i].
+     *
+     * @return The receiver.
+     */
+    public V8Object addAll(final String[] keys, final Object[] values) {
+        v8.checkThread();
+        checkReleased();
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Number of keys and values do not match");
+        }
+        int[] types = new int[values.length];
+        double[] numbers = new double[values.length];
+        long[] handles = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                types[i] = NULL;
+            } else if (value instanceof Integer) {
+                types[i] = INTEGER;
+                numbers[i] = (Integer) value;
+            } else if (value instanceof Double) {
+                types[i] = DOUBLE;
+                numbers[i] = (Double) value;
+            } else if (value instanceof Boolean) {
+                types[i] = BOOLEAN;
+                numbers[i] = ((Boolean) value) ? 1 : 0;
+            } else if (value instanceof String) {
+                types[i] = STRING;
+            } else if (value instanceof V8Value) {
+                if (((V8Value) value).isUndefined()) {
+                    types[i] = UNDEFINED;
+                } else {
+                    types[i] = V8_OBJECT;
+                    handles[i] = ((V8Value) value).getHandle();
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+            }
+        }
+        v8.addAll(v8.getV8RuntimePtr(), objectHandle, keys, types, numbers, handles, values);
+        return this;
+    }
+
     /**
      * Associate UNDEFINED with the given key.
      *
@@ -501,147 +577,655 @@ public class V8Object extends V8Value {
     }
 
     /**
-     * Sets the prototype of the receiver.
-     *
-     * @param value The prototype to associate with this V8Object.
+     * Determine if a key/value pair with this key exists in
+     * the Object.
      *
-     * @return The receiver.
+     * @param key The key to check
+     * @return True if the key exists, false otherwise.
      */
-    public V8Object setPrototype(final V8Object value) {
+    public boolean contains(final V8Key key) {
         v8.checkThread();
         checkReleased();
-        v8.setPrototype(v8.getV8RuntimePtr(), objectHandle, value.getHandle());
-        return this;
+        return v8.containsWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
     }
 
     /**
-     * Register a Java method as a JavaScript function. When the JS Function is invoked
-     * the Java method will be called.
+     * Returns the type of the value associated with this Key, or
+     * UNDEFINED if the key does not exist. Types are specified as
+     * integer constants. The types are all defined in V8Value.
      *
-     * @param callback The JavaCallback to call when the JSFunction is invoked.
-     * @param jsFunctionName The name of the JSFunction.
+     * @param key The key whose type to lookup.
      *
-     * @return The receiver.
+     * @return The Type of the value associated with this key
      */
-    public V8Object registerJavaMethod(final JavaCallback callback, final String jsFunctionName) {
+    public int getType(final V8Key key) {
         v8.checkThread();
         checkReleased();
-        v8.registerCallback(callback, getHandle(), jsFunctionName);
-        return this;
+        return v8.getTypeWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
     }
 
     /**
-     * Register a void Java method as a JavaScript function. When the JS Function is invoked
-     * the Java method will be called.
+     * Returns the value associated with this key. Values are Java Objects.
+     * If the value is a primitive, its boxed type is returned. If the
+     * value is a V8Value, it must be released.
      *
-     * @param callback The JavaVoidCallback to call when the JSFunction is invoked.
-     * @param jsFunctionName The name of the JSFunction.
+     * @param key The key whose value to return.
      *
-     * @return The receiver.
+     * @return The value associated with this key.
      */
-    public V8Object registerJavaMethod(final JavaVoidCallback callback, final String jsFunctionName) {
+    public Object get(final V8Key key) {
+        int type = getType(key);
+        switch (type) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return getInteger(key);
+            case DOUBLE:
+                return getDouble(key);
+            case BOOLEAN:
+                return getBoolean(key);
+            case STRING:
+                return getString(key);
+            case V8_ARRAY:
+            case V8_TYPED_ARRAY:
+                return getArray(key);
+            case V8_FUNCTION:
+            case V8_OBJECT:
+                return getObject(key);
+        }
+        return V8.getUndefined();
+    }
+
+    /**
+     * Returns the integer value associated with this key. If the value
+     * associated with this key does not exist, or if it's not an integer, then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The key whose value to return.
+     *
+     * @return The integer value associated with this key, or V8ResultUndefined
+     * if the key does not exist or the value is not an integer.
+     */
+    public int getInteger(final V8Key key) {
         v8.checkThread();
         checkReleased();
-        v8.registerVoidCallback(callback, getHandle(), jsFunctionName);
-        return this;
+        return v8.getIntegerWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
     }
 
     /**
-     * Register a Java method reflectively given it's name a signature.
+     * Returns the boolean value associated with this key. If the value
+     * associated with this key does not exist, or if it's not a boolean, then
+     * V8ResultUndefined exception is thrown.
      *
-     * @param object The Java Object on which the method is defined.
-     * @param methodName The name of the method to register.
-     * @param jsFunctionName The name of the JavaScript function to register the
-     * method with.
-     * @param parameterTypes The parameter types of the method.
+     * @param key The key whose value to return.
      *
-     * @return The receiver.
+     * @return The boolean value associated with this key, or V8ResultUndefined
+     * if the key does not exist or the value is not a boolean.
      */
-    public V8Object registerJavaMethod(final Object object, final String methodName, final String jsFunctionName, final Class<?>[] parameterTypes) {
-        return registerJavaMethod(object, methodName, jsFunctionName, parameterTypes, false);
+    public boolean getBoolean(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        return v8.getBooleanWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
     }
 
     /**
-     * Register a Java method reflectively given it's name a signature. The option to include
-     * the JS Object in the callback can be specified by setting includeReceiver true.
+     * Returns the double value associated with this key. If the value
+     * associated with this key does not exist, or if it's not a double, then
+     * V8ResultUndefined exception is thrown.
      *
-     * @param object The Java Object on which the method is defined.
-     * @param methodName The name of the method to register.
-     * @param jsFunctionName The name of the JavaScript function to register the
-     * method with.
-     * @param parameterTypes The parameter types of the method.
-     * @param includeReceiver True if the first parameter should include the JS Object,
-     * false otherwise.
+     * @param key The key whose value to return.
      *
-     * @return The receiver.
+     * @return The double value associated with this key, or V8ResultUndefined
+     * if the key does not exist or the value is not a double.
      */
-    public V8Object registerJavaMethod(final Object object, final String methodName, final String jsFunctionName, final Class<?>[] parameterTypes, final boolean includeReceiver) {
+    public double getDouble(final V8Key key) {
         v8.checkThread();
         checkReleased();
-        try {
-            Method method = object.getClass().getMethod(methodName, parameterTypes);
-            method.setAccessible(true);
-            v8.registerCallback(object, method, getHandle(), jsFunctionName, includeReceiver);
-        } catch (NoSuchMethodException e) {
-            throw new IllegalStateException(e);
-        } catch (SecurityException e) {
-            throw new IllegalStateException(e);
-        }
-        return this;
+        return v8.getDoubleWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
     }
 
-    /*
-     * (non-Javadoc)
-     * @see java.lang.Object#toString()
+    /**
+     * Returns the String value associated with this key. If the value
+     * associated with this key does not exist, or if it's not a String, then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The key whose value to return.
+     *
+     * @return The String value associated with this key, or V8ResultUndefined
+     * if the key does not exist or the value is not a String.
      */
-    @Override
-    public String toString() {
+    public String getString(final V8Key key) {
         v8.checkThread();
         checkReleased();
-        return v8.toString(v8.getV8RuntimePtr(), getHandle());
+        return v8.getStringWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
     }
 
-    static class Undefined extends V8Object {
-
-        public Undefined() {
+    /**
+     * Returns the V8Array value associated with this key. If the value
+     * associated with this key does not exist then UNDEFINED is returned.
+     * If the value exists but is not an array then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The key whose value to return.
+     *
+     * @return The V8Array value associated with this key.
+     */
+    public V8Array getArray(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        Object result = v8.getWithKey(v8.getV8RuntimePtr(), V8_ARRAY, objectHandle, getKeyHandle(key));
+        if ((result == null) || (result instanceof V8Array)) {
+            return (V8Array) result;
         }
+        throw new V8ResultUndefined();
+    }
 
-        /*
-         * (non-Javadoc)
-         * @see com.eclipsesource.v8.V8Value#isUndefined()
-         */
-        @Override
-        public boolean isUndefined() {
-            return true;
+    /**
+     * Returns the V8Object value associated with this key. If the value
+     * associated with this key does not exist then UNDEFINED is returned.
+     * If the value exists but is not a JS Object then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The key whose value to return.
+     *
+     * @return The V8Object value associated with this key.
+     */
+    public V8Object getObject(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        Object result = v8.getWithKey(v8.getV8RuntimePtr(), V8_OBJECT, objectHandle, getKeyHandle(key));
+        if ((result == null) || (result instanceof V8Object)) {
+            return (V8Object) result;
         }
+        throw new V8ResultUndefined();
+    }
 
-        /*
-         * (non-Javadoc)
-         * @see com.eclipsesource.v8.V8Value#isReleased()
-         */
-        @Override
-        public boolean isReleased() {
-            return false;
-        }
+    /**
+     * Invoke a JavaScript function and return the result as an integer. If the
+     * result is not an integer, or does not exist, then V8ResultUndefined is thrown.
+     *
+     * @param key The name of the JS Function to call.
+     *
+     * @param parameters The parameters to pass to the function. Parameters must be released.
+     *
+     * @return An integer representing the result of the function call or V8ResultUndefined
+     * if the result is not an integer.
+     */
+    public int executeIntegerFunction(final V8Key key, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        return v8.executeIntegerFunctionWithKey(v8.getV8RuntimePtr(), getHandle(), getKeyHandle(key), parametersHandle);
+    }
 
-        /*
-         * (non-Javadoc)
-         * @see com.eclipsesource.v8.V8Value#release()
-         */
-        @Override
-        public void release() {
-        }
+    /**
+     * Invoke a JavaScript function and return the result as a double. If the
+     * result is not a double, or does not exist, then V8ResultUndefined is thrown.
+     *
+     * @param key The name of the JS Function to call.
+     *
+     * @param parameters The parameters to pass to the function. Parameters must be released.
+     *
+     * @return A double representing the result of the function call or V8ResultUndefined
+     * if the result is not a double.
+     */
+    public double executeDoubleFunction(final V8Key key, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        return v8.executeDoubleFunctionWithKey(v8.getV8RuntimePtr(), getHandle(), getKeyHandle(key), parametersHandle);
+    }
 
-        /*
-         * (non-Javadoc)
-         * @see com.eclipsesource.v8.V8Object#twin()
-         */
-        @Override
-        public Undefined twin() {
-            return (Undefined) super.twin();
-        }
+    /**
+     * Invoke a JavaScript function and return the result as a String. If the
+     * result is not a String, or does not exist, then V8ResultUndefined is thrown.
+     *
+     * @param key The name of the JS Function to call.
+     *
+     * @param parameters The parameters to pass to the function. Parameters must be released.
+     *
+     * @return A String representing the result of the function call or V8ResultUndefined
+     * if the result is not a String.
+     */
+    public String executeStringFunction(final V8Key key, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        return v8.executeStringFunctionWithKey(v8.getV8RuntimePtr(), getHandle(), getKeyHandle(key), parametersHandle);
+    }
 
-        /*
+    /**
+     * Invoke a JavaScript function and return the result as a boolean. If the
+     * result is not a boolean, or does not exist, then V8ResultUndefined is thrown.
+     *
+     * @param key The name of the JS Function to call.
+     *
+     * @param parameters The parameters to pass to the function. Parameters must be released.
+     *
+     * @return A boolean representing the result of the function call or V8ResultUndefined
+     * if the result is not a boolean.
+     */
+    public boolean executeBooleanFunction(final V8Key key, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        return v8.executeBooleanFunctionWithKey(v8.getV8RuntimePtr(), getHandle(), getKeyHandle(key), parametersHandle);
+    }
+
+    /**
+     * Invoke a JavaScript function and return the result as a V8Array. If the
+     * result is not a V8Array then V8ResultUndefined is thrown.
+     *
+     * @param key The name of the JS Function to call.
+     *
+     * @param parameters The parameters to pass to the function. Parameters must be released.
+     *
+     * @return A V8Array representing the result of the function call or V8ResultUndefined
+     * if the result is not a V8Array. The result must be released.
+     */
+    public V8Array executeArrayFunction(final V8Key key, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        Object result = v8.executeFunctionWithKey(v8.getV8RuntimePtr(), V8_ARRAY, objectHandle, getKeyHandle(key), parametersHandle);
+        if (result instanceof V8Array) {
+            return (V8Array) result;
+        }
+        throw new V8ResultUndefined();
+    }
+
+    /**
+     * Invoke a JavaScript function and return the result as a V8Object. If the
+     * result is not a V8Object then V8ResultUndefined is thrown.
+     *
+     * @param key The name of the JS Function to call.
+     *
+     * @param parameters The parameters to pass to the function. Parameters must be released.
+     *
+     * @return A V8Object representing the result of the function call or V8ResultUndefined
+     * if the result is not a V8Object. The result must be released.
+     */
+    public V8Object executeObjectFunction(final V8Key key, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        Object result = v8.executeFunctionWithKey(v8.getV8RuntimePtr(), V8_OBJECT, objectHandle, getKeyHandle(key), parametersHandle);
+        if (result instanceof V8Object) {
+            return (V8Object) result;
+        }
+        throw new V8ResultUndefined();
+    }
+
+    /**
+     * Invoke a JavaScript function and return the result as a Java Object.
+     *
+     * @param key The name of the JS Function to call.
+     *
+     * @param parameters The parameters to pass to the function. Parameters must be released.
+     *
+     * @return A Java Object representing the result of the function call.
+     */
+    public Object executeFunction(final V8Key key, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        return v8.executeFunctionWithKey(v8.getV8RuntimePtr(), UNKNOWN, objectHandle, getKeyHandle(key), parametersHandle);
+    }
+
+    /**
+     * Invokes a JavaScript function which does not return a result.
+     *
+     * @param key The name of the JS Function to call.
+     *
+     * @param parameters The parameters to pass to the function. Parameters must be released.
+     */
+    public void executeVoidFunction(final V8Key key, final V8Array parameters) {
+        v8.checkThread();
+        checkReleased();
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        v8.executeVoidFunctionWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key), parametersHandle);
+    }
+
+    /**
+     * Adds a key value pair to the receiver where the value is an integer.
+     *
+     * @param key The key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final int value) {
+        v8.checkThread();
+        checkReleased();
+        v8.addIntegerWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key), value);
+        return this;
+    }
+
+    /**
+     * Adds a key value pair to the receiver where the value is a boolean.
+     *
+     * @param key The key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final boolean value) {
+        v8.checkThread();
+        checkReleased();
+        v8.addBooleanWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key), value);
+        return this;
+    }
+
+    /**
+     * Adds a key value pair to the receiver where the value is a double.
+     *
+     * @param key The key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final double value) {
+        v8.checkThread();
+        checkReleased();
+        v8.addDoubleWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key), value);
+        return this;
+    }
+
+    /**
+     * Adds a key value pair to the receiver where the value is a String.
+     *
+     * @param key The key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final String value) {
+        v8.checkThread();
+        checkReleased();
+        if (value == null) {
+            v8.addNullWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
+        } else {
+            v8.addStringWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key), value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a key value pair to the receiver where the value is a V8Value.
+     *
+     * @param key The key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final V8Value value) {
+        v8.checkThread();
+        checkReleased();
+        if (value == null) {
+            v8.addNullWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
+        } else if (value.equals(V8.getUndefined())) {
+            v8.addUndefinedWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
+        } else {
+            v8.addObjectWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key), value.getHandle());
+        }
+        return this;
+    }
+
+    /**
+     * Associate UNDEFINED with the given key.
+     *
+     * @param key The key to associate UNDEFINED with.
+     *
+     * @return The receiver.
+     */
+    public V8Object addUndefined(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        v8.addUndefinedWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
+        return this;
+    }
+
+    /**
+     * Associate NULL with the given key.
+     *
+     * @param key The key to associate NULL with.
+     *
+     * @return The receiver.
+     */
+    public V8Object addNull(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        v8.addNullWithKey(v8.getV8RuntimePtr(), objectHandle, getKeyHandle(key));
+        return this;
+    }
+
+    private long getKeyHandle(final V8Key key) {
+        return key.getHandle(v8);
+    }
+
+    /**
+     * Sets the prototype of the receiver.
+     *
+     * @param value The prototype to associate with this V8Object.
+     *
+     * @return The receiver.
+     */
+    public V8Object setPrototype(final V8Object value) {
+        v8.checkThread();
+        checkReleased();
+        v8.setPrototype(v8.getV8RuntimePtr(), objectHandle, value.getHandle());
+        return this;
+    }
+
+    /**
+     * Register a Java method as a JavaScript function. When the JS Function is invoked
+     * the Java method will be called.
+     *
+     * @param callback The JavaCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerJavaMethod(final JavaCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a void Java method as a JavaScript function. When the JS Function is invoked
+     * the Java method will be called.
+     *
+     * @param callback The JavaVoidCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerJavaMethod(final JavaVoidCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerVoidCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method that returns an int as a JavaScript function. When the JS
+     * Function is invoked the Java method will be called.
+     *
+     * @param callback The JavaIntCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerJavaIntMethod(final JavaIntCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerIntCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method that returns a double as a JavaScript function. When the JS
+     * Function is invoked the Java method will be called.
+     *
+     * @param callback The JavaDoubleCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerJavaDoubleMethod(final JavaDoubleCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerDoubleCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method that returns a boolean as a JavaScript function. When the JS
+     * Function is invoked the Java method will be called.
+     *
+     * @param callback The JavaBooleanCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerJavaBooleanMethod(final JavaBooleanCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerBooleanCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method that returns a String as a JavaScript function. When the JS
+     * Function is invoked the Java method will be called.
+     *
+     * @param callback The JavaStringCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerJavaStringMethod(final JavaStringCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerStringCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method as a JavaScript function. When the JS Function is invoked
+     * the Java method will be called. The arguments are passed to the callback without
+     * copying them into a V8Array.
+     *
+     * @param callback The V8ArgumentsCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerJavaMethod(final V8ArgumentsCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerArgumentsCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method reflectively given it's name a signature.
+     *
+     * @param object The Java Object on which the method is defined.
+     * @param methodName The name of the method to register.
+     * @param jsFunctionName The name of the JavaScript function to register the
+     * method with.
+     * @param parameterTypes The parameter types of the method.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerJavaMethod(final Object object, final String methodName, final String jsFunctionName, final Class<?>[] parameterTypes) {
+        return registerJavaMethod(object, methodName, jsFunctionName, parameterTypes, false);
+    }
+
+    /**
+     * Register a Java method reflectively given it's name a signature. The option to include
+     * the JS Object in the callback can be specified by setting includeReceiver true.
+     *
+     * @param object The Java Object on which the method is defined.
+     * @param methodName The name of the method to register.
+     * @param jsFunctionName The name of the JavaScript function to register the
+     * method with.
+     * @param parameterTypes The parameter types of the method.
+     * @param includeReceiver True if the first parameter should include the JS Object,
+     * false otherwise.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerJavaMethod(final Object object, final String methodName, final String jsFunctionName, final Class<?>[] parameterTypes, final boolean includeReceiver) {
+        v8.checkThread();
+        checkReleased();
+        try {
+            Method method = object.getClass().getMethod(methodName, parameterTypes);
+            method.setAccessible(true);
+            v8.registerCallback(object, method, getHandle(), jsFunctionName, includeReceiver);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        } catch (SecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        return this;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        v8.checkThread();
+        checkReleased();
+        return v8.toString(v8.getV8RuntimePtr(), getHandle());
+    }
+
+    static class Undefined extends V8Object {
+
+        public Undefined() {
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Value#isUndefined()
+         */
+        @Override
+        public boolean isUndefined() {
+            return true;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Value#isReleased()
+         */
+        @Override
+        public boolean isReleased() {
+            return false;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Value#release()
+         */
+        @Override
+        public void release() {
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#twin()
+         */
+        @Override
+        public Undefined twin() {
+            return (Undefined) super.twin();
+        }
+
+        /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#toString()
          */
@@ -725,6 +1309,240 @@ public class V8Object extends V8Value {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#contains(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public boolean contains(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getType(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public int getType(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getInteger(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public int getInteger(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getBoolean(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public boolean getBoolean(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getDouble(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public double getDouble(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getString(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public String getString(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getArray(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Array getArray(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getObject(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Object getObject(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeIntegerFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public int executeIntegerFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeDoubleFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public double executeDoubleFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeStringFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public String executeStringFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeBooleanFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public boolean executeBooleanFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeArrayFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public V8Array executeArrayFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeObjectFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public V8Object executeObjectFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public Object executeFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#executeVoidFunction(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Array)
+         */
+        @Override
+        public void executeVoidFunction(final V8Key key, final V8Array parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, int)
+         */
+        @Override
+        public V8Object add(final V8Key key, final int value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, boolean)
+         */
+        @Override
+        public V8Object add(final V8Key key, final boolean value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, double)
+         */
+        @Override
+        public V8Object add(final V8Key key, final double value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, java.lang.String)
+         */
+        @Override
+        public V8Object add(final V8Key key, final String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Value)
+         */
+        @Override
+        public V8Object add(final V8Key key, final V8Value value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#addUndefined(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Object addUndefined(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#addNull(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Object addNull(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#get(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public Object get(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#addAll(java.lang.String[], java.lang.Object[])
+         */
+        @Override
+        public V8Object addAll(final String[] keys, final Object[] values) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getValues(java.lang.String[], int[], java.lang.Object[])
+         */
+        @Override
+        public void getValues(final String[] keys, final int[] types, final Object[] values) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#addUndefined(java.lang.String)
@@ -896,6 +1714,51 @@ public class V8Object extends V8Value {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaMethod(com.eclipsesource.v8.V8ArgumentsCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaMethod(final V8ArgumentsCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaIntMethod(com.eclipsesource.v8.JavaIntCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaIntMethod(final JavaIntCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaDoubleMethod(com.eclipsesource.v8.JavaDoubleCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaDoubleMethod(final JavaDoubleCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaBooleanMethod(com.eclipsesource.v8.JavaBooleanCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaBooleanMethod(final JavaBooleanCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerJavaStringMethod(com.eclipsesource.v8.JavaStringCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerJavaStringMethod(final JavaStringCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#registerJavaMethod(java.lang.Object, java.lang.String, java.lang.String, java.lang.Class[], boolean)
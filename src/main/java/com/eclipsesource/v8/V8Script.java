@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A JavaScript script that has been compiled on a runtime, but not yet
+ * executed. A V8Script can be executed any number of times without
+ * being parsed or compiled again. V8Scripts are created using
+ * V8#compileScript.
+ *
+ * V8Scripts have native resources and must be released when they
+ * are no longer needed. A V8Script is not a JavaScript value, so it
+ * cannot be passed to JavaScript or stored in a V8Object or V8Array.
+ */
+public class V8Script implements Releasable {
+
+    private final V8      v8;
+    private final long    scriptHandle;
+    private final boolean codeCacheRejected;
+    private boolean       released = false;
+
+    V8.ValueReference     valueReference;
+
+    V8Script(final V8 v8, final long scriptHandle, final boolean codeCacheRejected) {
+        this.v8 = v8;
+        this.scriptHandle = scriptHandle;
+        this.codeCacheRejected = codeCacheRejected;
+        v8.addObjRef();
+        v8.trackScript(this);
+    }
+
+    /**
+     * Returns the runtime this script was compiled on.
+     *
+     * @return The runtime of this script.
+     */
+    public V8 getRuntime() {
+        return v8;
+    }
+
+    /**
+     * Determines if the native resources of this script have been released.
+     *
+     * @return Returns true if this script has been released, false otherwise.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    long getHandle() {
+        return scriptHandle;
+    }
+
+    /**
+     * Determines if V8 rejected the code cache that was supplied when this
+     * script was compiled. Scripts compiled without a code cache always
+     * return false.
+     *
+     * @return True if a code cache was supplied and rejected, false otherwise.
+     */
+    public boolean isCodeCacheRejected() {
+        return codeCacheRejected;
+    }
+
+    /**
+     * Executes the script and returns the result as an integer.
+     * If the result is not an integer, then a V8ResultUndefinedException is thrown.
+     *
+     * @return The result of the script as an integer, or V8ResultUndefinedException if
+     * the result is not an integer.
+     */
+    public int executeInteger() {
+        v8.checkThread();
+        checkReleased();
+        v8.processReferenceQueue();
+        return v8.runIntegerScript(v8.getV8RuntimePtr(), scriptHandle);
+    }
+
+    /**
+     * Executes the script and returns the result as a double.
+     * If the result is not a double, then a V8ResultUndefinedException is thrown.
+     *
+     * @return The result of the script as a double, or V8ResultUndefinedException if
+     * the result is not a double.
+     */
+    public double executeDouble() {
+        v8.checkThread();
+        checkReleased();
+        v8.processReferenceQueue();
+        return v8.runDoubleScript(v8.getV8RuntimePtr(), scriptHandle);
+    }
+
+    /**
+     * Executes the script and returns the result as a String.
+     * If the result is not a String, then a V8ResultUndefinedException is thrown.
+     *
+     * @return The result of the script as a String, or V8ResultUndefinedException if
+     * the result is not a String.
+     */
+    public String executeString() {
+        v8.checkThread();
+        checkReleased();
+        v8.processReferenceQueue();
+        return v8.runStringScript(v8.getV8RuntimePtr(), scriptHandle);
+    }
+
+    /**
+     * Executes the script and returns the result as a boolean.
+     * If the result is not a boolean, then a V8ResultUndefinedException is thrown.
+     *
+     * @return The result of the script as a boolean, or V8ResultUndefinedException if
+     * the result is not a boolean.
+     */
+    public boolean executeBoolean() {
+        v8.checkThread();
+        checkReleased();
+        v8.processReferenceQueue();
+        return v8.runBooleanScript(v8.getV8RuntimePtr(), scriptHandle);
+    }
+
+    /**
+     * Executes the script and returns the result as a V8Object.
+     * If the result is not a V8Object, then a V8ResultUndefinedException is thrown.
+     *
+     * @return The result of the script as a V8Object, or V8ResultUndefinedException if
+     * the result is not a V8Object. The result must be released.
+     */
+    public V8Object executeObject() {
+        Object result = execute(V8Value.V8_OBJECT);
+        if (result instanceof V8Object) {
+            return (V8Object) result;
+        }
+        throw new V8ResultUndefined();
+    }
+
+    /**
+     * Executes the script and returns the result as a V8Array.
+     * If the result is not a V8Array, then a V8ResultUndefinedException is thrown.
+     *
+     * @return The result of the script as a V8Array, or V8ResultUndefinedException if
+     * the result is not a V8Array. The result must be released.
+     */
+    public V8Array executeArray() {
+        Object result = execute(V8Value.V8_ARRAY);
+        if (result instanceof V8Array) {
+            return (V8Array) result;
+        }
+        throw new V8ResultUndefined();
+    }
+
+    /**
+     * Executes the script and returns the result as a Java Object.
+     * Primitives will be boxed.
+     *
+     * @return The result of the script as a Java Object.
+     */
+    public Object execute() {
+        return execute(V8Value.UNKNOWN);
+    }
+
+    /**
+     * Executes the script and ignores the result.
+     */
+    public void executeVoid() {
+        v8.checkThread();
+        checkReleased();
+        v8.processReferenceQueue();
+        v8.runVoidScript(v8.getV8RuntimePtr(), scriptHandle);
+    }
+
+    private Object execute(final int expectedType) {
+        v8.checkThread();
+        checkReleased();
+        v8.processReferenceQueue();
+        return v8.runScript(v8.getV8RuntimePtr(), expectedType, scriptHandle);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.Releasable#release()
+     */
+    @Override
+    public void release() {
+        v8.checkThread();
+        if (!released) {
+            released = true;
+            v8.releaseScript(v8.getV8RuntimePtr(), scriptHandle);
+            v8.releaseObjRef(this);
+        }
+    }
+
+    private void checkReleased() {
+        if (released) {
+            throw new IllegalStateException("Script released");
+        }
+    }
+
+}
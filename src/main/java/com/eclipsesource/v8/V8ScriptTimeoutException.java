@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * An exception used to indicate that a script was terminated because it
+ * did not complete within its timeout. The runtime can still be used after
+ * the exception was thrown.
+ */
+@SuppressWarnings("serial")
+public class V8ScriptTimeoutException extends V8ScriptExecutionException {
+
+    private final long timeout;
+
+    V8ScriptTimeoutException(final String fileName, final long timeout, final Throwable cause) {
+        super(fileName, 0, "Script execution timed out after " + timeout + " ms", null, 0, 0, null, cause);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the timeout that expired.
+     *
+     * @return The timeout in milliseconds.
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+}
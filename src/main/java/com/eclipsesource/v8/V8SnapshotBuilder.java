@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Creates startup snapshots. A startup snapshot captures the state of a
+ * runtime after a set of warm-up scripts have been executed. Runtimes
+ * created from the snapshot using V8#createV8Runtime(String, String, byte[])
+ * start with that state, so libraries do not need to be loaded again.
+ *
+ * The warm-up scripts are executed in a fresh runtime without a global
+ * alias and without any Java callbacks, so they must only depend on
+ * JavaScript built-ins.
+ */
+public class V8SnapshotBuilder {
+
+    private final StringBuilder source = new StringBuilder();
+
+    /**
+     * Adds a script that is executed before the snapshot is taken.
+     * Scripts are executed in the order they are added.
+     *
+     * @param script The script to execute.
+     *
+     * @return This builder.
+     */
+    public V8SnapshotBuilder addScript(final String script) {
+        if (script == null) {
+            throw new NullPointerException("Script is null");
+        }
+        source.append(script).append(";\n");
+        return this;
+    }
+
+    /**
+     * Executes the warm-up scripts and creates the startup snapshot.
+     * The native libraries are loaded if they are not already loaded.
+     *
+     * @return The startup snapshot.
+     */
+    public byte[] build() {
+        return build(null);
+    }
+
+    /**
+     * Executes the warm-up scripts and creates the startup snapshot.
+     * The native libraries are loaded if they are not already loaded.
+     *
+     * @param tempDirectory The name of the directory to extract the native
+     * libraries too.
+     *
+     * @return The startup snapshot.
+     */
+    public byte[] build(final String tempDirectory) {
+        return V8.createSnapshot(source.toString(), tempDirectory);
+    }
+
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A V8TypedArray represents a JavaScript typed array, a view of
+ * a V8ArrayBuffer. The elements can be accessed from Java as a direct
+ * ByteBuffer, without copying.
+ *
+ * The element type is one of the typed array constants defined in V8Value,
+ * for example V8Value#INT_8_ARRAY or V8Value#FLOAT_64_ARRAY.
+ */
+public class V8TypedArray extends V8Array {
+
+    /**
+     * Creates a new V8TypedArray that views a region of the given buffer.
+     *
+     * @param v8 The runtime on which to create the typed array.
+     * @param buffer The buffer that holds the elements.
+     * @param type The element type of the typed array.
+     * @param offset The offset in the buffer, in bytes, of the first element.
+     * The offset must be a multiple of the element size.
+     * @param size The number of elements in the typed array.
+     */
+    public V8TypedArray(final V8 v8, final V8ArrayBuffer buffer, final int type, final int offset, final int size) {
+        super(v8, new ArrayData(buffer, type, offset, size));
+    }
+
+    V8TypedArray(final V8 v8) {
+        super(v8);
+    }
+
+    @Override
+    protected long initialize(final long runtimePtr, final Object data) {
+        if (data == null) {
+            return super.initialize(runtimePtr, data);
+        }
+        ArrayData arrayData = (ArrayData) data;
+        checkArrayData(arrayData);
+        long handle = v8.initNewV8TypedArray(runtimePtr, arrayData.buffer.getHandle(), arrayData.type, arrayData.offset, arrayData.size);
+        v8.addObjRef(this);
+        released = false;
+        return handle;
+    }
+
+    @Override
+    protected V8Value createTwin() {
+        return new V8TypedArray(v8);
+    }
+
+    @Override
+    void checkSetRange(final int index, final int length) {
+        super.checkSetRange(index, length);
+        // typed arrays cannot grow, V8 would silently drop the values past the end
+        int size = length();
+        if (index > (size - length)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length + ", Size: " + size);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.V8Array#twin()
+     */
+    @Override
+    public V8TypedArray twin() {
+        return (V8TypedArray) super.twin();
+    }
+
+    /**
+     * Returns the element type of this typed array, for example
+     * V8Value#INT_16_ARRAY.
+     *
+     * @return The element type of this typed array.
+     */
+    public int getArrayType() {
+        v8.checkThread();
+        checkReleased();
+        return v8.getTypedArrayType(v8.getV8RuntimePtr(), objectHandle);
+    }
+
+    /**
+     * Returns the V8ArrayBuffer this typed array is a view of.
+     * The V8ArrayBuffer must be released.
+     *
+     * @return The buffer backing this typed array.
+     */
+    public V8ArrayBuffer getBuffer() {
+        v8.checkThread();
+        checkReleased();
+        return (V8ArrayBuffer) v8.getTypedArrayBuffer(v8.getV8RuntimePtr(), objectHandle);
+    }
+
+    /**
+     * Returns a direct ByteBuffer that shares its memory with the region of
+     * the V8ArrayBuffer viewed by this typed array. Changes made through the
+     * ByteBuffer are visible to JavaScript and vice versa. The ByteBuffer
+     * uses the native byte order.
+     *
+     * If the memory of the buffer is owned by V8, the ByteBuffer must not be
+     * used after this typed array has been released or its buffer has been
+     * transferred.
+     *
+     * @return A ByteBuffer view of the elements of this typed array.
+     */
+    public ByteBuffer getByteBuffer() {
+        v8.checkThread();
+        checkReleased();
+        ByteBuffer result = v8.getTypedArrayByteBuffer(v8.getV8RuntimePtr(), objectHandle);
+        ByteBuffer owner = v8.getArrayBufferOwner(v8.getV8RuntimePtr(), objectHandle);
+        if (owner != null) {
+            // a slice of the owner keeps the memory alive
+            int offset = v8.getTypedArrayByteOffset(v8.getV8RuntimePtr(), objectHandle);
+            ByteBuffer view = owner.duplicate();
+            view.limit(offset + result.capacity());
+            view.position(offset);
+            result = view.slice();
+        }
+        return result.order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the size in bytes of an element of the given type.
+     *
+     * @param type The element type of a typed array.
+     *
+     * @return The size of one element in bytes.
+     */
+    public static int getStructureSize(final int type) {
+        switch (type) {
+            case V8Value.INT_8_ARRAY:
+            case V8Value.UNSIGNED_INT_8_ARRAY:
+            case V8Value.UNSIGNED_INT_8_CLAMPED_ARRAY:
+                return 1;
+            case V8Value.INT_16_ARRAY:
+            case V8Value.UNSIGNED_INT_16_ARRAY:
+                return 2;
+            case V8Value.INT_32_ARRAY:
+            case V8Value.UNSIGNED_INT_32_ARRAY:
+            case V8Value.FLOAT_32_ARRAY:
+                return 4;
+            case V8Value.FLOAT_64_ARRAY:
+                return 8;
+            default:
+                throw new IllegalArgumentException("Cannot create a typed array of type " + type);
+        }
+    }
+
+    private void checkArrayData(final ArrayData arrayData) {
+        arrayData.buffer.checkReleased();
+        if (arrayData.buffer.getRuntime() != v8) {
+            throw new IllegalArgumentException("Buffer belongs to a different runtime");
+        }
+        int structureSize = getStructureSize(arrayData.type);
+        if ((arrayData.offset < 0) || ((arrayData.offset % structureSize) != 0)) {
+            throw new IllegalArgumentException("Offset must be a multiple of the element size " + structureSize);
+        }
+        if (arrayData.size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        long byteLength = arrayData.buffer.getByteLength();
+        if ((arrayData.offset + ((long) arrayData.size * structureSize)) > byteLength) {
+            throw new IllegalArgumentException("Typed array exceeds the bounds of the buffer");
+        }
+    }
+
+    private static class ArrayData {
+        private final V8ArrayBuffer buffer;
+        private final int           type;
+        private final int           offset;
+        private final int           size;
+
+        ArrayData(final V8ArrayBuffer buffer, final int type, final int offset, final int size) {
+            this.buffer = buffer;
+            this.type = type;
+            this.offset = offset;
+            this.size = size;
+        }
+    }
+
+}
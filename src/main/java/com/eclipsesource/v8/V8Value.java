@@ -25,22 +25,35 @@ package com.eclipsesource.v8;
  */
 abstract public class V8Value implements Releasable {
 
-    public static final int NULL           = 0;
-    public static final int UNKNOWN        = 0;
-    public static final int INTEGER        = 1;
-    public static final int DOUBLE         = 2;
-    public static final int BOOLEAN        = 3;
-    public static final int STRING         = 4;
-    public static final int V8_ARRAY       = 5;
-    public static final int V8_OBJECT      = 6;
-    public static final int V8_FUNCTION    = 7;
-    public static final int V8_TYPED_ARRAY = 8;
-    public static final int UNDEFINED      = 99;
+    public static final int NULL                         = 0;
+    public static final int UNKNOWN                      = 0;
+    public static final int INTEGER                      = 1;
+    public static final int DOUBLE                       = 2;
+    public static final int BOOLEAN                      = 3;
+    public static final int STRING                       = 4;
+    public static final int V8_ARRAY                     = 5;
+    public static final int V8_OBJECT                    = 6;
+    public static final int V8_FUNCTION                  = 7;
+    public static final int V8_TYPED_ARRAY               = 8;
+    public static final int UNDEFINED                    = 99;
+
+    // Element types of V8TypedArrays
+    public static final int INT_8_ARRAY                  = 9;
+    public static final int UNSIGNED_INT_8_ARRAY         = 10;
+    public static final int UNSIGNED_INT_8_CLAMPED_ARRAY = 11;
+    public static final int INT_16_ARRAY                 = 12;
+    public static final int UNSIGNED_INT_16_ARRAY        = 13;
+    public static final int INT_32_ARRAY                 = INTEGER;
+    public static final int UNSIGNED_INT_32_ARRAY        = 14;
+    public static final int FLOAT_32_ARRAY               = 15;
+    public static final int FLOAT_64_ARRAY               = DOUBLE;
 
     protected V8      v8;
     protected long    objectHandle;
     protected boolean released = true;
 
+    V8.ValueReference valueReference;
+
     protected V8Value() {
         super();
     }
@@ -55,7 +68,7 @@ abstract public class V8Value implements Releasable {
 
     protected long initialize(final long runtimePtr, final Object data) {
         long objectHandle = v8.initNewV8Object(runtimePtr);
-        v8.addObjRef();
+        v8.addObjRef(this);
         released = false;
         return objectHandle;
     }
@@ -111,7 +124,7 @@ abstract public class V8Value implements Releasable {
         if (!released) {
             released = true;
             v8.release(v8.getV8RuntimePtr(), objectHandle);
-            v8.releaseObjRef();
+            v8.releaseObjRef(this);
         }
     }
 
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.util.PriorityQueue;
+
+/**
+ * A single daemon thread that terminates the execution of runtimes whose
+ * time budget has expired. The watchdog is shared by all the runtimes in
+ * the process, so a timed call does not need a thread of its own.
+ */
+final class V8Watchdog implements Runnable {
+
+    private static V8Watchdog              instance;
+
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<Deadline>();
+    private long                          sequence  = 0;
+
+    static class Deadline implements Comparable<Deadline> {
+        private final V8   runtime;
+        private final long v8RuntimePtr;
+        private final long time;
+        private final long order;
+        private boolean    expired;
+
+        private Deadline(final V8 runtime, final long time, final long order) {
+            this.runtime = runtime;
+            v8RuntimePtr = runtime.getV8RuntimePtr();
+            this.time = time;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(final Deadline other) {
+            if (time != other.time) {
+                return (time - other.time) < 0 ? -1 : 1;
+            }
+            return order < other.order ? -1 : (order == other.order ? 0 : 1);
+        }
+    }
+
+    private V8Watchdog() {
+    }
+
+    static synchronized V8Watchdog getInstance() {
+        if (instance == null) {
+            instance = new V8Watchdog();
+            Thread thread = new Thread(instance, "J2V8 Watchdog");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return instance;
+    }
+
+    /**
+     * Schedules the termination of the runtime's current execution once
+     * the timeout has elapsed.
+     */
+    synchronized Deadline schedule(final V8 runtime, final long timeoutNanos) {
+        Deadline deadline = new Deadline(runtime, System.nanoTime() + timeoutNanos, sequence++);
+        deadlines.add(deadline);
+        if (deadlines.peek() == deadline) {
+            notifyAll();
+        }
+        return deadline;
+    }
+
+    /**
+     * Returns true if the deadline has expired, in which case the runtime's
+     * execution was terminated.
+     */
+    synchronized boolean isExpired(final Deadline deadline) {
+        return deadline.expired;
+    }
+
+    /**
+     * Cancels a deadline. Returns true if the deadline had already expired,
+     * in which case the runtime's execution was terminated.
+     */
+    synchronized boolean cancel(final Deadline deadline) {
+        if (deadline.expired) {
+            return true;
+        }
+        deadlines.remove(deadline);
+        return false;
+    }
+
+    @Override
+    public synchronized void run() {
+        while (true) {
+            try {
+                Deadline next = deadlines.peek();
+                if (next == null) {
+                    wait();
+                    continue;
+                }
+                long remaining = next.time - System.nanoTime();
+                if (remaining > 0) {
+                    wait(remaining / 1000000, (int) (remaining % 1000000));
+                    continue;
+                }
+                deadlines.poll();
+                next.expired = true;
+                next.runtime.terminateExecution(next.v8RuntimePtr);
+            } catch (InterruptedException e) {
+                // the watchdog lives as long as the process
+            }
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.eclipsesource.v8.ReferenceHandler;
+import com.eclipsesource.v8.Releasable;
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * A memory manager that tracks all V8Values created on a runtime while
+ * the manager is active. When the manager is released, all the tracked
+ * values that have not been released yet are released with a single
+ * call into the native runtime.
+ *
+ * Values that should outlive the manager can be excluded using
+ * MemoryManager#persist. Persisted values must be released by the caller.
+ *
+ * A MemoryManager can only be used on the thread that owns the runtime.
+ */
+public class MemoryManager implements Releasable {
+
+    private V8                            v8;
+    private Map<V8Value, V8Value>         references = new IdentityHashMap<V8Value, V8Value>();
+    private MemoryManagerReferenceHandler memoryManagerReferenceHandler;
+    private boolean                       releasing  = false;
+    private boolean                       released   = false;
+
+    /**
+     * Creates and activates a new MemoryManager. All V8Values created
+     * on the runtime after this point are tracked by the manager.
+     *
+     * @param v8 The runtime to track the values of.
+     */
+    public MemoryManager(final V8 v8) {
+        this.v8 = v8;
+        memoryManagerReferenceHandler = new MemoryManagerReferenceHandler();
+        v8.addReferenceHandler(memoryManagerReferenceHandler);
+    }
+
+    /**
+     * Returns the number of values tracked by this manager that
+     * have not been released yet.
+     *
+     * @return The number of tracked values.
+     */
+    public int getObjectReferenceCount() {
+        checkReleased();
+        return references.size();
+    }
+
+    /**
+     * Excludes a value from this manager. The value will not be released
+     * when the manager is released, and must be released by the caller.
+     *
+     * @param object The value to persist.
+     */
+    public void persist(final V8Value object) {
+        v8.getLocker().checkThread();
+        checkReleased();
+        references.remove(object);
+    }
+
+    /**
+     * Determine if this manager has been released.
+     *
+     * @return Returns true if this manager has been released, false otherwise.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Releases all the values tracked by this manager and stops tracking
+     * new values. Once released, the manager can no longer be used.
+     */
+    @Override
+    public void release() {
+        v8.getLocker().checkThread();
+        if (released) {
+            return;
+        }
+        releasing = true;
+        try {
+            v8.removeReferenceHandler(memoryManagerReferenceHandler);
+            V8Value[] values = references.keySet().toArray(new V8Value[references.size()]);
+            v8.releaseValues(values);
+            references.clear();
+        } finally {
+            releasing = false;
+            released = true;
+        }
+    }
+
+    private void checkReleased() {
+        if (released) {
+            throw new IllegalStateException("Memory manager released");
+        }
+    }
+
+    private class MemoryManagerReferenceHandler implements ReferenceHandler {
+
+        @Override
+        public void v8HandleCreated(final V8Value object) {
+            references.put(object, object);
+        }
+
+        @Override
+        public void v8HandleDisposed(final V8Value object) {
+            if (!releasing) {
+                references.remove(object);
+            }
+        }
+    }
+
+}
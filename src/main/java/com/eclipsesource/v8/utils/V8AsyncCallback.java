@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+/**
+ * Classes can implement this interface to be notified when a call
+ * made through a V8AsyncRuntime completes. The callback of a call that
+ * was executed is invoked on the thread of the runtime, so it should
+ * return quickly and must not wait for other calls on the same runtime.
+ * The callback of a call that was cancelled before it was executed is
+ * invoked on the thread that cancelled it, for example the thread that
+ * released the V8AsyncRuntime.
+ *
+ * @param <T> The type of the result.
+ */
+public interface V8AsyncCallback<T> {
+
+    /**
+     * Called with the result of a call that completed normally.
+     *
+     * @param result The result of the call.
+     */
+    public void onSuccess(final T result);
+
+    /**
+     * Called when a call failed or was cancelled.
+     *
+     * @param error The exception thrown by the call, or a
+     * CancellationException if the call was cancelled.
+     */
+    public void onFailure(final Throwable error);
+
+}
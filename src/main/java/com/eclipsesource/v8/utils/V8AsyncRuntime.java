@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.eclipsesource.v8.Releasable;
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * An asynchronous facade for a V8 runtime. The runtime is owned by a
+ * dedicated thread, and calls are queued to that thread instead of
+ * being made on the calling thread. Every call returns immediately with
+ * a Future, and can optionally notify a V8AsyncCallback when it completes.
+ *
+ * Results are converted to plain Java values on the runtime thread:
+ * primitives are boxed, arrays become Lists and objects become Maps, so
+ * no V8Value ever leaves the runtime thread. Parameters are converted
+ * the other way using V8ObjectUtils.
+ *
+ * The inbox of the runtime is bounded. A call made while the inbox is
+ * full is rejected with a RejectedExecutionException rather than
+ * blocking the caller.
+ */
+public class V8AsyncRuntime implements Releasable {
+
+    private final V8ExecutorService executor;
+
+    /**
+     * Create a new asynchronous runtime with an empty V8 runtime.
+     *
+     * @param maxQueueSize The maximum number of calls waiting to be
+     * executed, or 0 if the inbox should be unbounded.
+     */
+    public V8AsyncRuntime(final int maxQueueSize) {
+        this(null, maxQueueSize);
+    }
+
+    /**
+     * Create a new asynchronous runtime. The setup is run on the
+     * V8 runtime before any call is executed.
+     *
+     * @param setup The setup to run on the runtime, or null.
+     * @param maxQueueSize The maximum number of calls waiting to be
+     * executed, or 0 if the inbox should be unbounded.
+     */
+    public V8AsyncRuntime(final V8Runnable setup, final int maxQueueSize) {
+        executor = new V8ExecutorService(1, setup);
+        executor.setMaxQueueSize(maxQueueSize);
+    }
+
+    /**
+     * Executes a script on the runtime.
+     *
+     * @param script The script to execute.
+     *
+     * @return A Future with the result of the script, converted to a Java value.
+     */
+    public Future<Object> executeScriptAsync(final String script) {
+        return executeScriptAsync(script, null);
+    }
+
+    /**
+     * Executes a script on the runtime and notifies the callback with
+     * the result.
+     *
+     * @param script The script to execute.
+     * @param callback The callback to notify, or null.
+     *
+     * @return A Future with the result of the script, converted to a Java value.
+     */
+    public Future<Object> executeScriptAsync(final String script, final V8AsyncCallback<Object> callback) {
+        return submit(new V8Callable<Object>() {
+
+            @Override
+            public Object call(final V8 runtime) {
+                return toJavaValue(runtime.executeScript(script));
+            }
+        }, callback);
+    }
+
+    /**
+     * Calls a global function on the runtime.
+     *
+     * @param name The name of the function to call.
+     * @param parameters The parameters to pass to the function.
+     *
+     * @return A Future with the result of the function, converted to a Java value.
+     */
+    public Future<Object> callAsync(final String name, final Object... parameters) {
+        return callAsync((V8AsyncCallback<Object>) null, name, parameters);
+    }
+
+    /**
+     * Calls a global function on the runtime and notifies the callback
+     * with the result. The parameters are converted on the runtime thread,
+     * so they must not be modified until the call has completed. The
+     * callback comes first, since it would otherwise be taken for one of
+     * the parameters.
+     *
+     * @param callback The callback to notify, or null.
+     * @param name The name of the function to call.
+     * @param parameters The parameters to pass to the function.
+     *
+     * @return A Future with the result of the function, converted to a Java value.
+     */
+    public Future<Object> callAsync(final V8AsyncCallback<Object> callback, final String name, final Object... parameters) {
+        return submit(new V8Callable<Object>() {
+
+            @Override
+            public Object call(final V8 runtime) {
+                V8Array v8Parameters = V8ObjectUtils.toV8Array(runtime, Arrays.asList(parameters));
+                try {
+                    return toJavaValue(runtime.executeFunction(name, v8Parameters));
+                } finally {
+                    v8Parameters.release();
+                }
+            }
+        }, callback);
+    }
+
+    /**
+     * Runs a task on the runtime. The task must not let V8Values escape
+     * the runtime thread through its result.
+     *
+     * @param task The task to run.
+     *
+     * @return A Future with the result of the task.
+     */
+    public <T> Future<T> submit(final V8Callable<T> task) {
+        return submit(task, null);
+    }
+
+    /**
+     * Runs a task on the runtime and notifies the callback with the result.
+     * The task must not let V8Values escape the runtime thread through its
+     * result.
+     *
+     * @param task The task to run.
+     * @param callback The callback to notify, or null.
+     *
+     * @return A Future with the result of the task.
+     *
+     * @throws RejectedExecutionException If the inbox is full or the
+     * runtime has been released.
+     */
+    public <T> Future<T> submit(final V8Callable<T> task, final V8AsyncCallback<? super T> callback) {
+        CallbackTask<T> future = new CallbackTask<T>(task, callback);
+        executor.execute(future);
+        return future;
+    }
+
+    /**
+     * Returns the number of calls waiting to be executed.
+     *
+     * @return The number of queued calls.
+     */
+    public int getQueueSize() {
+        return executor.getQueueSize();
+    }
+
+    /**
+     * Releases the runtime. The script that is currently executing is
+     * terminated and calls that are still queued are cancelled. Their
+     * callbacks are notified on the thread calling this method. This
+     * method waits until the runtime has been released.
+     */
+    @Override
+    public void release() {
+        for (Runnable pending : executor.shutdownNow()) {
+            ((Future<?>) pending).cancel(false);
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Determines if the runtime has been released.
+     *
+     * @return True if the runtime has been released, false otherwise.
+     */
+    public boolean isReleased() {
+        return executor.isShutdown();
+    }
+
+    private static Object toJavaValue(final Object result) {
+        if (!(result instanceof V8Value)) {
+            return result;
+        }
+        V8Value value = (V8Value) result;
+        try {
+            if (value.isUndefined()) {
+                return V8.getUndefined();
+            } else if (value instanceof V8Array) {
+                return V8ObjectUtils.toList((V8Array) value);
+            }
+            return V8ObjectUtils.toMap((V8Object) value);
+        } finally {
+            value.release();
+        }
+    }
+
+    private static class CallbackTask<T> extends FutureTask<T> {
+
+        private final V8AsyncCallback<? super T> callback;
+
+        CallbackTask(final V8Callable<T> task, final V8AsyncCallback<? super T> callback) {
+            super(new Callable<T>() {
+
+                @Override
+                public T call() throws Exception {
+                    return task.call(V8ExecutorService.getCurrentRuntime());
+                }
+            });
+            this.callback = callback;
+        }
+
+        @Override
+        protected void done() {
+            if (callback == null) {
+                return;
+            }
+            T result;
+            try {
+                result = get();
+            } catch (ExecutionException e) {
+                callback.onFailure(e.getCause());
+                return;
+            } catch (CancellationException e) {
+                callback.onFailure(e);
+                return;
+            } catch (InterruptedException e) {
+                // the task is done, so get() does not wait
+                Thread.currentThread().interrupt();
+                return;
+            }
+            callback.onSuccess(result);
+        }
+    }
+
+}
@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedList;
+
+import com.eclipsesource.v8.JavaCallback;
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8ArrayBuffer;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8TypedArray;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * A channel that moves ArrayBuffers between runtimes, for example between
+ * V8Executors, without copying their contents. Sending an ArrayBuffer
+ * transfers its ownership to the channel: the buffer is detached in the
+ * sending runtime, so the sender can no longer read or modify it. The
+ * runtime that receives the buffer becomes its only owner.
+ *
+ * Only ArrayBuffers created from Java are moved without copying, since
+ * their memory is owned by a direct ByteBuffer. ArrayBuffers allocated
+ * by JavaScript, for example with new ArrayBuffer(length), use memory
+ * owned by V8 and are copied once when they are sent. JavaScript that
+ * sends buffers frequently should therefore create them with the
+ * allocate(length) function of the channel.
+ *
+ * A channel can be made available to JavaScript using
+ * {@link #register(V8, String)}, which adds an object with the functions
+ * allocate(length), send(buffer), trySend(buffer), receive() and poll().
+ * Typed arrays can be sent as well, in which case their whole buffer is
+ * transferred.
+ */
+public class V8BufferChannel {
+
+    private final int                    capacity;
+    private final LinkedList<ByteBuffer> buffers = new LinkedList<ByteBuffer>();
+    private boolean                      closed  = false;
+
+    /**
+     * Create a new unbounded channel.
+     */
+    public V8BufferChannel() {
+        this(0);
+    }
+
+    /**
+     * Create a new channel that holds at most the given number of buffers.
+     *
+     * @param capacity The maximum number of buffers in the channel, or 0
+     * if the channel should be unbounded.
+     */
+    public V8BufferChannel(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Transfers an ArrayBuffer to the channel, waiting while the channel
+     * is full. The ArrayBuffer is detached from its runtime.
+     *
+     * @param buffer The buffer to send.
+     */
+    public synchronized void send(final V8ArrayBuffer buffer) {
+        while (isFull() && !closed) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting to send a buffer.", e);
+            }
+        }
+        enqueue(buffer);
+    }
+
+    /**
+     * Transfers an ArrayBuffer to the channel if the channel is not full.
+     * The ArrayBuffer is only detached from its runtime if it was sent.
+     *
+     * @param buffer The buffer to send.
+     *
+     * @return True if the buffer was sent, false if the channel is full.
+     */
+    public synchronized boolean trySend(final V8ArrayBuffer buffer) {
+        if (isFull() && !closed) {
+            return false;
+        }
+        enqueue(buffer);
+        return true;
+    }
+
+    /**
+     * Takes the next buffer from the channel, waiting until one is
+     * available, and creates an ArrayBuffer for it on the given runtime.
+     * The returned V8ArrayBuffer must be released.
+     *
+     * @param runtime The runtime that receives the buffer.
+     *
+     * @return The received buffer, or null if the channel was closed
+     * and no buffers are left.
+     */
+    public V8ArrayBuffer receive(final V8 runtime) {
+        ByteBuffer byteBuffer;
+        synchronized (this) {
+            while (buffers.isEmpty() && !closed) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting to receive a buffer.", e);
+                }
+            }
+            byteBuffer = dequeue();
+        }
+        return toV8ArrayBuffer(runtime, byteBuffer);
+    }
+
+    /**
+     * Takes the next buffer from the channel, if there is one, and
+     * creates an ArrayBuffer for it on the given runtime. The returned
+     * V8ArrayBuffer must be released.
+     *
+     * @param runtime The runtime that receives the buffer.
+     *
+     * @return The received buffer, or null if the channel is empty.
+     */
+    public V8ArrayBuffer poll(final V8 runtime) {
+        ByteBuffer byteBuffer;
+        synchronized (this) {
+            byteBuffer = dequeue();
+        }
+        return toV8ArrayBuffer(runtime, byteBuffer);
+    }
+
+    /**
+     * Closes the channel. Buffers that are still in the channel can be
+     * received, but no new buffers can be sent. Threads waiting to
+     * receive a buffer are woken up once the channel is empty.
+     */
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    /**
+     * Determines if the channel has been closed.
+     *
+     * @return True if the channel has been closed, false otherwise.
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Returns the number of buffers waiting to be received.
+     *
+     * @return The number of buffers in the channel.
+     */
+    public synchronized int getSize() {
+        return buffers.size();
+    }
+
+    /**
+     * Adds an object with the given name to the global scope of the runtime,
+     * through which JavaScript can send buffers to and receive buffers
+     * from this channel.
+     *
+     * @param runtime The runtime to make the channel available to.
+     * @param name The name of the channel object.
+     */
+    public void register(final V8 runtime, final String name) {
+        V8Object channel = new V8Object(runtime);
+        try {
+            channel.registerJavaMethod(new JavaCallback() {
+
+                @Override
+                public Object invoke(final V8Object receiver, final V8Array parameters) {
+                    return new V8ArrayBuffer(runtime, parameters.getInteger(0));
+                }
+            }, "allocate");
+            channel.registerJavaMethod(new JavaCallback() {
+
+                @Override
+                public Object invoke(final V8Object receiver, final V8Array parameters) {
+                    V8ArrayBuffer buffer = getBuffer(parameters);
+                    try {
+                        send(buffer);
+                    } finally {
+                        buffer.release();
+                    }
+                    return null;
+                }
+            }, "send");
+            channel.registerJavaMethod(new JavaCallback() {
+
+                @Override
+                public Object invoke(final V8Object receiver, final V8Array parameters) {
+                    V8ArrayBuffer buffer = getBuffer(parameters);
+                    try {
+                        return trySend(buffer);
+                    } finally {
+                        buffer.release();
+                    }
+                }
+            }, "trySend");
+            channel.registerJavaMethod(new JavaCallback() {
+
+                @Override
+                public Object invoke(final V8Object receiver, final V8Array parameters) {
+                    return receive(runtime);
+                }
+            }, "receive");
+            channel.registerJavaMethod(new JavaCallback() {
+
+                @Override
+                public Object invoke(final V8Object receiver, final V8Array parameters) {
+                    return poll(runtime);
+                }
+            }, "poll");
+            runtime.add(name, channel);
+        } finally {
+            channel.release();
+        }
+    }
+
+    private boolean isFull() {
+        return (capacity > 0) && (buffers.size() >= capacity);
+    }
+
+    private void enqueue(final V8ArrayBuffer buffer) {
+        if (closed) {
+            throw new IllegalStateException("Channel has been closed.");
+        }
+        buffers.addLast(buffer.transfer());
+        notifyAll();
+    }
+
+    private ByteBuffer dequeue() {
+        if (buffers.isEmpty()) {
+            return null;
+        }
+        ByteBuffer result = buffers.removeFirst();
+        notifyAll();
+        return result;
+    }
+
+    private static V8ArrayBuffer toV8ArrayBuffer(final V8 runtime, final ByteBuffer byteBuffer) {
+        if (byteBuffer == null) {
+            return null;
+        }
+        return new V8ArrayBuffer(runtime, byteBuffer);
+    }
+
+    private static V8ArrayBuffer getBuffer(final V8Array parameters) {
+        Object parameter = parameters.get(0);
+        if (parameter instanceof V8ArrayBuffer) {
+            return (V8ArrayBuffer) parameter;
+        }
+        if (parameter instanceof V8TypedArray) {
+            try {
+                return ((V8TypedArray) parameter).getBuffer();
+            } finally {
+                ((V8TypedArray) parameter).release();
+            }
+        }
+        if (parameter instanceof V8Value) {
+            ((V8Value) parameter).release();
+        }
+        throw new IllegalArgumentException("ArrayBuffer or typed array expected.");
+    }
+
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import com.eclipsesource.v8.V8;
+
+/**
+ * Classes can implement this interface to compute a result on the
+ * runtime of a V8ExecutorService worker.
+ *
+ * @param <T> The type of the result.
+ */
+public interface V8Callable<T> {
+
+    /**
+     * Computes a result on the provided runtime.
+     *
+     * @param runtime The V8 runtime of the worker executing the task.
+     *
+     * @return The result of the task.
+     *
+     * @throws Exception If the result could not be computed.
+     */
+    public T call(final V8 runtime) throws Exception;
+
+}
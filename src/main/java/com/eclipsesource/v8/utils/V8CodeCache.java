@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Script;
+
+/**
+ * Compiles scripts using V8 code caches so that the same source does not
+ * need to be parsed and compiled by every runtime. Code caches are kept
+ * in memory, and can optionally be persisted to a directory so they survive
+ * process restarts.
+ *
+ * Code caches are keyed by a hash of the source, the build ID of the
+ * native library and the V8 version, so that caches produced by a different
+ * version of J2V8 are never used. V8 may still reject a code cache (for
+ * example, if different V8 flags are in use) in which case the cache is
+ * regenerated. The hit, miss and rejected counters can be used to determine
+ * if the cache is effective.
+ *
+ * A V8CodeCache is thread safe and can be shared between runtimes.
+ */
+public class V8CodeCache {
+
+    private static final String       CACHE_FILE_SUFFIX = ".v8cache";
+
+    private final File                directory;
+    private final Map<String, byte[]> cache             = new ConcurrentHashMap<String, byte[]>();
+    private final AtomicInteger       hits              = new AtomicInteger();
+    private final AtomicInteger       misses            = new AtomicInteger();
+    private final AtomicInteger       rejected          = new AtomicInteger();
+
+    /**
+     * Creates a code cache that is only held in memory.
+     */
+    public V8CodeCache() {
+        this(null);
+    }
+
+    /**
+     * Creates a code cache that is held in memory and persisted to
+     * the given directory. The directory will be created if it does
+     * not exist.
+     *
+     * @param directory The directory to store the code caches in, or null
+     * if the code caches should only be kept in memory.
+     */
+    public V8CodeCache(final File directory) {
+        this.directory = directory;
+        if ((directory != null) && !directory.exists()) {
+            directory.mkdirs();
+        }
+    }
+
+    /**
+     * Compiles a script on the given runtime using the code cache for
+     * the script, if one exists. If no code cache exists, or it was
+     * rejected by V8, a new code cache is produced and stored.
+     *
+     * @param runtime The runtime to compile the script on.
+     * @param script The script to compile.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script.
+     *
+     * @return The compiled script. The script must be released.
+     */
+    public V8Script compileScript(final V8 runtime, final String script, final String scriptName, final int lineNumber) {
+        String key = getKey(runtime, script);
+        byte[] codeCache = load(key);
+        if (codeCache != null) {
+            V8Script result = runtime.compileScript(script, scriptName, lineNumber, codeCache);
+            if (!result.isCodeCacheRejected()) {
+                hits.incrementAndGet();
+                return result;
+            }
+            rejected.incrementAndGet();
+            result.release();
+        } else {
+            misses.incrementAndGet();
+        }
+        codeCache = runtime.createCodeCache(script, scriptName, lineNumber);
+        if (codeCache == null) {
+            return runtime.compileScript(script, scriptName, lineNumber);
+        }
+        store(key, codeCache);
+        return runtime.compileScript(script, scriptName, lineNumber, codeCache);
+    }
+
+    /**
+     * Returns the number of times a script was compiled using
+     * a code cache.
+     *
+     * @return The number of code cache hits.
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of times a script was compiled for which
+     * no code cache existed.
+     *
+     * @return The number of code cache misses.
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of times a code cache existed for a script
+     * but was rejected by V8.
+     *
+     * @return The number of rejected code caches.
+     */
+    public int getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Removes all code caches from memory and from the cache directory,
+     * if one was specified. The counters are not reset.
+     */
+    public void clear() {
+        cache.clear();
+        if (directory == null) {
+            return;
+        }
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.getName().endsWith(CACHE_FILE_SUFFIX)) {
+                file.delete();
+            }
+        }
+    }
+
+    private byte[] load(final String key) {
+        byte[] result = cache.get(key);
+        if ((result != null) || (directory == null)) {
+            return result;
+        }
+        result = readFile(new File(directory, key + CACHE_FILE_SUFFIX));
+        if (result != null) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    private void store(final String key, final byte[] codeCache) {
+        cache.put(key, codeCache);
+        if (directory != null) {
+            writeFile(new File(directory, key + CACHE_FILE_SUFFIX), codeCache);
+        }
+    }
+
+    private static byte[] readFile(final File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        InputStream is = null;
+        try {
+            is = new FileInputStream(file);
+            ByteArrayOutputStream os = new ByteArrayOutputStream((int) file.length());
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                os.write(buffer, 0, read);
+            }
+            return os.toByteArray();
+        } catch (IOException e) {
+            // An unreadable cache file is treated as a cache miss
+            return null;
+        } finally {
+            close(is);
+        }
+    }
+
+    private static void writeFile(final File file, final byte[] data) {
+        // Write to a temporary file first so that other processes never see a partial cache
+        // and use a unique name, since processes sharing the cache directory may write the same entry
+        File tmpFile = null;
+        OutputStream os = null;
+        try {
+            tmpFile = File.createTempFile(file.getName() + ".", ".tmp", file.getParentFile());
+            os = new FileOutputStream(tmpFile);
+            os.write(data);
+            os.close();
+            os = null;
+            if (!tmpFile.renameTo(file)) {
+                file.delete();
+                tmpFile.renameTo(file);
+            }
+        } catch (IOException e) {
+            // The cache is best effort, failing to persist it is not an error
+        } finally {
+            close(os);
+            if (tmpFile != null) {
+                tmpFile.delete();
+            }
+        }
+    }
+
+    private static void close(final Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // do nothing
+        }
+    }
+
+    private static String getKey(final V8 runtime, final String script) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(script.getBytes("UTF-8"));
+            digest.update(runtime.getV8Version().getBytes("UTF-8"));
+            byte[] hash = digest.digest();
+            StringBuilder result = new StringBuilder();
+            for (byte b : hash) {
+                result.append(String.format("%02x", b));
+            }
+            result.append('-').append(runtime.getBuildID());
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
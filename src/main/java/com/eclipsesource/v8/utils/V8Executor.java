@@ -10,12 +10,18 @@
  ******************************************************************************/
 package com.eclipsesource.v8.utils;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import com.eclipsesource.v8.JavaVoidCallback;
 import com.eclipsesource.v8.Releasable;
 import com.eclipsesource.v8.V8;
 import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Key;
 import com.eclipsesource.v8.V8Object;
 
 /**
@@ -30,19 +36,31 @@ import com.eclipsesource.v8.V8Object;
  * stop any executing scripts and immediately terminate the executor. shutdown()
  * will indicate that the executor should shutdown, but this will only happen
  * once any scripts finish executing and the message queue becomes empty.
+ *
+ * Messages are posted to a lock-free queue, so producers do not contend
+ * with each other or with the executor. The queue can be bounded, in which
+ * case postMessage() blocks and offerMessage() fails while the queue is full.
+ * In batch mode, the messageHandler receives all pending messages, up to the
+ * maximum batch size, in a single call.
  */
 public class V8Executor extends Thread {
 
-    private final String         script;
-    private V8                   runtime;
-    private String               result;
-    private volatile boolean     terminated       = false;
-    private volatile boolean     shuttingDown     = false;
-    private volatile boolean     forceTerminating = false;
-    private Exception            exception        = null;
-    private LinkedList<String[]> messageQueue     = new LinkedList<String[]>();
-    private boolean              longRunning;
-    private String               messageHandler;
+    private final String                          script;
+    private V8                                    runtime;
+    private String                                result;
+    private volatile boolean                      terminated         = false;
+    private volatile boolean                      shuttingDown       = false;
+    private volatile boolean                      forceTerminating   = false;
+    private Exception                             exception          = null;
+    private final ConcurrentLinkedQueue<Object[]> messageQueue       = new ConcurrentLinkedQueue<Object[]>();
+    private final AtomicInteger                   messageCount       = new AtomicInteger();
+    private final Object                          queueSpace         = new Object();
+    private volatile int                          blockedProducers   = 0;
+    private volatile boolean                      waitingForMessages = false;
+    private volatile int                          maxQueueSize       = 0;
+    private volatile int                          maxBatchSize       = 0;
+    private boolean                               longRunning;
+    private String                                messageHandler;
 
     /**
      * Create a new executor and execute the given script on it. Once
@@ -92,16 +110,191 @@ public class V8Executor extends Thread {
         return result;
     }
 
+    /**
+     * Sets the maximum number of messages that can be queued. Once the
+     * queue is full, postMessage() blocks and offerMessage() fails until
+     * the executor has taken messages from the queue.
+     *
+     * @param maxQueueSize The maximum number of queued messages, or 0
+     * if the queue should be unbounded.
+     */
+    public void setMaxQueueSize(final int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+        signalQueueSpace();
+    }
+
+    /**
+     * Enables batch mode. In batch mode, the messageHandler is invoked
+     * with a single array containing all pending messages, up to the
+     * given maximum, instead of once for every message.
+     *
+     * @param maxBatchSize The maximum number of messages per invocation,
+     * or 0 to invoke the messageHandler once for every message.
+     */
+    public void setMaxBatchSize(final int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns the number of messages that are waiting to be processed.
+     *
+     * @return The number of queued messages.
+     */
+    public int getMessageQueueSize() {
+        return messageCount.get();
+    }
+
     /**
      * Posts a message to the receiver to be processed by the executor
-     * and sent to the V8 runtime via the messageHandler.
+     * and sent to the V8 runtime via the messageHandler. If the queue
+     * is full, the calling thread waits until there is space for the
+     * message, or until the executor has terminated.
      *
      * @param message The message to send to the messageHandler
      */
     public void postMessage(final String... message) {
-        synchronized (this) {
-            messageQueue.add(message);
-            notify();
+        put(message);
+    }
+
+    /**
+     * Posts a structured message to the receiver to be processed by the
+     * executor and sent to the V8 runtime via the messageHandler. The parts
+     * of the message are converted to JavaScript values when the message is
+     * delivered: boxed primitives and Strings are passed as is, Maps and Lists
+     * are converted to objects and arrays, and ByteBuffers are converted to
+     * ArrayBuffers. The memory of a direct ByteBuffer is shared with the
+     * runtime, so it must not be modified once the message is posted. The
+     * runtime references it until the ArrayBuffer is garbage collected.
+     * If the queue is full, the calling thread waits until there is space
+     * for the message, or until the executor has terminated.
+     *
+     * @param message The message to send to the messageHandler
+     */
+    public void postMessage(final Object... message) {
+        put(message);
+    }
+
+    /**
+     * Posts a message to the receiver if there is space left in the
+     * queue. Unlike postMessage(), this method never blocks.
+     *
+     * @param message The message to send to the messageHandler
+     *
+     * @return True if the message was queued, false if the queue is full.
+     */
+    public boolean offerMessage(final String... message) {
+        return offer(message);
+    }
+
+    /**
+     * Posts a structured message to the receiver if there is space left
+     * in the queue. Unlike postMessage(), this method never blocks.
+     *
+     * @param message The message to send to the messageHandler
+     *
+     * @return True if the message was queued, false if the queue is full.
+     */
+    public boolean offerMessage(final Object... message) {
+        return offer(message);
+    }
+
+    private void put(final Object[] message) {
+        while (!reserveQueueSpace()) {
+            synchronized (queueSpace) {
+                blockedProducers++;
+                try {
+                    if (isQueueFull() && !terminated) {
+                        queueSpace.wait();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting to post a message.", e);
+                } finally {
+                    blockedProducers--;
+                }
+                if (terminated) {
+                    messageCount.incrementAndGet();
+                    break;
+                }
+            }
+        }
+        enqueue(message);
+    }
+
+    private boolean offer(final Object[] message) {
+        if (!reserveQueueSpace()) {
+            return false;
+        }
+        enqueue(message);
+        return true;
+    }
+
+    private boolean isQueueFull() {
+        int limit = maxQueueSize;
+        return (limit > 0) && (messageCount.get() >= limit);
+    }
+
+    private boolean reserveQueueSpace() {
+        while (true) {
+            int count = messageCount.get();
+            int limit = maxQueueSize;
+            if ((limit > 0) && (count >= limit)) {
+                return false;
+            }
+            if (messageCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void enqueue(final Object[] message) {
+        messageQueue.offer(message);
+        if (waitingForMessages) {
+            LockSupport.unpark(this);
+        }
+    }
+
+    private void signalQueueSpace() {
+        if (blockedProducers > 0) {
+            synchronized (queueSpace) {
+                queueSpace.notifyAll();
+            }
+        }
+    }
+
+    /*
+     * Waits for messages and removes up to batchSize of them from the
+     * queue. Returns null if the executor is shutting down and the queue
+     * is empty, or if the executor is being terminated.
+     */
+    private List<Object[]> takeMessages(final int batchSize) throws InterruptedException {
+        while (true) {
+            if (forceTerminating) {
+                return null;
+            }
+            boolean shutdown = shuttingDown;
+            Object[] message = messageQueue.poll();
+            if (message != null) {
+                List<Object[]> messages = new ArrayList<Object[]>();
+                messages.add(message);
+                while ((messages.size() < batchSize) && ((message = messageQueue.poll()) != null)) {
+                    messages.add(message);
+                }
+                messageCount.addAndGet(-messages.size());
+                signalQueueSpace();
+                return messages;
+            }
+            if (shutdown) {
+                return null;
+            }
+            waitingForMessages = true;
+            if (messageQueue.isEmpty() && !shuttingDown && !forceTerminating) {
+                LockSupport.park(this);
+            }
+            waitingForMessages = false;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
         }
     }
 
@@ -116,6 +309,7 @@ public class V8Executor extends Thread {
             runtime.registerJavaMethod(new ExecutorTermination(), "__j2v8__checkThreadTerminate");
             setup(runtime);
         }
+        V8Key messageHandlerKey = null;
         try {
             if (!forceTerminating) {
                 Object scriptResult = runtime.executeScript("__j2v8__checkThreadTerminate();\n" + script, getName(), -1);
@@ -130,28 +324,18 @@ public class V8Executor extends Thread {
                 }
             }
             while (!forceTerminating && longRunning) {
-                synchronized (this) {
-                    if (messageQueue.isEmpty() && !shuttingDown) {
-                        wait();
-                    }
-                    if ((messageQueue.isEmpty() && shuttingDown) || forceTerminating) {
-                        return;
-                    }
+                int batchSize = maxBatchSize;
+                List<Object[]> messages = takeMessages(Math.max(batchSize, 1));
+                if (messages == null) {
+                    return;
                 }
-                if (!messageQueue.isEmpty()) {
-                    String[] message = messageQueue.remove(0);
-                    V8Array parameters = new V8Array(runtime);
-                    V8Array strings = new V8Array(runtime);
-                    try {
-                        for (String string : message) {
-                            strings.push(string);
-                        }
-                        parameters.push(strings);
-                        runtime.executeVoidFunction(messageHandler, parameters);
-                    } finally {
-                        strings.release();
-                        parameters.release();
-                    }
+                if (messageHandlerKey == null) {
+                    messageHandlerKey = new V8Key(runtime, messageHandler);
+                }
+                if (batchSize > 0) {
+                    handleMessages(messageHandlerKey, messages);
+                } else {
+                    handleMessage(messageHandlerKey, messages.get(0));
                 }
             }
         } catch (Exception e) {
@@ -159,14 +343,61 @@ public class V8Executor extends Thread {
         } finally {
             synchronized (this) {
                 if (runtime.getLocker().hasLock()) {
+                    if (messageHandlerKey != null) {
+                        messageHandlerKey.release();
+                    }
                     runtime.release();
                     runtime = null;
                 }
                 terminated = true;
             }
+            synchronized (queueSpace) {
+                queueSpace.notifyAll();
+            }
+        }
+    }
+
+    private void handleMessage(final V8Key messageHandlerKey, final Object[] message) {
+        V8Array parts = toV8Array(message);
+        V8Array parameters = new V8Array(runtime);
+        try {
+            parameters.push(parts);
+            runtime.executeVoidFunction(messageHandlerKey, parameters);
+        } finally {
+            parts.release();
+            parameters.release();
+        }
+    }
+
+    private void handleMessages(final V8Key messageHandlerKey, final List<Object[]> messages) {
+        V8Array parameters = new V8Array(runtime);
+        V8Array batch = new V8Array(runtime);
+        try {
+            for (Object[] message : messages) {
+                V8Array parts = toV8Array(message);
+                try {
+                    batch.push(parts);
+                } finally {
+                    parts.release();
+                }
+            }
+            parameters.push(batch);
+            runtime.executeVoidFunction(messageHandlerKey, parameters);
+        } finally {
+            batch.release();
+            parameters.release();
         }
     }
 
+    private V8Array toV8Array(final Object[] message) {
+        if (message instanceof String[]) {
+            V8Array strings = new V8Array(runtime);
+            strings.pushAll((String[]) message, 0, message.length);
+            return strings;
+        }
+        return V8ObjectUtils.toV8Array(runtime, Arrays.asList(message));
+    }
+
     /**
      * Determines if an exception was thrown during the JavaScript execution.
      *
@@ -208,8 +439,8 @@ public class V8Executor extends Thread {
             if (runtime != null) {
                 runtime.terminateExecution();
             }
-            notify();
         }
+        LockSupport.unpark(this);
     }
 
     /**
@@ -219,10 +450,8 @@ public class V8Executor extends Thread {
      * will the executor actually shtutdown.
      */
     public void shutdown() {
-        synchronized (this) {
-            shuttingDown = true;
-            notify();
-        }
+        shuttingDown = true;
+        LockSupport.unpark(this);
     }
 
     /**
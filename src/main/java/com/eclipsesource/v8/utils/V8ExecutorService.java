@@ -0,0 +1,504 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.eclipsesource.v8.V8;
+
+/**
+ * An ExecutorService with a fixed number of worker threads, each of
+ * which owns a long-lived V8 runtime. Tasks are taken from a single
+ * queue in the order they were submitted. V8Callables and V8Runnables
+ * are given the runtime of the worker that executes them; plain
+ * Runnables and Callables can obtain it using
+ * {@link V8ExecutorService#getCurrentRuntime()}.
+ *
+ * A runtime is kept for the lifetime of its worker, so globals defined
+ * by one task are visible to later tasks on the same worker. If a task
+ * releases the runtime, the worker replaces it with a new one. A worker
+ * that cannot create a new runtime, for example because the setup fails,
+ * exits. Once the last worker has exited the service is shut down and
+ * the Futures of the tasks that are still queued are cancelled.
+ *
+ * Like other executors, the service must be shut down when it is no
+ * longer needed. The runtimes are released when the workers exit.
+ */
+public class V8ExecutorService extends AbstractExecutorService {
+
+    private final V8Runnable       setup;
+    private final List<Worker>     workers        = new ArrayList<Worker>();
+    private final LinkedList<Task> queue          = new LinkedList<Task>();
+    private boolean                shutdown       = false;
+    private int                    liveWorkers    = 0;
+    private int                    maxQueueSize   = 0;
+
+    private long                   completed      = 0;
+    private long                   failed         = 0;
+    private long                   totalQueueTime = 0;
+    private long                   maxQueueTime   = 0;
+    private long                   totalLatency   = 0;
+    private long                   maxLatency     = 0;
+
+    /**
+     * Create a new executor service with the given number of workers,
+     * each with its own empty runtime.
+     *
+     * @param size The number of workers.
+     */
+    public V8ExecutorService(final int size) {
+        this(size, null);
+    }
+
+    /**
+     * Create a new executor service with the given number of workers.
+     * The setup is run on the runtime of every worker when it is created.
+     *
+     * @param size The number of workers.
+     * @param setup The setup to run on every runtime, or null.
+     */
+    public V8ExecutorService(final int size, final V8Runnable setup) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Number of workers must be positive.");
+        }
+        this.setup = setup;
+        List<V8> runtimes = new ArrayList<V8>();
+        try {
+            for (int i = 0; i < size; i++) {
+                runtimes.add(createRuntime());
+            }
+        } catch (RuntimeException e) {
+            for (V8 runtime : runtimes) {
+                runtime.release();
+            }
+            throw e;
+        }
+        for (int i = 0; i < size; i++) {
+            V8 runtime = runtimes.get(i);
+            runtime.getLocker().release();
+            Worker worker = new Worker(runtime, i);
+            workers.add(worker);
+        }
+        liveWorkers = size;
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Sets the maximum number of tasks that can wait in the queue. Tasks
+     * submitted while the queue is full are rejected with a
+     * RejectedExecutionException, so callers are never blocked.
+     *
+     * @param maxQueueSize The maximum number of queued tasks, or 0 if
+     * the queue should be unbounded.
+     */
+    public synchronized void setMaxQueueSize(final int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * Returns the runtime of the worker executing the current task.
+     * This method can only be called from a task running on a
+     * V8ExecutorService.
+     *
+     * @return The runtime of the current worker.
+     */
+    public static V8 getCurrentRuntime() {
+        Thread thread = Thread.currentThread();
+        if (!(thread instanceof Worker)) {
+            throw new IllegalStateException("Not running on a V8ExecutorService worker.");
+        }
+        return ((Worker) thread).runtime;
+    }
+
+    /**
+     * Submits a task that computes a result on the runtime of a worker.
+     * This method is not an overload of submit, so that lambdas can be
+     * passed without casting them to V8Callable.
+     *
+     * @param task The task to execute.
+     *
+     * @return A Future representing the result of the task.
+     */
+    public <T> Future<T> submitCallable(final V8Callable<T> task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        return submit(new Callable<T>() {
+
+            @Override
+            public T call() throws Exception {
+                return task.call(getCurrentRuntime());
+            }
+        });
+    }
+
+    /**
+     * Submits a task that is run on the runtime of a worker.
+     *
+     * @param task The task to execute.
+     *
+     * @return A Future that completes with null once the task is done.
+     */
+    public Future<?> submit(final V8Runnable task) {
+        FutureTask<Object> future = new FutureTask<Object>(toRunnable(task), null);
+        execute(future);
+        return future;
+    }
+
+    /**
+     * Executes a task on the runtime of a worker at some time
+     * in the future.
+     *
+     * @param task The task to execute.
+     */
+    public void execute(final V8Runnable task) {
+        execute(toRunnable(task));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+     */
+    @Override
+    public synchronized void execute(final Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor service has been shut down.");
+        }
+        if ((maxQueueSize > 0) && (queue.size() >= maxQueueSize)) {
+            throw new RejectedExecutionException("Task queue is full.");
+        }
+        queue.addLast(new Task(command));
+        notify();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.ExecutorService#shutdown()
+     */
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        notifyAll();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.ExecutorService#shutdownNow()
+     */
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> pending = new ArrayList<Runnable>(queue.size());
+        for (Task task : queue) {
+            pending.add(task.command);
+        }
+        queue.clear();
+        for (Worker worker : workers) {
+            if (worker.busy) {
+                worker.runtime.terminateExecution();
+            }
+        }
+        notifyAll();
+        return pending;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.ExecutorService#isShutdown()
+     */
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.ExecutorService#isTerminated()
+     */
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && (liveWorkers == 0);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.ExecutorService#awaitTermination(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public synchronized boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long start = System.nanoTime();
+        long remaining = unit.toNanos(timeout);
+        while (!isTerminated()) {
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            remaining = unit.toNanos(timeout) - (System.nanoTime() - start);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of workers.
+     *
+     * @return The number of workers.
+     */
+    public int getSize() {
+        return workers.size();
+    }
+
+    /**
+     * Returns the number of tasks waiting to be executed.
+     *
+     * @return The depth of the task queue.
+     */
+    public synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of workers currently executing a task.
+     *
+     * @return The number of busy workers.
+     */
+    public synchronized int getActiveCount() {
+        int result = 0;
+        for (Worker worker : workers) {
+            if (worker.busy) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of tasks that have been executed, including
+     * the tasks that failed.
+     *
+     * @return The number of completed tasks.
+     */
+    public synchronized long getCompletedTaskCount() {
+        return completed;
+    }
+
+    /**
+     * Returns the number of tasks that threw an exception that was not
+     * captured by a Future.
+     *
+     * @return The number of failed tasks.
+     */
+    public synchronized long getFailedTaskCount() {
+        return failed;
+    }
+
+    /**
+     * Returns the total time completed tasks spent in the queue before
+     * a worker started executing them.
+     *
+     * @param unit The unit to return the time in.
+     *
+     * @return The total queue time.
+     */
+    public synchronized long getTotalQueueTime(final TimeUnit unit) {
+        return unit.convert(totalQueueTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the longest time a task spent in the queue.
+     *
+     * @param unit The unit to return the time in.
+     *
+     * @return The maximum queue time.
+     */
+    public synchronized long getMaxQueueTime(final TimeUnit unit) {
+        return unit.convert(maxQueueTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the total time from submission to completion of all
+     * completed tasks.
+     *
+     * @param unit The unit to return the time in.
+     *
+     * @return The total task latency.
+     */
+    public synchronized long getTotalLatency(final TimeUnit unit) {
+        return unit.convert(totalLatency, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the longest time from submission to completion of a task.
+     *
+     * @param unit The unit to return the time in.
+     *
+     * @return The maximum task latency.
+     */
+    public synchronized long getMaxLatency(final TimeUnit unit) {
+        return unit.convert(maxLatency, TimeUnit.NANOSECONDS);
+    }
+
+    private Runnable toRunnable(final V8Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                task.run(getCurrentRuntime());
+            }
+        };
+    }
+
+    private V8 createRuntime() {
+        V8 runtime = V8.createV8Runtime();
+        if (setup != null) {
+            try {
+                setup.run(runtime);
+            } catch (RuntimeException e) {
+                runtime.release();
+                throw e;
+            }
+        }
+        return runtime;
+    }
+
+    private synchronized Task take(final Worker worker) {
+        while (queue.isEmpty() && !shutdown) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // workers only stop when the service is shut down
+            }
+        }
+        if (queue.isEmpty()) {
+            return null;
+        }
+        Task task = queue.removeFirst();
+        task.started = System.nanoTime();
+        worker.busy = true;
+        return task;
+    }
+
+    private synchronized void taskDone(final Worker worker, final Task task, final boolean success) {
+        worker.busy = false;
+        long queueTime = task.started - task.submitted;
+        long latency = System.nanoTime() - task.submitted;
+        completed++;
+        if (!success) {
+            failed++;
+        }
+        totalQueueTime += queueTime;
+        maxQueueTime = Math.max(maxQueueTime, queueTime);
+        totalLatency += latency;
+        maxLatency = Math.max(maxLatency, latency);
+    }
+
+    private void workerDone() {
+        List<Task> abandoned = null;
+        synchronized (this) {
+            if (liveWorkers == 1) {
+                // queued tasks remain only if the last worker could not replace its runtime
+                shutdown = true;
+                abandoned = new ArrayList<Task>(queue);
+                queue.clear();
+            }
+        }
+        if (abandoned != null) {
+            for (Task task : abandoned) {
+                if (task.command instanceof Future) {
+                    ((Future<?>) task.command).cancel(false);
+                }
+            }
+        }
+        synchronized (this) {
+            liveWorkers--;
+            notifyAll();
+        }
+    }
+
+    private static class Task {
+        private final Runnable command;
+        private final long     submitted = System.nanoTime();
+        private long           started;
+
+        Task(final Runnable command) {
+            this.command = command;
+        }
+    }
+
+    private class Worker extends Thread {
+
+        private volatile V8 runtime;
+        private boolean     busy = false;
+
+        Worker(final V8 runtime, final int index) {
+            super("J2V8 Executor Worker " + index);
+            this.runtime = runtime;
+        }
+
+        @Override
+        public void run() {
+            runtime.getLocker().acquire();
+            try {
+                Task task;
+                while ((task = take(this)) != null) {
+                    boolean success = false;
+                    try {
+                        task.command.run();
+                        success = true;
+                    } catch (RuntimeException e) {
+                        // the worker outlives failed tasks
+                    } finally {
+                        taskDone(this, task, success);
+                    }
+                    if (!recycleRuntime()) {
+                        break;
+                    }
+                }
+            } finally {
+                if (!runtime.isReleased()) {
+                    runtime.release();
+                }
+                workerDone();
+            }
+        }
+
+        private boolean recycleRuntime() {
+            if (!runtime.isReleased()) {
+                // a task that was terminated may leave a termination behind
+                runtime.cancelTerminateExecution();
+                return true;
+            }
+            try {
+                runtime = createRuntime();
+                return true;
+            } catch (RuntimeException e) {
+                // the worker cannot continue without a runtime
+                return false;
+            }
+        }
+    }
+
+}
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Set;
 
 import com.eclipsesource.v8.Releasable;
+import com.eclipsesource.v8.V8;
 import com.eclipsesource.v8.V8Value;
 
 /**
@@ -139,10 +140,25 @@ public class V8Map<V> implements Map<V8Value, V>, Releasable {
     @Override
     public void clear() {
         map.clear();
-        for (V8Value V8Value : twinMap.keySet()) {
-            V8Value.release();
-        }
+        V8Value[] twins = twinMap.keySet().toArray(new V8Value[twinMap.size()]);
         twinMap.clear();
+        releaseTwins(twins);
+    }
+
+    private void releaseTwins(final V8Value[] twins) {
+        if (twins.length == 0) {
+            return;
+        }
+        V8 runtime = twins[0].getRuntime();
+        for (V8Value twin : twins) {
+            if (twin.getRuntime() != runtime) {
+                for (V8Value value : twins) {
+                    value.release();
+                }
+                return;
+            }
+        }
+        runtime.releaseValues(twins);
     }
 
     /*
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package com.eclipsesource.v8.utils;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Hashtable;
@@ -19,6 +20,7 @@ import java.util.Map.Entry;
 
 import com.eclipsesource.v8.V8;
 import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8ArrayBuffer;
 import com.eclipsesource.v8.V8Object;
 import com.eclipsesource.v8.V8Value;
 
@@ -157,9 +159,7 @@ public class V8ObjectUtils {
         try {
             return toV8Object(v8, map, cache).twin();
         } finally {
-            for (V8Object v8Object : cache.values()) {
-                v8Object.release();
-            }
+            releaseCache(v8, cache);
         }
     }
 
@@ -177,9 +177,7 @@ public class V8ObjectUtils {
         try {
             return toV8Array(v8, list, cache).twin();
         } finally {
-            for (V8Object v8Object : cache.values()) {
-                v8Object.release();
-            }
+            releaseCache(v8, cache);
         }
     }
 
@@ -188,7 +186,8 @@ public class V8ObjectUtils {
      * the parameter 'value'. If 'value' is an Integer, Boolean, Double
      * or String, then 'value' is simply returned as these are directly
      * usable on V8. If 'value' is a map / list, then it's converted to
-     * a V8Object / V8Array first.
+     * a V8Object / V8Array first. If 'value' is a ByteBuffer, then it's
+     * converted to a V8ArrayBuffer.
      *
      * If the result is a V8Value, it must be released.
      *
@@ -201,6 +200,9 @@ public class V8ObjectUtils {
         if (value == null) {
             return null;
         }
+        if (value instanceof ByteBuffer) {
+            return toV8ArrayBuffer(v8, (ByteBuffer) value);
+        }
         Map<Object, V8Object> cache = new Hashtable<Object, V8Object>();
         try {
             Object result = getV8Result(v8, value, cache);
@@ -209,9 +211,7 @@ public class V8ObjectUtils {
             }
             return result;
         } finally {
-            for (V8Object v8Object : cache.values()) {
-                v8Object.release();
-            }
+            releaseCache(v8, cache);
         }
     }
 
@@ -219,7 +219,9 @@ public class V8ObjectUtils {
      * Pushes a Java Object to a V8Array by first converting it to a V8Value if needed.
      * If the value is a boxed primitive, then the primitive will be pushed. If the object
      * is a Map / List then a deep copy will be performed, converting the object to a
-     * V8Object / V8Array first.
+     * V8Object / V8Array first. A ByteBuffer is pushed as an ArrayBuffer; the
+     * memory of a direct ByteBuffer is shared, the contents of other ByteBuffers
+     * are copied.
      *
      * @param v8 The runtime on which to create any needed V8Values.
      * @param array The array to push the elements to.
@@ -230,9 +232,7 @@ public class V8ObjectUtils {
         try {
             pushValue(v8, array, value, cache);
         } finally {
-            for (V8Object v8Object : cache.values()) {
-                v8Object.release();
-            }
+            releaseCache(v8, cache);
         }
     }
 
@@ -278,6 +278,10 @@ public class V8ObjectUtils {
         }
     }
 
+    private static void releaseCache(final V8 v8, final Map<Object, V8Object> cache) {
+        v8.releaseValues(cache.values().toArray(new V8Value[cache.size()]));
+    }
+
     @SuppressWarnings("unchecked")
     private static Map<String, ? super Object> toMap(final V8Object object, final V8Map<Object> cache) {
         if (object == null) {
@@ -388,6 +392,13 @@ public class V8ObjectUtils {
         } else if (value instanceof List) {
             V8Array array = toV8Array(v8, (List) value, cache);
             result.push(array);
+        } else if (value instanceof ByteBuffer) {
+            V8ArrayBuffer buffer = toV8ArrayBuffer(v8, (ByteBuffer) value);
+            try {
+                result.push(buffer);
+            } finally {
+                buffer.release();
+            }
         } else {
             throw new IllegalStateException("Unsupported Object of type: " + value.getClass());
         }
@@ -415,11 +426,27 @@ public class V8ObjectUtils {
         } else if (value instanceof List) {
             V8Array array = toV8Array(v8, (List) value, cache);
             result.add(key, array);
+        } else if (value instanceof ByteBuffer) {
+            V8ArrayBuffer buffer = toV8ArrayBuffer(v8, (ByteBuffer) value);
+            try {
+                result.add(key, buffer);
+            } finally {
+                buffer.release();
+            }
         } else {
             throw new IllegalStateException("Unsupported Object of type: " + value.getClass());
         }
     }
 
+    private static V8ArrayBuffer toV8ArrayBuffer(final V8 v8, final ByteBuffer byteBuffer) {
+        if (byteBuffer.isDirect()) {
+            return new V8ArrayBuffer(v8, byteBuffer.slice());
+        }
+        V8ArrayBuffer result = new V8ArrayBuffer(v8, byteBuffer.remaining());
+        result.getBackingStore().put(byteBuffer.duplicate());
+        return result;
+    }
+
     private static Object getValue(final V8Array array, final int index, final V8Map<Object> cache) {
         int valueType = array.getType(index);
         switch (valueType) {
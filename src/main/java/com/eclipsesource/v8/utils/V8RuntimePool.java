@@ -0,0 +1,561 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.eclipsesource.v8.Releasable;
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Function;
+
+/**
+ * A bounded pool of V8 runtimes. The runtimes are created, and the
+ * optional setup is run on them, when the pool is created. Runtimes
+ * are leased to a thread using {@link #lease()} and must be handed back
+ * using {@link #returnRuntime(V8)} once the thread is done with them.
+ * The V8Locker of the runtime is moved to the leasing thread, and
+ * released again when the runtime is returned.
+ *
+ * When a runtime is returned, the reset handler is run and, if enabled,
+ * all global properties that were added since the setup are removed.
+ * A runtime is evicted and replaced with a new one if it was released
+ * while leased, if resetting it failed, or if it was leased the maximum
+ * number of times. If the replacement cannot be created, for example
+ * because the setup fails, the pool is short of a runtime until a later
+ * lease creates it.
+ *
+ * The pool must be released when it is no longer needed. Runtimes that
+ * are leased at that time are released when they are returned.
+ */
+public class V8RuntimePool implements Releasable {
+
+    private static final String        RESET_GLOBALS_SCRIPT = "(function(global, keys) { for (var i = 0; i < keys.length; i++) { if (!delete global[keys[i]]) { global[keys[i]] = undefined; } } })";
+
+    private final int                  size;
+    private final String               globalAlias;
+    private final byte[]               snapshotBlob;
+    private final V8Runnable           setup;
+    private final LinkedList<V8>       idle                 = new LinkedList<V8>();
+    private final Map<V8, Integer>     leaseCounts          = new IdentityHashMap<V8, Integer>();
+    private final Set<V8>              leased               = Collections.newSetFromMap(new IdentityHashMap<V8, Boolean>());
+    private final Map<V8, Set<String>> globals              = new IdentityHashMap<V8, Set<String>>();
+    private V8Runnable                 resetHandler         = null;
+    private boolean                    resetGlobals         = false;
+    private int                        maxLeases            = 0;
+    private long                       maxUsedHeapSize      = 0;
+    private boolean                    released             = false;
+
+    private long                       leases               = 0;
+    private long                       timeouts             = 0;
+    private long                       evictions            = 0;
+    private int                        missing              = 0;
+    private long                       replacementFailures  = 0;
+    private long                       totalWaitTime        = 0;
+    private long                       maxWaitTime          = 0;
+
+    /**
+     * Create a new pool with the given number of empty runtimes.
+     *
+     * @param size The number of runtimes in the pool.
+     */
+    public V8RuntimePool(final int size) {
+        this(size, null, null, null);
+    }
+
+    /**
+     * Create a new pool with the given number of runtimes. The setup
+     * is run on every runtime when it is created.
+     *
+     * @param size The number of runtimes in the pool.
+     * @param setup The setup to run on every runtime, or null.
+     */
+    public V8RuntimePool(final int size, final V8Runnable setup) {
+        this(size, null, null, setup);
+    }
+
+    /**
+     * Create a new pool with the given number of runtimes. The runtimes
+     * are created from the startup snapshot, and the setup is run on
+     * every runtime when it is created.
+     *
+     * @param size The number of runtimes in the pool.
+     * @param globalAlias The name to associate with the global scope, or null.
+     * @param snapshotBlob The startup snapshot to create the runtimes from, or null.
+     * @param setup The setup to run on every runtime, or null.
+     */
+    public V8RuntimePool(final int size, final String globalAlias, final byte[] snapshotBlob, final V8Runnable setup) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive.");
+        }
+        this.size = size;
+        this.globalAlias = globalAlias;
+        this.snapshotBlob = snapshotBlob;
+        this.setup = setup;
+        try {
+            for (int i = 0; i < size; i++) {
+                addRuntime(createRuntime());
+            }
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     * Sets a handler that is run on a runtime when it is returned
+     * to the pool. If the handler fails, the runtime is evicted.
+     *
+     * @param resetHandler The handler to run, or null.
+     */
+    public synchronized void setResetHandler(final V8Runnable resetHandler) {
+        this.resetHandler = resetHandler;
+    }
+
+    /**
+     * Determines if global properties that were added after the setup
+     * are removed when a runtime is returned to the pool. Global properties
+     * that cannot be deleted are set to undefined.
+     *
+     * @param resetGlobals True if global properties should be removed.
+     */
+    public synchronized void setResetGlobals(final boolean resetGlobals) {
+        this.resetGlobals = resetGlobals;
+    }
+
+    /**
+     * Sets the number of times a runtime can be leased before it is
+     * evicted and replaced with a new runtime.
+     *
+     * @param maxLeases The maximum number of leases per runtime, or 0
+     * if runtimes should never be evicted because of their use.
+     */
+    public synchronized void setMaxLeases(final int maxLeases) {
+        this.maxLeases = maxLeases;
+    }
+
+    /**
+     * Sets the used heap size above which a runtime is evicted and
+     * replaced with a new runtime when it is returned to the pool. The
+     * heap size is checked after the runtime has been reset.
+     *
+     * @param maxUsedHeapSize The maximum used heap size in bytes, or 0
+     * if runtimes should never be evicted because of their heap size.
+     */
+    public synchronized void setMaxUsedHeapSize(final long maxUsedHeapSize) {
+        this.maxUsedHeapSize = maxUsedHeapSize;
+    }
+
+    /**
+     * Leases a runtime from the pool, waiting until one is available.
+     * The current thread is given the lock to the runtime. If no runtime
+     * is idle and an evicted runtime could not be replaced earlier, the
+     * replacement is created for this lease.
+     *
+     * @return The leased runtime.
+     *
+     * @throws RuntimeException If the replacement cannot be created.
+     */
+    public V8 lease() {
+        try {
+            return lease(0, true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a runtime.", e);
+        }
+    }
+
+    /**
+     * Leases a runtime from the pool, waiting at most the given time
+     * until one is available. The current thread is given the lock
+     * to the runtime.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     *
+     * @return The leased runtime, or null if no runtime became available
+     * in time.
+     *
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     *
+     * @see #lease()
+     */
+    public V8 lease(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return lease(unit.toNanos(timeout), false);
+    }
+
+    /**
+     * Returns a leased runtime to the pool. The runtime is reset, the
+     * lock of the current thread is released, and the runtime is made
+     * available to other threads. The runtime must not be used after it
+     * has been returned.
+     *
+     * @param runtime The runtime to return.
+     */
+    public void returnRuntime(final V8 runtime) {
+        V8Runnable handler;
+        boolean resetGlobalProperties;
+        boolean evict;
+        long heapLimit;
+        synchronized (this) {
+            // runtimes are compared by identity, V8.equals would call into the runtime
+            if (!leased.remove(runtime)) {
+                throw new IllegalArgumentException("Runtime is not leased from this pool.");
+            }
+            handler = resetHandler;
+            resetGlobalProperties = resetGlobals;
+            evict = (maxLeases > 0) && (leaseCounts.get(runtime) >= maxLeases);
+            heapLimit = maxUsedHeapSize;
+        }
+        evict = evict || runtime.isReleased();
+        if (!evict) {
+            try {
+                reset(runtime, handler, resetGlobalProperties);
+                evict = (heapLimit > 0) && (runtime.getHeapStatistics().getUsedHeapSize() > heapLimit);
+            } catch (RuntimeException e) {
+                evict = true;
+            }
+        }
+        synchronized (this) {
+            if (!evict && !released) {
+                runtime.getLocker().release();
+                idle.addLast(runtime);
+                notifyAll();
+                return;
+            }
+        }
+        removeRuntime(runtime, evict);
+        releaseRuntime(runtime);
+        if (evict) {
+            replaceRuntime();
+        }
+    }
+
+    /**
+     * Releases all runtimes that are not leased. Leased runtimes are
+     * released when they are returned to the pool.
+     */
+    @Override
+    public void release() {
+        List<V8> runtimes;
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+            runtimes = new ArrayList<V8>(idle);
+            for (V8 runtime : runtimes) {
+                leaseCounts.remove(runtime);
+                globals.remove(runtime);
+            }
+            idle.clear();
+            notifyAll();
+        }
+        for (V8 runtime : runtimes) {
+            runtime.getLocker().acquire();
+            releaseRuntime(runtime);
+        }
+    }
+
+    /**
+     * Determines if the pool has been released.
+     *
+     * @return True if the pool has been released, false otherwise.
+     */
+    public synchronized boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Returns the number of runtimes in the pool, including runtimes that
+     * could not be replaced yet.
+     *
+     * @return The size of the pool.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of runtimes that currently exist in the pool,
+     * which is less than the size while evicted runtimes could not be
+     * replaced.
+     *
+     * @return The number of idle and leased runtimes.
+     */
+    public synchronized int getRuntimeCount() {
+        return size - missing;
+    }
+
+    /**
+     * Returns the number of runtimes that are available to be leased.
+     *
+     * @return The number of idle runtimes.
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Returns the number of runtimes that are currently leased.
+     *
+     * @return The number of leased runtimes.
+     */
+    public synchronized int getLeasedCount() {
+        return leased.size();
+    }
+
+    /**
+     * Returns the fraction of the pool that is currently leased.
+     *
+     * @return The utilization of the pool, between 0 and 1.
+     */
+    public synchronized double getUtilization() {
+        return (double) getLeasedCount() / size;
+    }
+
+    /**
+     * Returns the total number of successful leases.
+     *
+     * @return The number of leases.
+     */
+    public synchronized long getLeaseCount() {
+        return leases;
+    }
+
+    /**
+     * Returns the number of times a lease timed out before a runtime
+     * became available.
+     *
+     * @return The number of timeouts.
+     */
+    public synchronized long getTimeoutCount() {
+        return timeouts;
+    }
+
+    /**
+     * Returns the number of runtimes that were evicted and replaced.
+     *
+     * @return The number of evictions.
+     */
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of times an evicted runtime could not be replaced.
+     *
+     * @return The number of failed replacements.
+     */
+    public synchronized long getReplacementFailureCount() {
+        return replacementFailures;
+    }
+
+    /**
+     * Returns the total time threads spent waiting for a runtime.
+     *
+     * @return The total wait time in milliseconds.
+     */
+    public synchronized long getTotalWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitTime);
+    }
+
+    /**
+     * Returns the longest time a thread spent waiting for a runtime.
+     *
+     * @return The maximum wait time in milliseconds.
+     */
+    public synchronized long getMaxWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitTime);
+    }
+
+    private V8 lease(final long timeout, final boolean waitForever) throws InterruptedException {
+        V8 runtime;
+        synchronized (this) {
+            long start = System.nanoTime();
+            long remaining = timeout;
+            while (!released && idle.isEmpty() && (missing == 0)) {
+                if (!waitForever && (remaining <= 0)) {
+                    timeouts++;
+                    recordWait(System.nanoTime() - start);
+                    return null;
+                }
+                if (waitForever) {
+                    wait();
+                } else {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    remaining = timeout - (System.nanoTime() - start);
+                }
+            }
+            if (released) {
+                throw new IllegalStateException("Runtime pool has been released.");
+            }
+            recordWait(System.nanoTime() - start);
+            if (idle.isEmpty()) {
+                missing--;
+                runtime = null;
+            } else {
+                runtime = idle.removeFirst();
+                leased.add(runtime);
+                leaseCounts.put(runtime, leaseCounts.get(runtime) + 1);
+                leases++;
+            }
+        }
+        if (runtime == null) {
+            runtime = createLeasedRuntime();
+        }
+        runtime.getLocker().acquire();
+        return runtime;
+    }
+
+    private V8 createLeasedRuntime() {
+        V8 runtime;
+        try {
+            runtime = createRuntime();
+        } catch (RuntimeException e) {
+            replacementFailed();
+            throw e;
+        }
+        synchronized (this) {
+            if (!released) {
+                leaseCounts.put(runtime, 1);
+                leased.add(runtime);
+                leases++;
+                return runtime;
+            }
+            globals.remove(runtime);
+        }
+        runtime.getLocker().acquire();
+        releaseRuntime(runtime);
+        throw new IllegalStateException("Runtime pool has been released.");
+    }
+
+    private void recordWait(final long waitTime) {
+        totalWaitTime += waitTime;
+        maxWaitTime = Math.max(maxWaitTime, waitTime);
+    }
+
+    private void reset(final V8 runtime, final V8Runnable handler, final boolean resetGlobalProperties) {
+        // a tenant that timed out may leave a termination behind
+        runtime.cancelTerminateExecution();
+        if (handler != null) {
+            handler.run(runtime);
+        }
+        if (resetGlobalProperties) {
+            resetGlobals(runtime);
+        }
+    }
+
+    private void resetGlobals(final V8 runtime) {
+        Set<String> baseline;
+        synchronized (this) {
+            baseline = globals.get(runtime);
+        }
+        V8Array keys = new V8Array(runtime);
+        V8Array parameters = new V8Array(runtime);
+        V8Function resetFunction = null;
+        try {
+            for (String key : runtime.getKeys()) {
+                if (!baseline.contains(key)) {
+                    keys.push(key);
+                }
+            }
+            if (keys.length() == 0) {
+                return;
+            }
+            resetFunction = (V8Function) runtime.executeObjectScript(RESET_GLOBALS_SCRIPT);
+            parameters.push(runtime).push(keys);
+            resetFunction.call(null, parameters);
+        } finally {
+            keys.release();
+            parameters.release();
+            if (resetFunction != null) {
+                resetFunction.release();
+            }
+        }
+    }
+
+    private V8 createRuntime() {
+        V8 runtime = V8.createV8Runtime(globalAlias, null, snapshotBlob);
+        try {
+            if (setup != null) {
+                setup.run(runtime);
+            }
+            synchronized (this) {
+                globals.put(runtime, new HashSet<String>(Arrays.asList(runtime.getKeys())));
+            }
+        } catch (RuntimeException e) {
+            releaseRuntime(runtime);
+            throw e;
+        }
+        runtime.getLocker().release();
+        return runtime;
+    }
+
+    private synchronized void addRuntime(final V8 runtime) {
+        leaseCounts.put(runtime, 0);
+        idle.addLast(runtime);
+        notifyAll();
+    }
+
+    private synchronized void removeRuntime(final V8 runtime, final boolean evicted) {
+        leaseCounts.remove(runtime);
+        globals.remove(runtime);
+        if (evicted) {
+            evictions++;
+        }
+    }
+
+    private void replaceRuntime() {
+        if (isReleased()) {
+            return;
+        }
+        V8 runtime;
+        try {
+            runtime = createRuntime();
+        } catch (RuntimeException e) {
+            // the next lease that finds no idle runtime tries again
+            replacementFailed();
+            return;
+        }
+        synchronized (this) {
+            if (!released) {
+                addRuntime(runtime);
+                return;
+            }
+            globals.remove(runtime);
+        }
+        runtime.getLocker().acquire();
+        releaseRuntime(runtime);
+    }
+
+    private synchronized void replacementFailed() {
+        missing++;
+        replacementFailures++;
+        notifyAll();
+    }
+
+    private static void releaseRuntime(final V8 runtime) {
+        if (!runtime.isReleased()) {
+            runtime.release(false);
+        }
+    }
+
+}
@@ -21,10 +21,16 @@ import com.eclipsesource.v8.debug.FrameTest;
 import com.eclipsesource.v8.debug.MirrorTest;
 import com.eclipsesource.v8.debug.ScopeTest;
 import com.eclipsesource.v8.debug.ScriptBreakPointTest;
+import com.eclipsesource.v8.utils.MemoryManagerTest;
+import com.eclipsesource.v8.utils.V8AsyncRuntimeTest;
+import com.eclipsesource.v8.utils.V8BufferChannelTest;
+import com.eclipsesource.v8.utils.V8CodeCacheTest;
+import com.eclipsesource.v8.utils.V8ExecutorServiceTest;
 import com.eclipsesource.v8.utils.V8ExecutorTest;
 import com.eclipsesource.v8.utils.V8MapTest;
 import com.eclipsesource.v8.utils.V8ObjectUtilsTest;
 import com.eclipsesource.v8.utils.V8PropertyMapTest;
+import com.eclipsesource.v8.utils.V8RuntimePoolTest;
 
 @RunWith(Suite.class)
 // V8RuntimeNotLoadedTest must be run first. This is because we need to test when the natives are not loaded
@@ -32,7 +38,10 @@ import com.eclipsesource.v8.utils.V8PropertyMapTest;
 @SuiteClasses({ V8RuntimeNotLoadedTest.class, LibraryLoaderTest.class, V8ObjectTest.class, V8Test.class, V8ArrayTest.class, V8JSFunctionCallTest.class,
         V8CallbackTest.class, V8ScriptCompilationExceptionTest.class, V8ScriptExecutionExceptionTest.class, V8ObjectUtilsTest.class, V8TypedArraysTest.class,
         NullScriptExecuteTest.class, V8MultiThreadTest.class, V8LockerTest.class, V8ExecutorTest.class, V8MapTest.class, V8PropertyMapTest.class,
-        DebugHandlerTest.class, ExecutionStateTest.class, FrameTest.class, ScopeTest.class, ScriptBreakPointTest.class, MirrorTest.class, BreakEventTest.class, NodeJSTest.class })
+        DebugHandlerTest.class, ExecutionStateTest.class, FrameTest.class, ScopeTest.class, ScriptBreakPointTest.class, MirrorTest.class, BreakEventTest.class, NodeJSTest.class,
+        V8ScriptTest.class, V8CodeCacheTest.class, V8SnapshotTest.class, V8RuntimePoolTest.class,
+        V8ArgumentsCallbackTest.class, V8ArrayBufferTest.class, V8KeyTest.class, MemoryManagerTest.class, V8AutoReleaseTest.class, V8MemoryLimitTest.class, V8ScriptTimeoutTest.class,
+        V8ExecutorServiceTest.class, V8AsyncRuntimeTest.class, V8BufferChannelTest.class })
 public class AllTests {
 
 }
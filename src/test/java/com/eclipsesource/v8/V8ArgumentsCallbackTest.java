@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8ArgumentsCallbackTest {
+
+    private V8          v8;
+    private V8Arguments stored;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testLength() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                return arguments.length();
+            }
+        }, "foo");
+
+        assertEquals(0, v8.executeIntegerScript("foo()"));
+        assertEquals(3, v8.executeIntegerScript("foo(1, 'a', {})"));
+    }
+
+    @Test
+    public void testGetInteger() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                return arguments.getInteger(0) + arguments.getInteger(1);
+            }
+        }, "add");
+
+        int result = v8.executeIntegerScript("add(3, 4)");
+
+        assertEquals(7, result);
+    }
+
+    @Test
+    public void testGetDouble() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                return arguments.getDouble(0) * 2;
+            }
+        }, "twice");
+
+        double result = v8.executeDoubleScript("twice(1.25)");
+
+        assertEquals(2.5, result, 0.000001);
+    }
+
+    @Test
+    public void testGetBoolean() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                return !arguments.getBoolean(0);
+            }
+        }, "not");
+
+        assertFalse(v8.executeBooleanScript("not(true)"));
+        assertTrue(v8.executeBooleanScript("not(false)"));
+    }
+
+    @Test
+    public void testGetString() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                return arguments.getString(0) + arguments.getString(1);
+            }
+        }, "concat");
+
+        String result = v8.executeStringScript("concat('hello', ' world')");
+
+        assertEquals("hello world", result);
+    }
+
+    @Test
+    public void testGetType() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                assertEquals(V8Value.INTEGER, arguments.getType(0));
+                assertEquals(V8Value.DOUBLE, arguments.getType(1));
+                assertEquals(V8Value.BOOLEAN, arguments.getType(2));
+                assertEquals(V8Value.STRING, arguments.getType(3));
+                assertEquals(V8Value.V8_ARRAY, arguments.getType(4));
+                assertEquals(V8Value.V8_OBJECT, arguments.getType(5));
+                assertEquals(V8Value.V8_FUNCTION, arguments.getType(6));
+                assertEquals(V8Value.NULL, arguments.getType(7));
+                assertEquals(V8Value.UNDEFINED, arguments.getType(8));
+                assertEquals(V8Value.UNDEFINED, arguments.getType(9));
+                return true;
+            }
+        }, "foo");
+
+        assertTrue(v8.executeBooleanScript("foo(1, 1.5, true, 'a', [], {}, function() {}, null, undefined)"));
+    }
+
+    @Test
+    public void testGetObject() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                V8Object object = (V8Object) arguments.get(0);
+                int result = object.getInteger("x");
+                object.release();
+                return result;
+            }
+        }, "foo");
+
+        assertEquals(7, v8.executeIntegerScript("foo({x: 7})"));
+    }
+
+    @Test
+    public void testGetPrimitive() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                assertEquals(1, arguments.get(0));
+                assertEquals("a", arguments.get(1));
+                assertNull(arguments.get(2));
+                return null;
+            }
+        }, "foo");
+
+        v8.executeVoidScript("foo(1, 'a', null)");
+    }
+
+    @Test
+    public void testGetReceiver() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                V8Object receiver = arguments.getReceiver();
+                int result = receiver.getInteger("x");
+                receiver.release();
+                return result;
+            }
+        }, "foo");
+
+        assertEquals(7, v8.executeIntegerScript("var o = {x: 7, foo: foo}; o.foo()"));
+    }
+
+    @Test
+    public void testGetRuntime() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                assertSame(v8, arguments.getRuntime());
+                return null;
+            }
+        }, "foo");
+
+        v8.executeVoidScript("foo()");
+    }
+
+    @Test
+    public void testReturnValues() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                return new V8Array(v8).push(arguments.getInteger(0));
+            }
+        }, "foo");
+
+        V8Array result = v8.executeArrayScript("foo(3)");
+
+        assertEquals(3, result.getInteger(0));
+        result.release();
+    }
+
+    @Test
+    public void testReturnNull() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                return null;
+            }
+        }, "foo");
+
+        assertTrue(v8.executeBooleanScript("foo() === null"));
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testGetIntegerWrongType() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                return arguments.getInteger(0);
+            }
+        }, "foo");
+
+        v8.executeVoidScript("foo('a')");
+    }
+
+    @Test
+    public void testExceptionPropagated() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                throw new RuntimeException("my exception");
+            }
+        }, "foo");
+
+        try {
+            v8.executeVoidScript("foo()");
+        } catch (V8ScriptExecutionException e) {
+            assertEquals("my exception", e.getCause().getMessage());
+            return;
+        }
+        throw new AssertionError("Exception not propagated.");
+    }
+
+    @Test
+    public void testNestedCallbacks() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                int n = arguments.getInteger(0);
+                if (n <= 1) {
+                    return 1;
+                }
+                int result = v8.executeIntegerScript("factorial(" + (n - 1) + ")");
+                // the arguments of this call are restored after the nested call
+                return arguments.getInteger(0) * result;
+            }
+        }, "factorial");
+
+        assertEquals(120, v8.executeIntegerScript("factorial(5)"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testArgumentsInvalidAfterCall() {
+        v8.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                stored = arguments;
+                return null;
+            }
+        }, "foo");
+        v8.executeVoidScript("foo(1)");
+
+        stored.getInteger(0);
+    }
+
+    @Test
+    public void testRegisterOnObject() {
+        V8Object object = v8.executeObjectScript("var o = {x: 3}; o");
+        object.registerJavaMethod(new V8ArgumentsCallback() {
+
+            @Override
+            public Object invoke(final V8Arguments arguments) {
+                return arguments.getInteger(0) * 2;
+            }
+        }, "twice");
+
+        assertEquals(6, v8.executeIntegerScript("o.twice(3)"));
+        object.release();
+    }
+
+}
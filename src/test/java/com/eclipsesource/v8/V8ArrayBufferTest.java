@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8ArrayBufferTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCreateArrayBuffer() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 16);
+
+        assertEquals(16, buffer.getByteLength());
+        buffer.release();
+    }
+
+    @Test
+    public void testArrayBufferIsArrayBufferInJS() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 8);
+        v8.add("buf", buffer);
+
+        assertTrue(v8.executeBooleanScript("buf instanceof ArrayBuffer && buf.byteLength === 8"));
+        buffer.release();
+    }
+
+    @Test
+    public void testBackingStoreSeesJSWrites() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 4);
+        v8.add("buf", buffer);
+        v8.executeVoidScript("new Uint8Array(buf)[2] = 42;");
+
+        ByteBuffer byteBuffer = buffer.getBackingStore();
+
+        assertTrue(byteBuffer.isDirect());
+        assertEquals(4, byteBuffer.capacity());
+        assertEquals(42, byteBuffer.get(2));
+        buffer.release();
+    }
+
+    @Test
+    public void testJSSeesBackingStoreWrites() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 8);
+        v8.add("buf", buffer);
+
+        buffer.getBackingStore().putInt(4, 7);
+
+        assertEquals(7, v8.executeIntegerScript("new Int32Array(buf)[1]"));
+        buffer.release();
+    }
+
+    @Test
+    public void testArrayBufferFromDirectByteBuffer() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8).order(ByteOrder.nativeOrder());
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+        v8.add("buf", buffer);
+
+        byteBuffer.putInt(0, 3);
+        v8.executeVoidScript("var ints = new Int32Array(buf); ints[1] = ints[0] * 2;");
+
+        assertEquals(6, byteBuffer.getInt(4));
+        buffer.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testArrayBufferFromHeapByteBufferFails() {
+        new V8ArrayBuffer(v8, ByteBuffer.allocate(8));
+    }
+
+    @Test
+    public void testGetArrayBufferFromJS() {
+        V8ArrayBuffer buffer = (V8ArrayBuffer) v8.executeScript("var buf = new ArrayBuffer(10); buf;");
+
+        assertEquals(10, buffer.getByteLength());
+        buffer.release();
+    }
+
+    @Test
+    public void testArrayBufferTwin() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 10);
+        V8ArrayBuffer twin = buffer.twin();
+
+        assertEquals(10, twin.getByteLength());
+        assertTrue(twin.strictEquals(buffer));
+        buffer.release();
+        twin.release();
+    }
+
+    @Test
+    public void testCreateTypedArray() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 16);
+        V8TypedArray array = new V8TypedArray(v8, buffer, V8Value.INT_16_ARRAY, 4, 6);
+
+        assertEquals(6, array.length());
+        assertEquals(V8Value.INT_16_ARRAY, array.getArrayType());
+        buffer.release();
+        array.release();
+    }
+
+    @Test
+    public void testTypedArrayElementTypes() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 16);
+        int[] types = new int[] { V8Value.INT_8_ARRAY, V8Value.UNSIGNED_INT_8_ARRAY, V8Value.UNSIGNED_INT_8_CLAMPED_ARRAY,
+                V8Value.INT_16_ARRAY, V8Value.UNSIGNED_INT_16_ARRAY, V8Value.INT_32_ARRAY, V8Value.UNSIGNED_INT_32_ARRAY,
+                V8Value.FLOAT_32_ARRAY, V8Value.FLOAT_64_ARRAY };
+
+        for (int type : types) {
+            V8TypedArray array = new V8TypedArray(v8, buffer, type, 0, 16 / V8TypedArray.getStructureSize(type));
+            assertEquals(type, array.getArrayType());
+            array.release();
+        }
+        buffer.release();
+    }
+
+    @Test
+    public void testTypedArrayByteBufferIsView() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 16);
+        V8TypedArray array = new V8TypedArray(v8, buffer, V8Value.FLOAT_64_ARRAY, 8, 1);
+        v8.add("doubles", array);
+
+        ByteBuffer byteBuffer = array.getByteBuffer();
+        byteBuffer.putDouble(0, 1.5);
+
+        assertEquals(8, byteBuffer.capacity());
+        assertEquals(1.5, v8.executeDoubleScript("doubles[0]"), 0.000001);
+        assertEquals(1.5, buffer.getBackingStore().getDouble(8), 0.000001);
+        buffer.release();
+        array.release();
+    }
+
+    @Test
+    public void testTypedArrayReadsAsArray() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 8);
+        V8TypedArray array = new V8TypedArray(v8, buffer, V8Value.INT_32_ARRAY, 0, 2);
+        array.getByteBuffer().putInt(4, 9);
+
+        assertEquals(9, array.getInteger(1));
+        buffer.release();
+        array.release();
+    }
+
+    @Test
+    public void testBulkSetOnTypedArray() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("new Int32Array(4)");
+
+        array.set(2, new int[] { 1, 2, 3 }, 1, 2);
+
+        assertEquals(2, array.getInteger(2));
+        assertEquals(3, array.getInteger(3));
+        array.release();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBulkSetPastEndOfTypedArrayFails() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("new Float64Array(4)");
+        try {
+            array.set(3, new double[] { 1, 2 }, 0, 2);
+        } finally {
+            array.release();
+        }
+    }
+
+    @Test
+    public void testGetTypedArrayFromJS() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("new Uint16Array(5)");
+
+        assertEquals(V8Value.UNSIGNED_INT_16_ARRAY, array.getArrayType());
+        assertEquals(5, array.length());
+        array.release();
+    }
+
+    @Test
+    public void testGetBufferFromTypedArray() {
+        V8TypedArray array = (V8TypedArray) v8.executeScript("new Float32Array(3)");
+
+        V8ArrayBuffer buffer = array.getBuffer();
+
+        assertEquals(12, buffer.getByteLength());
+        buffer.release();
+        array.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTypedArrayUnalignedOffsetFails() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 16);
+        try {
+            new V8TypedArray(v8, buffer, V8Value.INT_32_ARRAY, 2, 1);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTypedArrayOutOfBoundsFails() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 16);
+        try {
+            new V8TypedArray(v8, buffer, V8Value.FLOAT_64_ARRAY, 8, 2);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTypedArrayInvalidTypeFails() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 16);
+        try {
+            new V8TypedArray(v8, buffer, V8Value.STRING, 0, 1);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testTransferDetachesArrayBuffer() {
+        V8ArrayBuffer buffer = (V8ArrayBuffer) v8.executeScript("var buf = new ArrayBuffer(8); var ints = new Int32Array(buf); ints[1] = 7; buf;");
+
+        buffer.transfer();
+
+        assertEquals(0, buffer.getByteLength());
+        assertEquals(0, v8.executeIntegerScript("buf.byteLength"));
+        assertEquals(0, v8.executeIntegerScript("ints.length"));
+        buffer.release();
+    }
+
+    @Test
+    public void testTransferCopiesV8AllocatedContents() {
+        V8ArrayBuffer buffer = (V8ArrayBuffer) v8.executeScript("var buf = new ArrayBuffer(8); new Int32Array(buf)[1] = 7; buf;");
+
+        ByteBuffer result = buffer.transfer();
+
+        assertTrue(result.isDirect());
+        assertEquals(8, result.capacity());
+        assertEquals(7, result.getInt(4));
+        buffer.release();
+    }
+
+    @Test
+    public void testTransferDirectByteBufferWithoutCopy() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8).order(ByteOrder.nativeOrder());
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+
+        ByteBuffer result = buffer.transfer();
+        byteBuffer.putInt(0, 3);
+
+        assertEquals(3, result.getInt(0));
+        assertEquals(8, result.capacity());
+        buffer.release();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTransferReleasedBufferFails() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 8);
+        buffer.release();
+
+        buffer.transfer();
+    }
+
+    @Test
+    public void testByteBufferReferencedWhileArrayBufferIsReachable() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, ByteBuffer.allocateDirect(8));
+        v8.add("buf", buffer);
+        buffer.release();
+
+        v8.lowMemoryNotification();
+
+        assertEquals(1, v8.getRetainedByteBufferCount());
+    }
+
+    @Test
+    public void testByteBufferDroppedWhenArrayBufferIsCollected() {
+        for (int i = 0; i < 100; i++) {
+            new V8ArrayBuffer(v8, ByteBuffer.allocateDirect(8)).release();
+        }
+
+        v8.lowMemoryNotification();
+
+        assertEquals(0, v8.getRetainedByteBufferCount());
+    }
+
+    @Test
+    public void testBackingStoreOfJavaBufferSharesMemory() {
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 8);
+        ByteBuffer backingStore = buffer.getBackingStore();
+
+        ByteBuffer result = buffer.transfer();
+        backingStore.putInt(0, 3);
+
+        assertEquals(3, result.getInt(0));
+        buffer.release();
+    }
+
+    @Test
+    public void testTypedArrayByteBufferOfJavaBufferIsSlice() {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(16).order(ByteOrder.nativeOrder());
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, byteBuffer);
+        V8TypedArray array = new V8TypedArray(v8, buffer, V8Value.INT_32_ARRAY, 8, 2);
+
+        ByteBuffer view = array.getByteBuffer();
+        view.putInt(4, 5);
+
+        assertEquals(8, view.capacity());
+        assertEquals(5, byteBuffer.getInt(12));
+        buffer.release();
+        array.release();
+    }
+
+}
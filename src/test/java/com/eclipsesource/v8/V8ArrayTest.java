@@ -227,6 +227,41 @@ public class V8ArrayTest {
         undefined.addUndefined("foo");
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterArgumentsCallbackUndefined() {
+        V8Array undefined = v8.getArray("array");
+
+        undefined.registerJavaMethod((V8ArgumentsCallback) null, "foo");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterIntCallbackUndefined() {
+        V8Array undefined = v8.getArray("array");
+
+        undefined.registerJavaIntMethod((JavaIntCallback) null, "foo");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterDoubleCallbackUndefined() {
+        V8Array undefined = v8.getArray("array");
+
+        undefined.registerJavaDoubleMethod((JavaDoubleCallback) null, "foo");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterBooleanCallbackUndefined() {
+        V8Array undefined = v8.getArray("array");
+
+        undefined.registerJavaBooleanMethod((JavaBooleanCallback) null, "foo");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterStringCallbackUndefined() {
+        V8Array undefined = v8.getArray("array");
+
+        undefined.registerJavaStringMethod((JavaStringCallback) null, "foo");
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void testContainsUndefined() {
         V8Array undefined = v8.getArray("array");
@@ -2052,6 +2087,137 @@ public class V8ArrayTest {
         a.release();
     }
 
+    @Test
+    public void testPushAllIntegers() {
+        V8Array array = new V8Array(v8);
+        array.push(0);
+
+        array.pushAll(new int[] { 1, 2, 3, 4 }, 1, 2);
+
+        assertEquals(3, array.length());
+        assertEquals(0, array.getInteger(0));
+        assertEquals(2, array.getInteger(1));
+        assertEquals(3, array.getInteger(2));
+        array.release();
+    }
+
+    @Test
+    public void testPushAllDoubles() {
+        V8Array array = new V8Array(v8);
+
+        array.pushAll(new double[] { 1.1, 2.2, 3.3 }, 0, 3);
+
+        assertEquals(3, array.length());
+        assertEquals(1.1, array.getDouble(0), 0.000001);
+        assertEquals(3.3, array.getDouble(2), 0.000001);
+        array.release();
+    }
+
+    @Test
+    public void testPushAllBooleans() {
+        V8Array array = new V8Array(v8);
+
+        array.pushAll(new boolean[] { true, false }, 0, 2);
+
+        assertEquals(2, array.length());
+        assertTrue(array.getBoolean(0));
+        assertFalse(array.getBoolean(1));
+        array.release();
+    }
+
+    @Test
+    public void testPushAllStrings() {
+        V8Array array = new V8Array(v8);
+
+        array.pushAll(new String[] { "a", null, "c" }, 0, 3);
+
+        assertEquals(3, array.length());
+        assertEquals("a", array.getString(0));
+        assertEquals(NULL, array.getType(1));
+        assertEquals("c", array.getString(2));
+        array.release();
+    }
+
+    @Test
+    public void testPushAllEmptyRange() {
+        V8Array array = new V8Array(v8);
+
+        array.pushAll(new int[] { 1, 2 }, 2, 0);
+
+        assertEquals(0, array.length());
+        array.release();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testPushAllRangeOutOfBounds() {
+        V8Array array = new V8Array(v8);
+        try {
+            array.pushAll(new int[] { 1, 2 }, 1, 2);
+        } finally {
+            array.release();
+        }
+    }
+
+    @Test
+    public void testSetIntegerRange() {
+        V8Array array = v8.executeArrayScript("[0, 0, 0, 0]");
+
+        array.set(1, new int[] { 7, 8 }, 0, 2);
+
+        assertEquals(4, array.length());
+        assertEquals(0, array.getInteger(0));
+        assertEquals(7, array.getInteger(1));
+        assertEquals(8, array.getInteger(2));
+        assertEquals(0, array.getInteger(3));
+        array.release();
+    }
+
+    @Test
+    public void testSetRangeGrowsArray() {
+        V8Array array = new V8Array(v8);
+
+        array.set(0, new String[] { "a", "b" }, 0, 2);
+        array.set(2, new double[] { 1.5 }, 0, 1);
+        array.set(3, new boolean[] { true }, 0, 1);
+
+        assertEquals(4, array.length());
+        assertEquals("b", array.getString(1));
+        assertEquals(1.5, array.getDouble(2), 0.000001);
+        assertTrue(array.getBoolean(3));
+        array.release();
+    }
+
+    @Test
+    public void testSetRangeOnTypedArray() {
+        V8Array array = v8.executeArrayScript("new Int32Array(4)");
+
+        array.set(2, new int[] { 5, 6 }, 0, 2);
+
+        assertEquals(5, array.getInteger(2));
+        assertEquals(6, array.getInteger(3));
+        array.release();
+    }
+
+    @Test(expected = V8RuntimeException.class)
+    public void testPushAllToTypedArrayFails() {
+        V8Array array = v8.executeArrayScript("new Int32Array(4)");
+        try {
+            array.pushAll(new int[] { 1 }, 0, 1);
+        } finally {
+            array.release();
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSetRangeNegativeIndex() {
+        V8Array array = new V8Array(v8);
+        try {
+            array.set(-1, new int[] { 1 }, 0, 1);
+        } finally {
+            array.release();
+        }
+    }
+
     @Test
     public void testUndefinedNotReleased() {
         com.eclipsesource.v8.V8Array.Undefined undefined = new V8Array.Undefined();
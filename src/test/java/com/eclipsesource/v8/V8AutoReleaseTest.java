@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8AutoReleaseTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testAutoReleaseDisabledByDefault() {
+        assertFalse(v8.isAutoRelease());
+    }
+
+    @Test
+    public void testUnreachableValuesAreReleased() throws InterruptedException {
+        v8.setAutoRelease(true);
+        for (int i = 0; i < 100; i++) {
+            new V8Object(v8);
+        }
+
+        int released = 0;
+        for (int i = 0; (i < 50) && (released < 100); i++) {
+            System.gc();
+            Thread.sleep(10);
+            released += v8.releaseUnreachableValues();
+        }
+
+        assertEquals(100, released);
+        assertEquals(100, v8.getAutoReleasedCount());
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testUnreachableValuesAreReleasedBeforeScriptExecution() throws InterruptedException {
+        v8.setAutoRelease(true);
+        new V8Array(v8);
+
+        for (int i = 0; (i < 50) && (v8.getAutoReleasedCount() == 0); i++) {
+            System.gc();
+            Thread.sleep(10);
+            v8.executeVoidScript("");
+        }
+
+        assertEquals(1, v8.getAutoReleasedCount());
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testUnreachableValuesAreReleasedBeforeCompiledScriptExecution() throws InterruptedException {
+        v8.setAutoRelease(true);
+        V8Script script = v8.compileScript("1");
+        new V8Array(v8);
+
+        for (int i = 0; (i < 50) && (v8.getAutoReleasedCount() == 0); i++) {
+            System.gc();
+            Thread.sleep(10);
+            script.executeInteger();
+        }
+        script.release();
+
+        assertEquals(1, v8.getAutoReleasedCount());
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testExplicitReleaseIsCounted() {
+        v8.setAutoRelease(true);
+        V8Object object = new V8Object(v8);
+
+        object.release();
+
+        assertEquals(1, v8.getExplicitlyReleasedCount());
+        assertEquals(0, v8.getAutoReleasedCount());
+    }
+
+    @Test
+    public void testBatchReleaseIsCountedAsExplicit() {
+        v8.setAutoRelease(true);
+        V8Object object = new V8Object(v8);
+        V8Array array = new V8Array(v8);
+
+        v8.releaseValues(object, array);
+
+        assertEquals(2, v8.getExplicitlyReleasedCount());
+    }
+
+    @Test
+    public void testReleasedScriptIsCountedAsExplicit() {
+        v8.setAutoRelease(true);
+        V8Script script = v8.compileScript("1");
+
+        script.release();
+
+        assertEquals(1, v8.getExplicitlyReleasedCount());
+        assertEquals(0, v8.getAutoReleasedCount());
+    }
+
+    @Test
+    public void testReachableValuesAreReleasedWithRuntime() {
+        V8 runtime = V8.createV8Runtime();
+        runtime.setAutoRelease(true);
+        V8Object object = runtime.executeObjectScript("({})");
+        V8Script script = runtime.compileScript("1");
+
+        runtime.release(true);
+
+        assertEquals(2, runtime.getAutoReleasedCount());
+        assertFalse(object.isReleased());
+        assertFalse(script.isReleased());
+    }
+
+    @Test
+    public void testValuesCreatedBeforeAutoReleaseAreNotTracked() {
+        V8Object object = new V8Object(v8);
+        v8.setAutoRelease(true);
+
+        object.release();
+
+        assertEquals(0, v8.getExplicitlyReleasedCount());
+    }
+
+    @Test
+    public void testDisableAutoRelease() {
+        v8.setAutoRelease(true);
+        v8.setAutoRelease(false);
+        V8Object object = new V8Object(v8);
+
+        object.release();
+
+        assertFalse(v8.isAutoRelease());
+        assertEquals(0, v8.getExplicitlyReleasedCount());
+    }
+
+    @Test
+    public void testReleasedValueIsNotReleasedAgain() throws InterruptedException {
+        v8.setAutoRelease(true);
+        V8Object object = new V8Object(v8);
+        object.release();
+        object = null;
+
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(10);
+            assertEquals(0, v8.releaseUnreachableValues());
+        }
+        assertEquals(0, v8.getAutoReleasedCount());
+    }
+
+}
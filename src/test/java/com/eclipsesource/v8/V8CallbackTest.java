@@ -13,6 +13,7 @@ package com.eclipsesource.v8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
@@ -109,6 +110,8 @@ public class V8CallbackTest {
 
         public void voidMethodStringVarArgs(final String... args);
 
+        public void voidMethodIntVarArgs(final int... args);
+
         public void voidMethodV8ObjectVarArgs(final V8Object... args);
 
         public void voidMethodVarArgsAndOthers(int x, int y, final Object... args);
@@ -282,6 +285,37 @@ public class V8CallbackTest {
         verify(callback).voidMethodStringVarArgs(eq("bar"));
     }
 
+    @Test
+    public void testCallbackVarArgsTypeMismatchReleasesArguments() {
+        ICallback callback = mock(ICallback.class);
+        v8.registerJavaMethod(callback, "voidMethodStringVarArgs", "foo", new Class<?>[] { String[].class });
+
+        try {
+            v8.executeVoidScript("foo('bar', {});");
+            fail("Exception should be thrown");
+        } catch (V8ScriptExecutionException e) {
+            // expected
+        }
+
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testCallbackIntVarArgsUsableAfterTypeMismatch() {
+        ICallback callback = mock(ICallback.class);
+        v8.registerJavaMethod(callback, "voidMethodIntVarArgs", "foo", new Class<?>[] { int[].class });
+
+        try {
+            v8.executeVoidScript("foo(1, 1.5);");
+            fail("Exception should be thrown");
+        } catch (V8ScriptExecutionException e) {
+            // expected
+        }
+        v8.executeVoidScript("foo(2, 3);");
+
+        verify(callback).voidMethodIntVarArgs(2, 3);
+    }
+
     @Test
     public void testCallbackV8ObjectVarArgs() {
         ICallback callback = mock(ICallback.class);
@@ -1547,6 +1581,237 @@ public class V8CallbackTest {
         };
     }
 
+    public static class Calculator {
+
+        private final V8 runtime;
+
+        Calculator(final V8 runtime) {
+            this.runtime = runtime;
+        }
+
+        public int factorial(final int n) {
+            if (n <= 1) {
+                return 1;
+            }
+            return n * runtime.executeIntegerScript("factorial(" + (n - 1) + ")");
+        }
+
+        public int sum(final int... values) {
+            int result = 0;
+            for (int value : values) {
+                result += value;
+            }
+            return result;
+        }
+
+        public String describe(final String prefix, final Object... values) {
+            return prefix + values.length;
+        }
+
+    }
+
+    private static class PrivateCallback {
+
+        public int value() {
+            return 7;
+        }
+
+    }
+
+    @Test
+    public void testReentrantJavaMethodCalls() {
+        v8.registerJavaMethod(new Calculator(v8), "factorial", "factorial", new Class<?>[] { Integer.TYPE });
+
+        int result = v8.executeIntegerScript("factorial(5)");
+
+        assertEquals(120, result);
+    }
+
+    @Test
+    public void testRepeatedJavaMethodCallsWithDifferentArguments() {
+        v8.registerJavaMethod(new Calculator(v8), "describe", "describe", new Class<?>[] { String.class, Object[].class });
+
+        String result = v8.executeStringScript("describe('a', 1, 2, 3) + describe('b') + describe('c', {})");
+
+        assertEquals("a3b0c1", result);
+    }
+
+    @Test
+    public void testPrimitiveVarArgs() {
+        v8.registerJavaMethod(new Calculator(v8), "sum", "sum", new Class<?>[] { int[].class });
+
+        int result = v8.executeIntegerScript("sum(1, 2, 3) + sum()");
+
+        assertEquals(6, result);
+    }
+
+    @Test
+    public void testPublicMethodOnPrivateClass() {
+        v8.registerJavaMethod(new PrivateCallback(), "value", "value", new Class<?>[0]);
+
+        int result = v8.executeIntegerScript("value()");
+
+        assertEquals(7, result);
+    }
+
+    @Test
+    public void testObjectArgumentsReleasedAfterEachCall() {
+        ICallback callback = mock(ICallback.class);
+        v8.registerJavaMethod(callback, "voidMethodWithObjectParameter", "foo", new Class<?>[] { V8Object.class });
+
+        v8.executeVoidScript("for (var i = 0; i < 10; i++) { foo({}); }");
+
+        v8.release(true);
+        v8 = V8.createV8Runtime();
+    }
+
+    @Test
+    public void testIntCallback() {
+        v8.registerJavaIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8Object receiver, final V8Array parameters) {
+                return parameters.getInteger(0) + parameters.getInteger(1);
+            }
+        }, "add");
+
+        int result = v8.executeIntegerScript("add(3, 4)");
+
+        assertEquals(7, result);
+    }
+
+    @Test
+    public void testIntCallbackReturnsNumber() {
+        v8.registerJavaIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8Object receiver, final V8Array parameters) {
+                return 7;
+            }
+        }, "foo");
+
+        assertEquals("number", v8.executeStringScript("typeof foo()"));
+    }
+
+    @Test
+    public void testDoubleCallback() {
+        v8.registerJavaDoubleMethod(new JavaDoubleCallback() {
+
+            @Override
+            public double invoke(final V8Object receiver, final V8Array parameters) {
+                return parameters.getDouble(0) / 2;
+            }
+        }, "half");
+
+        double result = v8.executeDoubleScript("half(3)");
+
+        assertEquals(1.5, result, 0.000001);
+    }
+
+    @Test
+    public void testBooleanCallback() {
+        v8.registerJavaBooleanMethod(new JavaBooleanCallback() {
+
+            @Override
+            public boolean invoke(final V8Object receiver, final V8Array parameters) {
+                return parameters.getInteger(0) > 0;
+            }
+        }, "isPositive");
+
+        assertTrue(v8.executeBooleanScript("isPositive(1)"));
+        assertFalse(v8.executeBooleanScript("isPositive(-1)"));
+    }
+
+    @Test
+    public void testStringCallback() {
+        v8.registerJavaStringMethod(new JavaStringCallback() {
+
+            @Override
+            public String invoke(final V8Object receiver, final V8Array parameters) {
+                return parameters.getString(0).toUpperCase();
+            }
+        }, "upper");
+
+        String result = v8.executeStringScript("upper('hello')");
+
+        assertEquals("HELLO", result);
+    }
+
+    @Test
+    public void testStringCallbackReturnsNull() {
+        v8.registerJavaStringMethod(new JavaStringCallback() {
+
+            @Override
+            public String invoke(final V8Object receiver, final V8Array parameters) {
+                return null;
+            }
+        }, "foo");
+
+        assertTrue(v8.executeBooleanScript("foo() === null"));
+    }
+
+    @Test
+    public void testTypedCallbackReceiver() {
+        v8.registerJavaIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8Object receiver, final V8Array parameters) {
+                return receiver.getInteger("x");
+            }
+        }, "foo");
+
+        assertEquals(7, v8.executeIntegerScript("var o = {x: 7, foo: foo}; o.foo()"));
+    }
+
+    @Test
+    public void testTypedCallbackException() {
+        v8.registerJavaIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8Object receiver, final V8Array parameters) {
+                throw new RuntimeException("My Runtime Exception");
+            }
+        }, "foo");
+
+        try {
+            v8.executeVoidScript("foo()");
+        } catch (V8ScriptExecutionException e) {
+            assertEquals("My Runtime Exception", e.getCause().getMessage());
+            return;
+        }
+        fail("Exception should have been thrown.");
+    }
+
+    @Test
+    public void testTypedCallbackExceptionCaughtInJS() {
+        v8.registerJavaStringMethod(new JavaStringCallback() {
+
+            @Override
+            public String invoke(final V8Object receiver, final V8Array parameters) {
+                throw new RuntimeException("My Runtime Exception");
+            }
+        }, "foo");
+
+        String result = v8.executeStringScript("var r; try { foo(); } catch (e) { r = e; }; r");
+
+        assertEquals("My Runtime Exception", result);
+    }
+
+    @Test
+    public void testTypedCallbackOnObject() {
+        V8Object object = v8.executeObjectScript("var o = {}; o");
+        object.registerJavaDoubleMethod(new JavaDoubleCallback() {
+
+            @Override
+            public double invoke(final V8Object receiver, final V8Array parameters) {
+                return 0.5;
+            }
+        }, "foo");
+
+        assertEquals(0.5, v8.executeDoubleScript("o.foo()"), 0.000001);
+        object.release();
+    }
+
     private Answer<Object> constructReflectiveAnswer(final V8Object receiver, final V8Array parameters, final Object result) {
         return new Answer<Object>() {
 
@@ -101,6 +101,74 @@ public class V8JSFunctionCallTest {
         parameters.release();
     }
 
+    @Test
+    public void testCallIntFunction() {
+        v8.executeVoidScript("function add(x, y) {return x+y;}");
+        V8Function function = (V8Function) v8.getObject("add");
+
+        Object result = function.callInt(v8, 7, 8);
+
+        assertEquals(15, result);
+        function.release();
+    }
+
+    @Test
+    public void testCallIntFunctionNoParameters() {
+        v8.executeVoidScript("function count() {return arguments.length;}");
+        V8Function function = (V8Function) v8.getObject("count");
+
+        Object result = function.callInt(v8);
+
+        assertEquals(0, result);
+        function.release();
+    }
+
+    @Test
+    public void testCallIntFunctionNullReceiver() {
+        v8.executeVoidScript("var x = 3; function add(y) {return this.x + y;}");
+        V8Function function = (V8Function) v8.getObject("add");
+
+        Object result = function.callInt(null, 4);
+
+        assertEquals(7, result);
+        function.release();
+    }
+
+    @Test
+    public void testCallDoubleFunction() {
+        v8.executeVoidScript("function add(x, y) {return x+y;}");
+        V8Function function = (V8Function) v8.getObject("add");
+
+        Object result = function.callDouble(v8, 1.25, 2.5);
+
+        assertEquals(3.75, (Double) result, 0.000001);
+        function.release();
+    }
+
+    @Test
+    public void testCallDoubleFunctionOnReceiver() {
+        V8Object receiver = v8.executeObjectScript("({scale: 2})");
+        v8.executeVoidScript("function scale(x) {return this.scale * x;}");
+        V8Function function = (V8Function) v8.getObject("scale");
+
+        Object result = function.callDouble(receiver, 1.25);
+
+        assertEquals(2.5, (Double) result, 0.000001);
+        function.release();
+        receiver.release();
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testCallIntFunctionThrows() {
+        v8.executeVoidScript("function fail(x) {throw 'error';}");
+        V8Function function = (V8Function) v8.getObject("fail");
+        try {
+            function.callInt(v8, 1);
+        } finally {
+            function.release();
+        }
+    }
+
     @Test
     public void testFunctionScope() {
         v8.executeVoidScript("function say() { return this.name + ' say meow!'} ");
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8KeyTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetName() {
+        V8Key key = new V8Key(v8, "foo");
+
+        assertEquals("foo", key.getName());
+        assertEquals("foo", key.toString());
+        key.release();
+    }
+
+    @Test
+    public void testReleaseKey() {
+        V8Key key = new V8Key(v8, "foo");
+
+        key.release();
+
+        assertTrue(key.isReleased());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnreleasedKeyIsReported() {
+        new V8Key(v8, "foo");
+
+        v8.release(true);
+    }
+
+    @Test
+    public void testGetPrimitivesWithKey() {
+        V8Key i = new V8Key(v8, "i");
+        V8Key d = new V8Key(v8, "d");
+        V8Key b = new V8Key(v8, "b");
+        V8Key s = new V8Key(v8, "s");
+        V8Object object = v8.executeObjectScript("({i: 7, d: 3.14, b: true, s: 'foo'})");
+
+        assertEquals(7, object.getInteger(i));
+        assertEquals(3.14, object.getDouble(d), 0.000001);
+        assertTrue(object.getBoolean(b));
+        assertEquals("foo", object.getString(s));
+        assertEquals(V8Value.STRING, object.getType(s));
+        assertEquals(7, object.get(i));
+        object.release();
+        i.release();
+        d.release();
+        b.release();
+        s.release();
+    }
+
+    @Test
+    public void testContainsWithKey() {
+        V8Key foo = new V8Key(v8, "foo");
+        V8Key bar = new V8Key(v8, "bar");
+        V8Object object = v8.executeObjectScript("({foo: 1})");
+
+        assertTrue(object.contains(foo));
+        assertFalse(object.contains(bar));
+        object.release();
+        foo.release();
+        bar.release();
+    }
+
+    @Test
+    public void testAddWithKey() {
+        V8Key i = new V8Key(v8, "i");
+        V8Key s = new V8Key(v8, "s");
+        V8Key n = new V8Key(v8, "n");
+        V8Key o = new V8Key(v8, "o");
+        V8Object object = new V8Object(v8);
+        V8Object child = new V8Object(v8);
+
+        object.add(i, 7).add(s, "foo").addNull(n).add(o, child);
+
+        assertEquals(7, object.getInteger("i"));
+        assertEquals("foo", object.getString("s"));
+        assertEquals(V8Value.NULL, object.getType("n"));
+        V8Object result = object.getObject(o);
+        assertTrue(result.strictEquals(child));
+        result.release();
+        child.release();
+        object.release();
+        i.release();
+        s.release();
+        n.release();
+        o.release();
+    }
+
+    @Test
+    public void testExecuteFunctionWithKey() {
+        V8Key add = new V8Key(v8, "add");
+        v8.executeVoidScript("function add(x, y) { return x + y; }");
+        V8Array parameters = new V8Array(v8).push(1).push(2);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(3, v8.executeIntegerFunction(add, parameters));
+        }
+        parameters.release();
+        add.release();
+    }
+
+    @Test
+    public void testExecuteArrayFunctionWithKey() {
+        V8Key create = new V8Key(v8, "create");
+        v8.executeVoidScript("function create() { return [1, 2]; }");
+
+        V8Array result = v8.executeArrayFunction(create, null);
+
+        assertEquals(2, result.length());
+        result.release();
+        create.release();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReleasedKeyCannotBeUsed() {
+        V8Key key = new V8Key(v8, "foo");
+        key.release();
+
+        v8.contains(key);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeyFromOtherRuntimeCannotBeUsed() {
+        V8 other = V8.createV8Runtime();
+        V8Key key = new V8Key(other, "foo");
+        try {
+            v8.contains(key);
+        } finally {
+            key.release();
+            other.release();
+        }
+    }
+
+}
@@ -15,6 +15,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
 
 public class V8LockerTest {
@@ -87,4 +93,171 @@ public class V8LockerTest {
         fail("Expected exception");
     }
 
+    @Test
+    public void testBlockingDisabledByDefault() {
+        V8Locker v8Locker = new V8Locker();
+
+        assertFalse(v8Locker.isBlocking());
+    }
+
+    @Test
+    public void testBlockingAcquireWaitsForRelease() throws InterruptedException {
+        final V8Locker v8Locker = new V8Locker();
+        v8Locker.setBlocking(true);
+        Thread t = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                v8Locker.acquire();
+                passed = v8Locker.hasLock();
+                v8Locker.release();
+            }
+        });
+        t.start();
+        waitForQueueLength(v8Locker, 1);
+        v8Locker.release();
+        t.join();
+
+        assertTrue(passed);
+        assertEquals(1, v8Locker.getContendedCount());
+        assertEquals(2, v8Locker.getAcquireCount());
+    }
+
+    @Test
+    public void testTryAcquireFreeLock() throws InterruptedException {
+        V8Locker v8Locker = new V8Locker();
+        v8Locker.release();
+
+        assertTrue(v8Locker.tryAcquire(0, TimeUnit.MILLISECONDS));
+        assertTrue(v8Locker.hasLock());
+    }
+
+    @Test
+    public void testTryAcquireTimesOut() throws InterruptedException {
+        final V8Locker v8Locker = new V8Locker();
+        Thread t = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    passed = !v8Locker.tryAcquire(10, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    // fall through, test fails
+                }
+            }
+        });
+        t.start();
+        t.join();
+
+        assertTrue(passed);
+        assertTrue(v8Locker.hasLock());
+        assertEquals(0, v8Locker.getQueueLength());
+    }
+
+    @Test
+    public void testWaitingThreadsAreServedInOrder() throws InterruptedException {
+        final V8Locker v8Locker = new V8Locker();
+        v8Locker.setBlocking(true);
+        final List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        Thread first = createAcquiringThread(v8Locker, "first", order);
+        Thread second = createAcquiringThread(v8Locker, "second", order);
+        first.start();
+        waitForQueueLength(v8Locker, 1);
+        second.start();
+        waitForQueueLength(v8Locker, 2);
+
+        v8Locker.release();
+        first.join();
+        second.join();
+
+        assertEquals(2, order.size());
+        assertEquals("first", order.get(0));
+        assertEquals("second", order.get(1));
+    }
+
+    @Test
+    public void testAcquireDoesNotOvertakeWaitingThreads() throws InterruptedException {
+        final V8Locker v8Locker = new V8Locker();
+        final CountDownLatch attempted = new CountDownLatch(1);
+        Thread t = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    v8Locker.tryAcquire(10, TimeUnit.SECONDS);
+                    attempted.await();
+                    v8Locker.release();
+                } catch (InterruptedException e) {
+                    // fall through, test fails
+                }
+            }
+        });
+        t.start();
+        waitForQueueLength(v8Locker, 1);
+        v8Locker.release();
+
+        try {
+            v8Locker.acquire();
+        } catch (Error e) {
+            passed = true;
+        }
+        attempted.countDown();
+        t.join();
+
+        assertTrue(passed);
+        assertFalse(v8Locker.hasLock());
+    }
+
+    @Test
+    public void testHoldTime() throws InterruptedException {
+        V8Locker v8Locker = new V8Locker();
+        Thread.sleep(10);
+        v8Locker.release();
+
+        assertTrue(v8Locker.getTotalHoldTime(TimeUnit.MILLISECONDS) >= 10);
+        assertEquals(v8Locker.getTotalHoldTime(TimeUnit.NANOSECONDS), v8Locker.getMaxHoldTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testWaitTime() throws InterruptedException {
+        final V8Locker v8Locker = new V8Locker();
+        Thread t = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    v8Locker.tryAcquire(10, TimeUnit.SECONDS);
+                    v8Locker.release();
+                } catch (InterruptedException e) {
+                    // fall through, test fails
+                }
+            }
+        });
+        t.start();
+        waitForQueueLength(v8Locker, 1);
+        Thread.sleep(10);
+        v8Locker.release();
+        t.join();
+
+        assertTrue(v8Locker.getMaxWaitTime(TimeUnit.MILLISECONDS) >= 10);
+    }
+
+    private Thread createAcquiringThread(final V8Locker v8Locker, final String name, final List<String> order) {
+        return new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                v8Locker.acquire();
+                order.add(name);
+                v8Locker.release();
+            }
+        });
+    }
+
+    private void waitForQueueLength(final V8Locker v8Locker, final int length) throws InterruptedException {
+        while (v8Locker.getQueueLength() < length) {
+            Thread.sleep(1);
+        }
+    }
+
 }
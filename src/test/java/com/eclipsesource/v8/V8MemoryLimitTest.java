@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8MemoryLimitTest {
+
+    private static final String RUNAWAY_SCRIPT = "var data = []; while (true) { data.push(new Array(1000)); }";
+    private static final long   MEMORY_LIMIT   = 32 * 1024 * 1024;
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test(expected = V8MemoryLimitException.class)
+    public void testRunawayScriptTerminated() {
+        v8.setMemoryLimitHandler(null, MEMORY_LIMIT);
+
+        v8.executeVoidScript(RUNAWAY_SCRIPT);
+    }
+
+    @Test
+    public void testRuntimeUsableAfterMemoryLimit() {
+        v8.setMemoryLimitHandler(null, MEMORY_LIMIT);
+        try {
+            v8.executeVoidScript(RUNAWAY_SCRIPT);
+            fail("Script should have been terminated.");
+        } catch (V8MemoryLimitException e) {
+            // expected
+        }
+        v8.executeVoidScript("data = null;");
+
+        assertEquals(2, v8.executeIntegerScript("1 + 1"));
+    }
+
+    @Test
+    public void testHandlerCalledWithUsage() {
+        final long[] arguments = new long[2];
+        v8.setMemoryLimitHandler(new MemoryLimitHandler() {
+
+            @Override
+            public long memoryLimitReached(final V8 runtime, final long usedHeapSize, final long memoryLimit) {
+                arguments[0] = usedHeapSize;
+                arguments[1] = memoryLimit;
+                return 0;
+            }
+        }, MEMORY_LIMIT);
+
+        try {
+            v8.executeVoidScript(RUNAWAY_SCRIPT);
+            fail("Script should have been terminated.");
+        } catch (V8MemoryLimitException e) {
+            assertTrue(arguments[0] > MEMORY_LIMIT);
+            assertEquals(MEMORY_LIMIT, arguments[1]);
+        }
+    }
+
+    @Test
+    public void testHandlerGrantsHeadroom() {
+        final int[] calls = new int[] { 0 };
+        v8.setMemoryLimitHandler(new MemoryLimitHandler() {
+
+            @Override
+            public long memoryLimitReached(final V8 runtime, final long usedHeapSize, final long memoryLimit) {
+                calls[0]++;
+                if (calls[0] < 3) {
+                    return memoryLimit * 2;
+                }
+                return 0;
+            }
+        }, MEMORY_LIMIT);
+
+        try {
+            v8.executeVoidScript(RUNAWAY_SCRIPT);
+            fail("Script should have been terminated.");
+        } catch (V8MemoryLimitException e) {
+            assertEquals(3, calls[0]);
+        }
+    }
+
+    @Test
+    public void testHandlerExceptionIsCause() {
+        final RuntimeException failure = new RuntimeException("failed");
+        v8.setMemoryLimitHandler(new MemoryLimitHandler() {
+
+            @Override
+            public long memoryLimitReached(final V8 runtime, final long usedHeapSize, final long memoryLimit) {
+                throw failure;
+            }
+        }, MEMORY_LIMIT);
+
+        try {
+            v8.executeVoidScript(RUNAWAY_SCRIPT);
+            fail("Script should have been terminated.");
+        } catch (V8MemoryLimitException e) {
+            assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    public void testMemoryLimitInFunctionCall() {
+        v8.executeVoidScript("function grow() { " + RUNAWAY_SCRIPT + " }");
+        v8.setMemoryLimitHandler(null, MEMORY_LIMIT);
+
+        try {
+            v8.executeVoidFunction("grow", null);
+            fail("Function should have been terminated.");
+        } catch (V8MemoryLimitException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testMemoryLimitActiveAfterCancelledTermination() {
+        final int[] calls = new int[] { 0 };
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 8000; i++) { data.push(new Array(1000)); }");
+        v8.setMemoryLimitHandler(new MemoryLimitHandler() {
+
+            @Override
+            public long memoryLimitReached(final V8 runtime, final long usedHeapSize, final long memoryLimit) {
+                calls[0]++;
+                return 0;
+            }
+        }, MEMORY_LIMIT);
+        v8.lowMemoryNotification();
+        v8.cancelTerminateExecution();
+        v8.executeVoidScript("data = null;");
+
+        try {
+            v8.executeVoidScript(RUNAWAY_SCRIPT);
+            fail("Script should have been terminated.");
+        } catch (V8MemoryLimitException e) {
+            // expected
+        }
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    public void testScriptBelowLimitNotTerminated() {
+        v8.setMemoryLimitHandler(null, MEMORY_LIMIT);
+
+        int result = v8.executeIntegerScript("var data = []; for (var i = 0; i < 1000; i++) { data.push({}); } data.length;");
+
+        assertEquals(1000, result);
+    }
+
+    @Test
+    public void testRemoveMemoryLimit() {
+        v8.setMemoryLimitHandler(null, 1);
+        v8.setMemoryLimitHandler(null, 0);
+
+        int result = v8.executeIntegerScript("var data = []; for (var i = 0; i < 100000; i++) { data.push({}); } data.length;");
+
+        assertEquals(100000, result);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMemoryLimit() {
+        v8.setMemoryLimitHandler(null, -1);
+    }
+
+}
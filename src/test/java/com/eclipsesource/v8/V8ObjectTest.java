@@ -748,6 +748,41 @@ public class V8ObjectTest {
         undefined.addUndefined("foo");
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterArgumentsCallbackUndefined() {
+        V8Object undefined = v8.getObject("object");
+
+        undefined.registerJavaMethod((V8ArgumentsCallback) null, "foo");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterIntCallbackUndefined() {
+        V8Object undefined = v8.getObject("object");
+
+        undefined.registerJavaIntMethod((JavaIntCallback) null, "foo");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterDoubleCallbackUndefined() {
+        V8Object undefined = v8.getObject("object");
+
+        undefined.registerJavaDoubleMethod((JavaDoubleCallback) null, "foo");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterBooleanCallbackUndefined() {
+        V8Object undefined = v8.getObject("object");
+
+        undefined.registerJavaBooleanMethod((JavaBooleanCallback) null, "foo");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRegisterStringCallbackUndefined() {
+        V8Object undefined = v8.getObject("object");
+
+        undefined.registerJavaStringMethod((JavaStringCallback) null, "foo");
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void testContainsUndefined() {
         V8Object undefined = v8.getObject("object");
@@ -1405,4 +1440,84 @@ public class V8ObjectTest {
         twin.release();
     }
 
+    @Test
+    public void testGetValues() {
+        V8Object object = v8.executeObjectScript("({i: 7, d: 3.14, b: true, s: 'foo', n: null, a: [1], o: {}})");
+        String[] keys = new String[] { "i", "d", "b", "s", "n", "missing", "a", "o" };
+        int[] types = new int[keys.length];
+        Object[] values = new Object[keys.length];
+
+        object.getValues(keys, types, values);
+
+        assertEquals(INTEGER, types[0]);
+        assertEquals(7, values[0]);
+        assertEquals(DOUBLE, types[1]);
+        assertEquals(3.14, (Double) values[1], 0.000001);
+        assertEquals(BOOLEAN, types[2]);
+        assertEquals(true, values[2]);
+        assertEquals(STRING, types[3]);
+        assertEquals("foo", values[3]);
+        assertEquals(NULL, types[4]);
+        assertNull(values[4]);
+        assertEquals(UNDEFINED, types[5]);
+        assertEquals(V8.getUndefined(), values[5]);
+        assertEquals(V8_ARRAY, types[6]);
+        assertTrue(values[6] instanceof V8Array);
+        assertEquals(V8_OBJECT, types[7]);
+        assertTrue(values[7] instanceof V8Object);
+        ((V8Value) values[6]).release();
+        ((V8Value) values[7]).release();
+        object.release();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetValuesResultTooSmall() {
+        V8Object object = new V8Object(v8);
+        try {
+            object.getValues(new String[] { "a", "b" }, new int[2], new Object[1]);
+        } finally {
+            object.release();
+        }
+    }
+
+    @Test
+    public void testAddAll() {
+        V8Object object = new V8Object(v8);
+        V8Array array = new V8Array(v8).push(1);
+
+        object.addAll(new String[] { "i", "d", "b", "s", "n", "u", "a" },
+                new Object[] { 7, 3.14, false, "foo", null, V8.getUndefined(), array });
+        v8.add("object", object);
+
+        assertEquals(7, object.getInteger("i"));
+        assertEquals(3.14, object.getDouble("d"), 0.000001);
+        assertFalse(object.getBoolean("b"));
+        assertEquals("foo", object.getString("s"));
+        assertEquals(NULL, object.getType("n"));
+        assertTrue(v8.executeBooleanScript("object.hasOwnProperty('u') && object.u === undefined"));
+        assertEquals(1, v8.executeIntegerScript("object.a[0]"));
+        array.release();
+        object.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddAllUnsupportedType() {
+        V8Object object = new V8Object(v8);
+        try {
+            object.addAll(new String[] { "foo" }, new Object[] { new Object() });
+        } finally {
+            object.release();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddAllMismatchedLength() {
+        V8Object object = new V8Object(v8);
+        try {
+            object.addAll(new String[] { "foo", "bar" }, new Object[] { 1 });
+        } finally {
+            object.release();
+        }
+    }
+
 }
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8ScriptTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCompileScriptDoesNotExecute() {
+        V8Script script = v8.compileScript("var x = 7;");
+
+        assertFalse(v8.contains("x"));
+        script.release();
+    }
+
+    @Test
+    public void testExecuteIntegerScript() {
+        V8Script script = v8.compileScript("1 + 2");
+
+        assertEquals(3, script.executeInteger());
+        script.release();
+    }
+
+    @Test
+    public void testExecuteScriptMultipleTimes() {
+        v8.executeVoidScript("var count = 0;");
+        V8Script script = v8.compileScript("++count;");
+
+        script.executeVoid();
+        script.executeVoid();
+        int result = script.executeInteger();
+
+        assertEquals(3, result);
+        script.release();
+    }
+
+    @Test
+    public void testExecuteDoubleScript() {
+        V8Script script = v8.compileScript("1.5 + 2");
+
+        assertEquals(3.5, script.executeDouble(), 0.000001);
+        script.release();
+    }
+
+    @Test
+    public void testExecuteStringScript() {
+        V8Script script = v8.compileScript("'hello' + ', world'");
+
+        assertEquals("hello, world", script.executeString());
+        script.release();
+    }
+
+    @Test
+    public void testExecuteBooleanScript() {
+        V8Script script = v8.compileScript("1 < 2");
+
+        assertTrue(script.executeBoolean());
+        script.release();
+    }
+
+    @Test
+    public void testExecuteObjectScript() {
+        V8Script script = v8.compileScript("x = {a : 1}; x");
+
+        V8Object result = script.executeObject();
+
+        assertEquals(1, result.getInteger("a"));
+        result.release();
+        script.release();
+    }
+
+    @Test
+    public void testExecuteArrayScript() {
+        V8Script script = v8.compileScript("[1, 2, 3]");
+
+        V8Array result = script.executeArray();
+
+        assertEquals(3, result.length());
+        result.release();
+        script.release();
+    }
+
+    @Test
+    public void testExecuteScript() {
+        V8Script script = v8.compileScript("7");
+
+        assertEquals(7, script.execute());
+        script.release();
+    }
+
+    @Test(expected = V8ResultUndefined.class)
+    public void testExecuteIntegerScriptWrongType() {
+        V8Script script = v8.compileScript("'foo'");
+        try {
+            script.executeInteger();
+        } finally {
+            script.release();
+        }
+    }
+
+    @Test(expected = V8ScriptCompilationException.class)
+    public void testCompileInvalidScript() {
+        v8.compileScript("var x = ;");
+    }
+
+    @Test
+    public void testExecutionExceptionHasScriptName() {
+        V8Script script = v8.compileScript("\n throw 'fail';", "myScript.js", 0);
+        try {
+            script.executeVoid();
+        } catch (V8ScriptExecutionException e) {
+            assertEquals("myScript.js", e.getFileName());
+            assertEquals(2, e.getLineNumber());
+            return;
+        } finally {
+            script.release();
+        }
+        fail("Exception should have been thrown.");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testCompileNullScript() {
+        v8.compileScript(null);
+    }
+
+    @Test
+    public void testReleaseScript() {
+        V8Script script = v8.compileScript("1");
+
+        script.release();
+
+        assertTrue(script.isReleased());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCannotExecuteReleasedScript() {
+        V8Script script = v8.compileScript("1");
+        script.release();
+
+        script.executeInteger();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnreleasedScriptReported() {
+        V8 runtime = V8.createV8Runtime();
+        runtime.compileScript("1");
+
+        runtime.release(true);
+    }
+
+    @Test
+    public void testGetRuntime() {
+        V8Script script = v8.compileScript("1");
+
+        assertEquals(v8, script.getRuntime());
+        script.release();
+    }
+
+    @Test(expected = Error.class)
+    public void testExecuteScriptOnWrongThread() {
+        V8Script script = v8.compileScript("1");
+        v8.getLocker().release();
+        try {
+            script.executeInteger();
+        } finally {
+            v8.getLocker().acquire();
+            script.release();
+        }
+    }
+
+    @Test
+    public void testCreateCodeCache() {
+        byte[] codeCache = v8.createCodeCache("function foo() { return 7; }; foo();", "script", 0);
+
+        assertNotNull(codeCache);
+        assertTrue(codeCache.length > 0);
+    }
+
+    @Test
+    public void testCompileScriptWithCodeCache() {
+        String source = "function foo() { return 7; }; foo();";
+        byte[] codeCache = v8.createCodeCache(source, "script", 0);
+
+        V8Script script = v8.compileScript(source, "script", 0, codeCache);
+
+        assertFalse(script.isCodeCacheRejected());
+        assertEquals(7, script.executeInteger());
+        script.release();
+    }
+
+    @Test
+    public void testCodeCacheUsableOnOtherRuntime() {
+        String source = "function foo() { return 7; }; foo();";
+        byte[] codeCache = v8.createCodeCache(source, "script", 0);
+        V8 runtime = V8.createV8Runtime();
+
+        V8Script script = runtime.compileScript(source, "script", 0, codeCache);
+
+        assertFalse(script.isCodeCacheRejected());
+        assertEquals(7, script.executeInteger());
+        script.release();
+        runtime.release();
+    }
+
+    @Test
+    public void testInvalidCodeCacheRejected() {
+        V8Script script = v8.compileScript("1 + 1", "script", 0, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+
+        assertTrue(script.isCodeCacheRejected());
+        assertEquals(2, script.executeInteger());
+        script.release();
+    }
+
+    @Test
+    public void testNullCodeCacheCompilesScript() {
+        V8Script script = v8.compileScript("1 + 1", "script", 0, null);
+
+        assertFalse(script.isCodeCacheRejected());
+        assertEquals(2, script.executeInteger());
+        script.release();
+    }
+
+    @Test
+    public void testScriptWithoutCodeCacheNotRejected() {
+        V8Script script = v8.compileScript("1 + 1");
+
+        assertFalse(script.isCodeCacheRejected());
+        script.release();
+    }
+
+    @Test(expected = V8ScriptCompilationException.class)
+    public void testCreateCodeCacheCompilationException() {
+        v8.createCodeCache("(function() {", "script", 0);
+    }
+
+}
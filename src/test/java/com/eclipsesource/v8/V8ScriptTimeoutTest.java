@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8ScriptTimeoutTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testScriptWithinTimeout() {
+        Object result = v8.executeScript("1 + 1", 10, TimeUnit.SECONDS);
+
+        assertEquals(2, result);
+    }
+
+    @Test(expected = V8ScriptTimeoutException.class)
+    public void testInfiniteLoopTimesOut() {
+        v8.executeScript("while (true) {}", 100, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testTimeoutExceptionDetails() {
+        try {
+            v8.executeScript("while (true) {}", "loop.js", 0, 100, TimeUnit.MILLISECONDS);
+            fail("Script should have timed out.");
+        } catch (V8ScriptTimeoutException e) {
+            assertEquals(100, e.getTimeout());
+            assertEquals("loop.js", e.getFileName());
+            assertTrue(e instanceof V8ScriptExecutionException);
+        }
+    }
+
+    @Test
+    public void testRuntimeUsableAfterTimeout() {
+        try {
+            v8.executeScript("while (true) {}", 50, TimeUnit.MILLISECONDS);
+            fail("Script should have timed out.");
+        } catch (V8ScriptTimeoutException e) {
+            // expected
+        }
+
+        assertEquals(3, v8.executeIntegerScript("1 + 2"));
+    }
+
+    @Test
+    public void testScriptErrorIsNotTimeout() {
+        try {
+            v8.executeScript("throw 'error';", 10, TimeUnit.SECONDS);
+            fail("Script should have failed.");
+        } catch (V8ScriptTimeoutException e) {
+            fail("Script should not have timed out.");
+        } catch (V8ScriptExecutionException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testExpiredTimeoutDoesNotAffectNextScript() {
+        for (int i = 0; i < 100; i++) {
+            try {
+                v8.executeScript("1", 1, TimeUnit.NANOSECONDS);
+            } catch (V8ScriptTimeoutException e) {
+                // the timeout may expire before or after the script completed
+            }
+        }
+
+        assertEquals(1, v8.executeIntegerScript("1"));
+    }
+
+    @Test(expected = V8ScriptTimeoutException.class)
+    public void testFunctionCallTimesOut() {
+        V8Function function = (V8Function) v8.executeScript("(function() { while (true) {} })");
+        try {
+            function.call(null, null, 100, TimeUnit.MILLISECONDS);
+        } finally {
+            function.release();
+        }
+    }
+
+    @Test
+    public void testFunctionCallWithinTimeout() {
+        V8Function function = (V8Function) v8.executeScript("(function(x) { return x * 2; })");
+        V8Array parameters = new V8Array(v8).push(21);
+
+        Object result = function.call(null, parameters, 10, TimeUnit.SECONDS);
+
+        assertEquals(42, result);
+        parameters.release();
+        function.release();
+    }
+
+    @Test
+    public void testTimeoutsOnSeveralRuntimes() throws InterruptedException {
+        final int count = 4;
+        final boolean[] timedOut = new boolean[count];
+        Thread[] threads = new Thread[count];
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            threads[i] = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    V8 runtime = V8.createV8Runtime();
+                    try {
+                        runtime.executeScript("while (true) {}", 100 + (index * 50), TimeUnit.MILLISECONDS);
+                    } catch (V8ScriptTimeoutException e) {
+                        timedOut[index] = true;
+                    } finally {
+                        runtime.release();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (boolean result : timedOut) {
+            assertTrue(result);
+        }
+    }
+
+    @Test
+    public void testRuntimeUsableAfterTermination() throws InterruptedException {
+        Thread terminator = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    // terminate right away
+                }
+                v8.terminateExecution();
+            }
+        });
+        terminator.start();
+        try {
+            v8.executeVoidScript("while (true) {}");
+            fail("Script should have been terminated.");
+        } catch (V8RuntimeException e) {
+            // expected
+        }
+        terminator.join();
+
+        assertFalse(v8.isExecutionTerminating());
+        assertEquals(3, v8.executeIntegerScript("1 + 2"));
+    }
+
+    @Test
+    public void testCancelPendingTermination() {
+        v8.terminateExecution();
+
+        v8.cancelTerminateExecution();
+
+        assertEquals(1000, v8.executeIntegerScript("var i = 0; for (var j = 0; j < 1000; j++) { i++; } i;"));
+    }
+
+    @Test
+    public void testNotTerminatingWhenIdle() {
+        assertFalse(v8.isExecutionTerminating());
+    }
+
+    @Test
+    public void testNotTerminatingWhenReleased() {
+        V8 runtime = V8.createV8Runtime();
+        runtime.release();
+
+        assertFalse(runtime.isExecutionTerminating());
+    }
+
+    @Test(expected = Error.class)
+    public void testIsExecutionTerminatingOnWrongThread() {
+        v8.getLocker().release();
+        try {
+            v8.isExecutionTerminating();
+        } finally {
+            v8.getLocker().acquire();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTimeout() {
+        v8.executeScript("1", 0, TimeUnit.SECONDS);
+    }
+
+}
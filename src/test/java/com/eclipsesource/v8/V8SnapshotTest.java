@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class V8SnapshotTest {
+
+    @After
+    public void tearDown() {
+        if (V8.getActiveRuntimes() != 0) {
+            throw new IllegalStateException("V8Runtimes not properly released.");
+        }
+    }
+
+    @Test
+    public void testBuildSnapshot() {
+        byte[] snapshot = new V8SnapshotBuilder().addScript("var x = 7;").build();
+
+        assertNotNull(snapshot);
+        assertTrue(snapshot.length > 0);
+    }
+
+    @Test
+    public void testBuildEmptySnapshot() {
+        byte[] snapshot = new V8SnapshotBuilder().build();
+
+        V8 runtime = V8.createV8Runtime(null, null, snapshot);
+
+        assertEquals(2, runtime.executeIntegerScript("1 + 1"));
+        runtime.release();
+    }
+
+    @Test
+    public void testRuntimeFromSnapshotHasState() {
+        byte[] snapshot = new V8SnapshotBuilder().addScript("var x = 7;").build();
+
+        V8 runtime = V8.createV8Runtime(null, null, snapshot);
+
+        assertEquals(7, runtime.getInteger("x"));
+        runtime.release();
+    }
+
+    @Test
+    public void testRuntimeFromSnapshotHasFunctions() {
+        byte[] snapshot = new V8SnapshotBuilder().addScript("function add(a, b) { return a + b; }").build();
+
+        V8 runtime = V8.createV8Runtime(null, null, snapshot);
+
+        assertEquals(7, runtime.executeIntegerScript("add(3, 4)"));
+        runtime.release();
+    }
+
+    @Test
+    public void testScriptsExecutedInOrder() {
+        byte[] snapshot = new V8SnapshotBuilder().addScript("var x = 3").addScript("x = x * 2").build();
+
+        V8 runtime = V8.createV8Runtime(null, null, snapshot);
+
+        assertEquals(6, runtime.getInteger("x"));
+        runtime.release();
+    }
+
+    @Test
+    public void testRuntimesFromSnapshotAreIsolated() {
+        byte[] snapshot = new V8SnapshotBuilder().addScript("var x = 7;").build();
+        V8 runtime1 = V8.createV8Runtime(null, null, snapshot);
+        V8 runtime2 = V8.createV8Runtime(null, null, snapshot);
+
+        runtime1.executeVoidScript("x = 8;");
+
+        assertEquals(8, runtime1.getInteger("x"));
+        assertEquals(7, runtime2.getInteger("x"));
+        runtime1.release();
+        runtime2.release();
+    }
+
+    @Test
+    public void testSnapshotNotRequiredAfterCreation() {
+        byte[] snapshot = new V8SnapshotBuilder().addScript("var x = 7;").build();
+        V8 runtime = V8.createV8Runtime(null, null, snapshot);
+
+        snapshot[0] = 0;
+
+        assertEquals(7, runtime.executeIntegerScript("x"));
+        runtime.release();
+    }
+
+    @Test
+    public void testRuntimeFromSnapshotWithGlobalAlias() {
+        byte[] snapshot = new V8SnapshotBuilder().addScript("var x = 7;").build();
+
+        V8 runtime = V8.createV8Runtime("window", null, snapshot);
+
+        assertEquals(7, runtime.executeIntegerScript("window.x"));
+        runtime.release();
+    }
+
+    @Test
+    public void testRuntimeFromSnapshotWithCallbacks() {
+        byte[] snapshot = new V8SnapshotBuilder().addScript("function twice(x) { return 2 * x; }").build();
+        V8 runtime = V8.createV8Runtime(null, null, snapshot);
+        runtime.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                return 21;
+            }
+        }, "value");
+
+        assertEquals(42, runtime.executeIntegerScript("twice(value())"));
+        runtime.release();
+    }
+
+    @Test
+    public void testNullSnapshotCreatesEmptyRuntime() {
+        V8 runtime = V8.createV8Runtime(null, null, null);
+
+        assertEquals("undefined", runtime.executeStringScript("typeof x"));
+        runtime.release();
+    }
+
+    @Test(expected = V8RuntimeException.class)
+    public void testInvalidScriptFailsSnapshot() {
+        new V8SnapshotBuilder().addScript("throw 'error'").build();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullScript() {
+        new V8SnapshotBuilder().addScript(null);
+    }
+
+}
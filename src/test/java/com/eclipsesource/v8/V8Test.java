@@ -17,6 +17,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -169,6 +170,91 @@ public class V8Test {
         runtime.release(true);
     }
 
+    @Test
+    public void testReleaseAttachedValuesAfterOtherResources() {
+        final V8 runtime = V8.createV8Runtime();
+        final V8Object v8Object = new V8Object(runtime);
+        final boolean[] usedBeforeRelease = new boolean[] { false };
+        runtime.registerResource(v8Object);
+        runtime.registerResource(new Releasable() {
+
+            @Override
+            public void release() {
+                usedBeforeRelease[0] = !v8Object.isReleased();
+            }
+        });
+
+        runtime.release(true);
+
+        assertTrue(usedBeforeRelease[0]);
+        assertTrue(v8Object.isReleased());
+    }
+
+    @Test
+    public void testReleaseRuntimeWithManyCallbacks() {
+        V8 runtime = V8.createV8Runtime();
+        JavaVoidCallback callback = new JavaVoidCallback() {
+
+            @Override
+            public void invoke(final V8Object receiver, final V8Array parameters) {
+            }
+        };
+        for (int i = 0; i < 1000; i++) {
+            runtime.registerJavaMethod(callback, "foo" + i);
+            runtime.registerResource(new V8Object(runtime));
+        }
+
+        runtime.release(true);
+    }
+
+    /*** Heap ***/
+    @Test
+    public void testGetHeapStatistics() {
+        V8HeapStatistics statistics = v8.getHeapStatistics();
+
+        assertTrue(statistics.getUsedHeapSize() > 0);
+        assertTrue(statistics.getTotalHeapSize() >= statistics.getUsedHeapSize());
+        assertTrue(statistics.getHeapSizeLimit() > statistics.getTotalHeapSize());
+    }
+
+    @Test
+    public void testHeapStatisticsReflectAllocations() {
+        long before = v8.getHeapStatistics().getUsedHeapSize();
+
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 100000; i++) { data.push({ i: i }); }");
+
+        assertTrue(v8.getHeapStatistics().getUsedHeapSize() > before);
+    }
+
+    @Test
+    public void testLowMemoryNotificationFreesMemory() {
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 100000; i++) { data.push({ i: i }); }");
+        long before = v8.getHeapStatistics().getUsedHeapSize();
+        v8.executeVoidScript("data = null;");
+
+        v8.lowMemoryNotification();
+
+        assertTrue(v8.getHeapStatistics().getUsedHeapSize() < before);
+    }
+
+    @Test
+    public void testCreateRuntimeWithMaxHeapSize() {
+        V8 runtime = V8.createV8Runtime(null, null, null, 64);
+        try {
+            long limit = runtime.getHeapStatistics().getHeapSizeLimit();
+
+            assertTrue(limit < (v8.getHeapStatistics().getHeapSizeLimit()));
+            assertTrue(limit >= (64L * 1024 * 1024));
+        } finally {
+            runtime.release();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateRuntimeWithNegativeMaxHeapSize() {
+        V8.createV8Runtime(null, null, null, -1);
+    }
+
     /*** Void Script ***/
     @Test
     public void testSimpleVoidScript() {
@@ -1285,4 +1371,71 @@ public class V8Test {
         v8.executeVoidScript(script, "example.js", 0);
     }
 
+    @Test
+    public void testReleaseValues() {
+        V8Object object = new V8Object(v8);
+        V8Array array = new V8Array(v8);
+        V8Object twin = object.twin();
+
+        v8.releaseValues(object, array, twin);
+
+        assertTrue(object.isReleased());
+        assertTrue(array.isReleased());
+        assertTrue(twin.isReleased());
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testReleaseValuesIgnoresReleasedAndUndefined() {
+        V8Object object = new V8Object(v8);
+        V8Object released = new V8Object(v8);
+        released.release();
+
+        v8.releaseValues(object, released, null, V8.getUndefined(), object);
+
+        assertTrue(object.isReleased());
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReleaseValuesFromOtherRuntimeFails() {
+        V8 other = V8.createV8Runtime();
+        V8Object object = new V8Object(other);
+        try {
+            v8.releaseValues(object);
+        } finally {
+            object.release();
+            other.release();
+        }
+    }
+
+    @Test
+    public void testReferenceHandlerIsNotified() {
+        final List<V8Value> created = new ArrayList<V8Value>();
+        final List<V8Value> disposed = new ArrayList<V8Value>();
+        ReferenceHandler handler = new ReferenceHandler() {
+
+            @Override
+            public void v8HandleCreated(final V8Value object) {
+                created.add(object);
+            }
+
+            @Override
+            public void v8HandleDisposed(final V8Value object) {
+                disposed.add(object);
+            }
+        };
+        v8.addReferenceHandler(handler);
+
+        V8Object object = new V8Object(v8);
+        object.release();
+        v8.removeReferenceHandler(handler);
+        new V8Object(v8).release();
+
+        assertEquals(1, created.size());
+        assertEquals(1, disposed.size());
+        assertTrue(created.get(0) == object);
+        assertTrue(disposed.get(0) == object);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Object;
+
+public class MemoryManagerTest {
+
+    private V8 v8;
+
+    @Before
+    public void seutp() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            v8.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMemoryManagerReleasesObjects() {
+        MemoryManager memoryManager = new MemoryManager(v8);
+
+        new V8Object(v8);
+        new V8Array(v8);
+        memoryManager.release();
+
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testObjectReferenceCount() {
+        MemoryManager memoryManager = new MemoryManager(v8);
+
+        new V8Object(v8);
+        new V8Object(v8).release();
+        v8.executeObjectScript("({})");
+
+        assertEquals(2, memoryManager.getObjectReferenceCount());
+        memoryManager.release();
+    }
+
+    @Test
+    public void testObjectsCreatedBeforeManagerAreNotReleased() {
+        V8Object object = new V8Object(v8);
+        MemoryManager memoryManager = new MemoryManager(v8);
+
+        new V8Object(v8);
+        memoryManager.release();
+
+        assertFalse(object.isReleased());
+        assertEquals(1, v8.getObjectReferenceCount());
+        object.release();
+    }
+
+    @Test
+    public void testObjectsCreatedAfterReleaseAreNotTracked() {
+        MemoryManager memoryManager = new MemoryManager(v8);
+        memoryManager.release();
+
+        V8Object object = new V8Object(v8);
+
+        assertFalse(object.isReleased());
+        object.release();
+    }
+
+    @Test
+    public void testPersistedObjectIsNotReleased() {
+        MemoryManager memoryManager = new MemoryManager(v8);
+        V8Object object = new V8Object(v8);
+        V8Object temp = new V8Object(v8);
+
+        memoryManager.persist(object);
+        memoryManager.release();
+
+        assertFalse(object.isReleased());
+        assertTrue(temp.isReleased());
+        object.release();
+    }
+
+    @Test
+    public void testNestedMemoryManagers() {
+        MemoryManager outer = new MemoryManager(v8);
+        V8Object outerObject = new V8Object(v8);
+        MemoryManager inner = new MemoryManager(v8);
+        V8Object innerObject = new V8Object(v8);
+
+        inner.release();
+
+        assertTrue(innerObject.isReleased());
+        assertFalse(outerObject.isReleased());
+        outer.release();
+        assertTrue(outerObject.isReleased());
+    }
+
+    @Test
+    public void testReleaseTwice() {
+        MemoryManager memoryManager = new MemoryManager(v8);
+        new V8Object(v8);
+
+        memoryManager.release();
+        memoryManager.release();
+
+        assertTrue(memoryManager.isReleased());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReleasedManagerCannotBeUsed() {
+        MemoryManager memoryManager = new MemoryManager(v8);
+        memoryManager.release();
+
+        memoryManager.getObjectReferenceCount();
+    }
+
+}
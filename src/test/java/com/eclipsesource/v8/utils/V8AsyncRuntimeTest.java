@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8ScriptExecutionException;
+
+public class V8AsyncRuntimeTest {
+
+    private V8AsyncRuntime runtime;
+    private Object         result;
+    private Throwable      error;
+
+    @After
+    public void tearDown() {
+        if (runtime != null) {
+            runtime.release();
+        }
+        if (V8.getActiveRuntimes() != 0) {
+            throw new IllegalStateException("V8Runtimes not properly released.");
+        }
+    }
+
+    @Test
+    public void testExecuteScriptAsync() throws Exception {
+        runtime = new V8AsyncRuntime(0);
+
+        Future<Object> future = runtime.executeScriptAsync("1 + 2");
+
+        assertEquals(3, future.get());
+    }
+
+    @Test
+    public void testResultIsConvertedToList() throws Exception {
+        runtime = new V8AsyncRuntime(0);
+
+        Object value = runtime.executeScriptAsync("[1, 'two']").get();
+
+        assertTrue(value instanceof List);
+        assertEquals(2, ((List<?>) value).size());
+        assertEquals("two", ((List<?>) value).get(1));
+    }
+
+    @Test
+    public void testResultIsConvertedToMap() throws Exception {
+        runtime = new V8AsyncRuntime(0);
+
+        Object value = runtime.executeScriptAsync("({foo: 'bar'})").get();
+
+        assertTrue(value instanceof Map);
+        assertEquals("bar", ((Map<?, ?>) value).get("foo"));
+    }
+
+    @Test
+    public void testUndefinedResult() throws Exception {
+        runtime = new V8AsyncRuntime(0);
+
+        Object value = runtime.executeScriptAsync("undefined").get();
+
+        assertEquals(V8.getUndefined(), value);
+    }
+
+    @Test
+    public void testCallAsync() throws Exception {
+        runtime = new V8AsyncRuntime(new V8Runnable() {
+
+            @Override
+            public void run(final V8 v8) {
+                v8.executeVoidScript("function add(a, b) { return a + b; }");
+            }
+        }, 0);
+
+        Future<Object> future = runtime.callAsync("add", 3, 4);
+
+        assertEquals(7, future.get());
+    }
+
+    @Test
+    public void testScriptExceptionIsReportedByFuture() throws InterruptedException {
+        runtime = new V8AsyncRuntime(0);
+
+        try {
+            runtime.executeScriptAsync("throw 'fail';").get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof V8ScriptExecutionException);
+            return;
+        }
+        fail("Expected exception");
+    }
+
+    @Test
+    public void testCallbackOnSuccess() throws Exception {
+        runtime = new V8AsyncRuntime(0);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        runtime.executeScriptAsync("'foo'", new V8AsyncCallback<Object>() {
+
+            @Override
+            public void onSuccess(final Object value) {
+                result = value;
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(final Throwable e) {
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals("foo", result);
+    }
+
+    @Test
+    public void testCallbackOnFailure() throws Exception {
+        runtime = new V8AsyncRuntime(0);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        runtime.callAsync(new V8AsyncCallback<Object>() {
+
+            @Override
+            public void onSuccess(final Object value) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(final Throwable e) {
+                error = e;
+                latch.countDown();
+            }
+        }, "missing");
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(error instanceof RuntimeException);
+    }
+
+    @Test
+    public void testCallWithCallbackAndParameters() throws Exception {
+        runtime = new V8AsyncRuntime(new V8Runnable() {
+
+            @Override
+            public void run(final V8 v8) {
+                v8.executeVoidScript("function add(a, b) { return a + b; }");
+            }
+        }, 0);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        runtime.callAsync(new V8AsyncCallback<Object>() {
+
+            @Override
+            public void onSuccess(final Object value) {
+                result = value;
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(final Throwable e) {
+                latch.countDown();
+            }
+        }, "add", 3, 4);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(7, result);
+    }
+
+    @Test
+    public void testFullInboxRejectsCalls() throws Exception {
+        runtime = new V8AsyncRuntime(1);
+        runtime.executeScriptAsync("while(true) {}");
+        waitForEmptyQueue();
+        runtime.executeScriptAsync("1");
+
+        try {
+            runtime.executeScriptAsync("2");
+        } catch (RejectedExecutionException e) {
+            assertEquals(1, runtime.getQueueSize());
+            return;
+        }
+        fail("Expected exception");
+    }
+
+    @Test
+    public void testReleaseCancelsQueuedCalls() throws Exception {
+        runtime = new V8AsyncRuntime(0);
+        Future<Object> running = runtime.executeScriptAsync("while(true) {}");
+        waitForEmptyQueue();
+        Future<Object> queued = runtime.executeScriptAsync("1");
+
+        runtime.release();
+
+        assertTrue(running.isDone());
+        assertTrue(queued.isCancelled());
+        assertTrue(runtime.isReleased());
+        assertEquals(0, V8.getActiveRuntimes());
+    }
+
+    @Test
+    public void testCallbackNotifiedOfCancellation() throws Exception {
+        runtime = new V8AsyncRuntime(0);
+        runtime.executeScriptAsync("while(true) {}");
+        waitForEmptyQueue();
+        runtime.executeScriptAsync("1", new V8AsyncCallback<Object>() {
+
+            @Override
+            public void onSuccess(final Object value) {
+            }
+
+            @Override
+            public void onFailure(final Throwable e) {
+                error = e;
+            }
+        });
+
+        runtime.release();
+
+        assertTrue(error instanceof CancellationException);
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testReleasedRuntimeRejectsCalls() {
+        runtime = new V8AsyncRuntime(0);
+        runtime.release();
+
+        runtime.executeScriptAsync("1");
+    }
+
+    private void waitForEmptyQueue() throws InterruptedException {
+        while (runtime.getQueueSize() > 0) {
+            Thread.sleep(1);
+        }
+    }
+
+}
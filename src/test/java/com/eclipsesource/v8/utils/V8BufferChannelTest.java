@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8ArrayBuffer;
+
+public class V8BufferChannelTest {
+
+    private V8 sender;
+    private V8 receiver;
+
+    @Before
+    public void seutp() {
+        sender = V8.createV8Runtime();
+        receiver = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            sender.release();
+            receiver.release();
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released.");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSendAndReceive() {
+        V8BufferChannel channel = new V8BufferChannel();
+        V8ArrayBuffer buffer = (V8ArrayBuffer) sender.executeScript("var buf = new ArrayBuffer(4); new Uint8Array(buf)[2] = 9; buf;");
+
+        channel.send(buffer);
+        V8ArrayBuffer result = channel.receive(receiver);
+
+        receiver.add("buf", result);
+        assertEquals(9, receiver.executeIntegerScript("new Uint8Array(buf)[2]"));
+        assertEquals(0, sender.executeIntegerScript("buf.byteLength"));
+        buffer.release();
+        result.release();
+    }
+
+    @Test
+    public void testReceivedBufferCanBeSentBack() {
+        V8BufferChannel channel = new V8BufferChannel();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(sender, 4);
+        channel.send(buffer);
+        V8ArrayBuffer first = channel.receive(receiver);
+
+        channel.send(first);
+        V8ArrayBuffer second = channel.receive(sender);
+        second.getBackingStore().put(0, (byte) 5);
+
+        assertEquals(0, first.getByteLength());
+        assertEquals(5, second.getBackingStore().get(0));
+        buffer.release();
+        first.release();
+        second.release();
+    }
+
+    @Test
+    public void testPollEmptyChannel() {
+        V8BufferChannel channel = new V8BufferChannel();
+
+        assertNull(channel.poll(receiver));
+    }
+
+    @Test
+    public void testTrySendFullChannel() {
+        V8BufferChannel channel = new V8BufferChannel(1);
+        V8ArrayBuffer buffer1 = new V8ArrayBuffer(sender, 4);
+        V8ArrayBuffer buffer2 = new V8ArrayBuffer(sender, 4);
+
+        assertTrue(channel.trySend(buffer1));
+        assertFalse(channel.trySend(buffer2));
+
+        assertEquals(1, channel.getSize());
+        assertEquals(4, buffer2.getByteLength());
+        buffer1.release();
+        buffer2.release();
+    }
+
+    @Test
+    public void testReceiveFromClosedChannel() {
+        V8BufferChannel channel = new V8BufferChannel();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(sender, 4);
+        channel.send(buffer);
+        channel.close();
+
+        V8ArrayBuffer result = channel.receive(receiver);
+
+        assertEquals(4, result.getByteLength());
+        assertNull(channel.receive(receiver));
+        buffer.release();
+        result.release();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSendToClosedChannelFails() {
+        V8BufferChannel channel = new V8BufferChannel();
+        channel.close();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(sender, 4);
+
+        try {
+            channel.send(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testSendFromJavaScript() {
+        V8BufferChannel channel = new V8BufferChannel();
+        channel.register(sender, "channel");
+        channel.register(receiver, "channel");
+
+        sender.executeVoidScript("var bytes = new Uint8Array(4); bytes[0] = 3; channel.send(bytes);");
+        int result = receiver.executeIntegerScript("new Uint8Array(channel.receive())[0]");
+
+        assertEquals(3, result);
+        assertEquals(0, sender.executeIntegerScript("bytes.length"));
+    }
+
+    @Test
+    public void testSendReleasesRetainedBuffer() {
+        V8BufferChannel channel = new V8BufferChannel();
+        V8ArrayBuffer buffer = new V8ArrayBuffer(sender, 8);
+
+        channel.send(buffer);
+        buffer.release();
+
+        assertEquals(0, sender.getRetainedByteBufferCount());
+    }
+
+    @Test
+    public void testAllocateFromJavaScript() {
+        V8BufferChannel channel = new V8BufferChannel();
+        channel.register(sender, "channel");
+        channel.register(receiver, "channel");
+
+        sender.executeVoidScript("var buffer = channel.allocate(8); new Int32Array(buffer)[1] = 5; channel.send(buffer);");
+        int result = receiver.executeIntegerScript("new Int32Array(channel.receive())[1]");
+
+        assertEquals(5, result);
+        assertEquals(0, sender.executeIntegerScript("buffer.byteLength"));
+        assertEquals(0, sender.getRetainedByteBufferCount());
+    }
+
+    @Test
+    public void testPollFromJavaScript() {
+        V8BufferChannel channel = new V8BufferChannel();
+        channel.register(receiver, "channel");
+
+        assertTrue(receiver.executeBooleanScript("channel.poll() === null"));
+    }
+
+    @Test
+    public void testTransferBetweenExecutors() throws InterruptedException {
+        final V8BufferChannel channel = new V8BufferChannel();
+        V8Executor producer = new V8Executor("var bytes = new Uint8Array(1024); bytes[1023] = 42; channel.send(bytes.buffer);") {
+            @Override
+            protected void setup(final V8 runtime) {
+                channel.register(runtime, "channel");
+            }
+        };
+        V8Executor consumer = new V8Executor("new Uint8Array(channel.receive())[1023]") {
+            @Override
+            protected void setup(final V8 runtime) {
+                channel.register(runtime, "channel");
+            }
+        };
+        consumer.start();
+        producer.start();
+        producer.join();
+        consumer.join();
+
+        assertEquals("42", consumer.getResult());
+    }
+
+}
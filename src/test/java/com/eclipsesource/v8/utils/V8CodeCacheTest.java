@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Script;
+
+public class V8CodeCacheTest {
+
+    private static final String SCRIPT = "function add(a, b) { return a + b; }; add(3, 4);";
+
+    private V8                  v8;
+    private File                directory;
+
+    @Before
+    public void setup() throws IOException {
+        v8 = V8.createV8Runtime();
+        directory = File.createTempFile("j2v8", "codecache");
+        directory.delete();
+    }
+
+    @After
+    public void tearDown() {
+        v8.release();
+        deleteDirectory(directory);
+        if (V8.getActiveRuntimes() != 0) {
+            throw new IllegalStateException("V8Runtimes not properly released.");
+        }
+    }
+
+    @Test
+    public void testFirstCompileIsMiss() {
+        V8CodeCache cache = new V8CodeCache();
+
+        V8Script script = cache.compileScript(v8, SCRIPT, "script", 0);
+
+        assertEquals(7, script.executeInteger());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getRejected());
+        script.release();
+    }
+
+    @Test
+    public void testSecondCompileIsHit() {
+        V8CodeCache cache = new V8CodeCache();
+        cache.compileScript(v8, SCRIPT, "script", 0).release();
+
+        V8Script script = cache.compileScript(v8, SCRIPT, "script", 0);
+
+        assertEquals(7, script.executeInteger());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        script.release();
+    }
+
+    @Test
+    public void testDifferentScriptsAreMisses() {
+        V8CodeCache cache = new V8CodeCache();
+
+        cache.compileScript(v8, "1", "script", 0).release();
+        cache.compileScript(v8, "2", "script", 0).release();
+
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testCacheSharedBetweenRuntimes() {
+        V8CodeCache cache = new V8CodeCache();
+        cache.compileScript(v8, SCRIPT, "script", 0).release();
+        V8 runtime = V8.createV8Runtime();
+
+        V8Script script = cache.compileScript(runtime, SCRIPT, "script", 0);
+
+        assertEquals(7, script.executeInteger());
+        assertEquals(1, cache.getHits());
+        script.release();
+        runtime.release();
+    }
+
+    @Test
+    public void testCacheCreatesDirectory() {
+        new V8CodeCache(directory);
+
+        assertTrue(directory.isDirectory());
+    }
+
+    @Test
+    public void testCachePersistedToDirectory() {
+        new V8CodeCache(directory).compileScript(v8, SCRIPT, "script", 0).release();
+        V8CodeCache cache = new V8CodeCache(directory);
+
+        V8Script script = cache.compileScript(v8, SCRIPT, "script", 0);
+
+        assertEquals(7, script.executeInteger());
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        script.release();
+    }
+
+    @Test
+    public void testNoTemporaryFilesLeftBehind() {
+        new V8CodeCache(directory).compileScript(v8, SCRIPT, "script", 0).release();
+
+        File[] files = directory.listFiles();
+        assertEquals(1, files.length);
+        assertFalse(files[0].getName().endsWith(".tmp"));
+    }
+
+    @Test
+    public void testCorruptCacheFileRejected() throws IOException {
+        new V8CodeCache(directory).compileScript(v8, SCRIPT, "script", 0).release();
+        for (File file : directory.listFiles()) {
+            FileOutputStream os = new FileOutputStream(file);
+            os.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+            os.close();
+        }
+        V8CodeCache cache = new V8CodeCache(directory);
+
+        V8Script script = cache.compileScript(v8, SCRIPT, "script", 0);
+
+        assertEquals(7, script.executeInteger());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getRejected());
+        script.release();
+    }
+
+    @Test
+    public void testRejectedCacheIsRegenerated() throws IOException {
+        new V8CodeCache(directory).compileScript(v8, SCRIPT, "script", 0).release();
+        for (File file : directory.listFiles()) {
+            FileOutputStream os = new FileOutputStream(file);
+            os.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+            os.close();
+        }
+        new V8CodeCache(directory).compileScript(v8, SCRIPT, "script", 0).release();
+        V8CodeCache cache = new V8CodeCache(directory);
+
+        cache.compileScript(v8, SCRIPT, "script", 0).release();
+
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getRejected());
+    }
+
+    @Test
+    public void testClearRemovesCacheFiles() {
+        V8CodeCache cache = new V8CodeCache(directory);
+        cache.compileScript(v8, SCRIPT, "script", 0).release();
+
+        cache.clear();
+
+        assertEquals(0, directory.listFiles().length);
+    }
+
+    @Test
+    public void testClearedCacheIsMiss() {
+        V8CodeCache cache = new V8CodeCache();
+        cache.compileScript(v8, SCRIPT, "script", 0).release();
+        cache.clear();
+
+        cache.compileScript(v8, SCRIPT, "script", 0).release();
+
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testNoFilesWithoutDirectory() {
+        V8CodeCache cache = new V8CodeCache();
+
+        cache.compileScript(v8, SCRIPT, "script", 0).release();
+
+        assertFalse(directory.exists());
+    }
+
+    private static void deleteDirectory(final File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+}
@@ -0,0 +1,425 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8ScriptExecutionException;
+
+public class V8ExecutorServiceTest {
+
+    private V8ExecutorService executor;
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        if (V8.getActiveRuntimes() != 0) {
+            throw new IllegalStateException("V8Runtimes not properly released.");
+        }
+    }
+
+    @Test
+    public void testExecutorCreatesRuntimes() {
+        executor = new V8ExecutorService(3);
+
+        assertEquals(3, V8.getActiveRuntimes());
+        assertEquals(3, executor.getSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new V8ExecutorService(0);
+    }
+
+    @Test
+    public void testSubmitV8Callable() throws Exception {
+        executor = new V8ExecutorService(2);
+
+        Future<Integer> result = executor.submitCallable(new V8Callable<Integer>() {
+
+            @Override
+            public Integer call(final V8 runtime) {
+                return runtime.executeIntegerScript("1 + 2");
+            }
+        });
+
+        assertEquals(3, (int) result.get());
+    }
+
+    @Test
+    public void testSubmitV8Runnable() throws Exception {
+        executor = new V8ExecutorService(1);
+
+        Future<?> result = executor.submit(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("var x = 7;");
+            }
+        });
+
+        assertNull(result.get());
+    }
+
+    @Test
+    public void testSubmitCallableUsesCurrentRuntime() throws Exception {
+        executor = new V8ExecutorService(1);
+
+        Future<String> result = executor.submit(new Callable<String>() {
+
+            @Override
+            public String call() {
+                return V8ExecutorService.getCurrentRuntime().executeStringScript("'foo'");
+            }
+        });
+
+        assertEquals("foo", result.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetCurrentRuntimeOutsideWorker() {
+        V8ExecutorService.getCurrentRuntime();
+    }
+
+    @Test
+    public void testRuntimeIsKeptBetweenTasks() throws Exception {
+        executor = new V8ExecutorService(1);
+
+        executor.submit(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("var x = 7;");
+            }
+        });
+        Future<Integer> result = executor.submitCallable(new V8Callable<Integer>() {
+
+            @Override
+            public Integer call(final V8 runtime) {
+                return runtime.getInteger("x");
+            }
+        });
+
+        assertEquals(7, (int) result.get());
+    }
+
+    @Test
+    public void testSetupRunOnEveryRuntime() throws Exception {
+        executor = new V8ExecutorService(2, new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("var x = 7;");
+            }
+        });
+        List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+
+        for (int i = 0; i < 10; i++) {
+            results.add(executor.submitCallable(new V8Callable<Integer>() {
+
+                @Override
+                public Integer call(final V8 runtime) {
+                    return runtime.getInteger("x");
+                }
+            }));
+        }
+
+        for (Future<Integer> result : results) {
+            assertEquals(7, (int) result.get());
+        }
+    }
+
+    @Test
+    public void testFailedSetupReleasesRuntimes() {
+        try {
+            new V8ExecutorService(2, new V8Runnable() {
+
+                @Override
+                public void run(final V8 runtime) {
+                    runtime.executeVoidScript("throw 'fail';");
+                }
+            });
+        } catch (V8ScriptExecutionException e) {
+            assertEquals(0, V8.getActiveRuntimes());
+            return;
+        }
+        fail("Expected exception");
+    }
+
+    @Test
+    public void testTaskExceptionIsReportedByFuture() throws InterruptedException {
+        executor = new V8ExecutorService(1);
+
+        Future<Object> result = executor.submitCallable(new V8Callable<Object>() {
+
+            @Override
+            public Object call(final V8 runtime) {
+                return runtime.executeScript("throw 'fail';");
+            }
+        });
+
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof V8ScriptExecutionException);
+            return;
+        }
+        fail("Expected exception");
+    }
+
+    @Test
+    public void testWorkerSurvivesFailedTask() throws Exception {
+        executor = new V8ExecutorService(1);
+
+        executor.execute(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("throw 'fail';");
+            }
+        });
+        Future<Integer> result = executor.submitCallable(new V8Callable<Integer>() {
+
+            @Override
+            public Integer call(final V8 runtime) {
+                return runtime.executeIntegerScript("7");
+            }
+        });
+
+        assertEquals(7, (int) result.get());
+        assertEquals(1, executor.getFailedTaskCount());
+    }
+
+    @Test
+    public void testReleasedRuntimeIsReplaced() throws Exception {
+        executor = new V8ExecutorService(1);
+
+        executor.execute(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.release();
+            }
+        });
+        Future<Boolean> result = executor.submitCallable(new V8Callable<Boolean>() {
+
+            @Override
+            public Boolean call(final V8 runtime) {
+                return runtime.isReleased();
+            }
+        });
+
+        assertFalse(result.get());
+        assertEquals(1, V8.getActiveRuntimes());
+    }
+
+    @Test
+    public void testFailedRuntimeReplacementShutsDownService() throws Exception {
+        final AtomicInteger setups = new AtomicInteger();
+        final CountDownLatch queued = new CountDownLatch(1);
+        executor = new V8ExecutorService(1, new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                if (setups.incrementAndGet() > 1) {
+                    throw new IllegalStateException("Setup failed.");
+                }
+            }
+        });
+
+        executor.execute(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                try {
+                    queued.await();
+                } catch (InterruptedException e) {
+                    // release right away
+                }
+                runtime.release();
+            }
+        });
+        Future<?> pending = executor.submit(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+            }
+        });
+        queued.countDown();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(pending.isCancelled());
+        assertTrue(executor.isShutdown());
+        assertEquals(0, V8.getActiveRuntimes());
+    }
+
+    @Test
+    public void testShutdownCompletesQueuedTasks() throws Exception {
+        executor = new V8ExecutorService(1);
+        List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < 5; i++) {
+            final int value = i;
+            results.add(executor.submitCallable(new V8Callable<Integer>() {
+
+                @Override
+                public Integer call(final V8 runtime) {
+                    return runtime.executeIntegerScript(value + " * 2");
+                }
+            }));
+        }
+
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i * 2, (int) results.get(i).get());
+        }
+        assertEquals(0, V8.getActiveRuntimes());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testTaskRejectedAfterShutdown() {
+        executor = new V8ExecutorService(1);
+        executor.shutdown();
+
+        executor.execute(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+            }
+        });
+    }
+
+    @Test
+    public void testTaskRejectedWhenQueueFull() throws Exception {
+        executor = new V8ExecutorService(1);
+        executor.setMaxQueueSize(1);
+        executor.execute(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("while(true) {}");
+            }
+        });
+        while (executor.getActiveCount() == 0) {
+            Thread.sleep(1);
+        }
+        executor.execute(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+            }
+        });
+
+        try {
+            executor.execute(new V8Runnable() {
+
+                @Override
+                public void run(final V8 runtime) {
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            assertEquals(1, executor.getQueueSize());
+            return;
+        }
+        fail("Expected exception");
+    }
+
+    @Test
+    public void testShutdownNowTerminatesRunningTask() throws Exception {
+        executor = new V8ExecutorService(1);
+        Future<?> result = executor.submit(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("while(true) {}");
+            }
+        });
+        while (executor.getActiveCount() == 0) {
+            Thread.sleep(1);
+        }
+
+        executor.shutdownNow();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(result.isDone());
+    }
+
+    @Test
+    public void testShutdownNowReturnsQueuedTasks() throws Exception {
+        executor = new V8ExecutorService(1);
+        executor.submit(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("while(true) {}");
+            }
+        });
+        while (executor.getActiveCount() == 0) {
+            Thread.sleep(1);
+        }
+        executor.execute(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+            }
+        });
+
+        assertEquals(1, executor.getQueueSize());
+        assertEquals(1, executor.shutdownNow().size());
+        assertEquals(0, executor.getQueueSize());
+    }
+
+    @Test
+    public void testLatencyIsRecorded() throws Exception {
+        executor = new V8ExecutorService(1);
+
+        executor.submit(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+            }
+        }).get();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(1, executor.getCompletedTaskCount());
+        assertTrue(executor.getMaxLatency(TimeUnit.MILLISECONDS) >= 10);
+        assertTrue(executor.getTotalLatency(TimeUnit.NANOSECONDS) >= executor.getTotalQueueTime(TimeUnit.NANOSECONDS));
+    }
+
+}
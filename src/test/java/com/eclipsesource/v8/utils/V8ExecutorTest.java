@@ -15,10 +15,17 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.After;
 import org.junit.Test;
 
+import com.eclipsesource.v8.JavaVoidCallback;
 import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
 import com.eclipsesource.v8.V8Object;
 import com.eclipsesource.v8.V8ScriptCompilationException;
 import com.eclipsesource.v8.V8ScriptException;
@@ -372,6 +379,181 @@ public class V8ExecutorTest {
         assertFalse(executor.isShuttingDown());
     }
 
+    @Test
+    public void testShutdownProcessesQueuedMessages() throws InterruptedException {
+        V8Executor executor = createMessageExecutor("messageHandler = function(e) { postMessage(e); }");
+        executor.postMessage("1");
+        executor.postMessage("2");
+        executor.postMessage("3");
+        executor.start();
+        executor.shutdown();
+        executor.join();
+
+        assertEquals("123", result);
+    }
+
+    @Test
+    public void testBatchModeDeliversPendingMessagesInOneCall() throws InterruptedException {
+        V8Executor executor = createMessageExecutor("messageHandler = function(e) { postMessage(e.length); }");
+        executor.setMaxBatchSize(10);
+        executor.postMessage("1");
+        executor.postMessage("2");
+        executor.postMessage("3");
+        executor.start();
+        executor.shutdown();
+        executor.join();
+
+        assertEquals("3", result);
+    }
+
+    @Test
+    public void testBatchModeRespectsMaxBatchSize() throws InterruptedException {
+        V8Executor executor = createMessageExecutor("messageHandler = function(e) { postMessage(e.length); }");
+        executor.setMaxBatchSize(2);
+        for (int i = 0; i < 5; i++) {
+            executor.postMessage(String.valueOf(i));
+        }
+        executor.start();
+        executor.shutdown();
+        executor.join();
+
+        assertEquals("221", result);
+    }
+
+    @Test
+    public void testBatchModeMessageContents() throws InterruptedException {
+        V8Executor executor = createMessageExecutor(
+                "messageHandler = function(e) { for (var i = 0; i < e.length; i++) { postMessage(e[i][0], e[i][1]); } }");
+        executor.setMaxBatchSize(10);
+        executor.postMessage("1", "a");
+        executor.postMessage("2", "b");
+        executor.start();
+        executor.shutdown();
+        executor.join();
+
+        assertEquals("1a2b", result);
+    }
+
+    @Test
+    public void testOfferMessageFailsWhenQueueFull() {
+        V8Executor executor = new V8Executor("", true, "messageHandler");
+        executor.setMaxQueueSize(2);
+
+        assertTrue(executor.offerMessage("1"));
+        assertTrue(executor.offerMessage("2"));
+        assertFalse(executor.offerMessage("3"));
+        assertEquals(2, executor.getMessageQueueSize());
+    }
+
+    @Test
+    public void testPostMessageBlocksWhenQueueFull() throws InterruptedException {
+        final V8Executor executor = createMessageExecutor("messageHandler = function(e) { postMessage(e); }");
+        executor.setMaxQueueSize(1);
+        executor.postMessage("1");
+        Thread producer = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                executor.postMessage("2");
+            }
+        });
+        producer.start();
+        Thread.sleep(100);
+
+        assertTrue(producer.isAlive());
+        executor.start();
+        producer.join();
+        executor.shutdown();
+        executor.join();
+        assertEquals("12", result);
+    }
+
+    @Test
+    public void testPostPrimitiveMessage() throws InterruptedException {
+        V8Executor executor = createMessageExecutor("messageHandler = function(e) { postMessage(typeof e[0], e[0] + e[1], e[2]); }");
+        executor.postMessage(3, 4.5, true);
+        executor.start();
+        executor.shutdown();
+        executor.join();
+
+        assertEquals("number7.5true", result);
+    }
+
+    @Test
+    public void testPostStructuredMessage() throws InterruptedException {
+        V8Executor executor = createMessageExecutor("messageHandler = function(e) { postMessage(e[0].name, e[0].values[1], e[1].length); }");
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("name", "foo");
+        map.put("values", Arrays.asList(1, 2, 3));
+        executor.postMessage(map, Arrays.asList("a", "b"));
+        executor.start();
+        executor.shutdown();
+        executor.join();
+
+        assertEquals("foo22", result);
+    }
+
+    @Test
+    public void testPostBinaryMessage() throws InterruptedException {
+        V8Executor executor = createMessageExecutor("messageHandler = function(e) { var bytes = new Uint8Array(e[0]); postMessage(bytes.length, bytes[1]); }");
+        executor.postMessage(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+        executor.start();
+        executor.shutdown();
+        executor.join();
+
+        assertEquals("32", result);
+    }
+
+    @Test
+    public void testBatchModeStructuredMessages() throws InterruptedException {
+        V8Executor executor = createMessageExecutor("messageHandler = function(e) { postMessage(e[0][0] + e[1][0]); }");
+        executor.setMaxBatchSize(10);
+        executor.postMessage(1);
+        executor.postMessage(2);
+        executor.start();
+        executor.shutdown();
+        executor.join();
+
+        assertEquals("3", result);
+    }
+
+    @Test
+    public void testDirectBufferMessagesAreNotRetained() throws InterruptedException {
+        final int[] retained = new int[] { -1 };
+        V8Executor executor = new V8Executor("messageHandler = function(e) { if (e[0] === 'check') { checkRetained(); } }", true, "messageHandler") {
+            @Override
+            protected void setup(final V8 runtime) {
+                runtime.registerJavaMethod(new JavaVoidCallback() {
+
+                    @Override
+                    public void invoke(final V8Object receiver, final V8Array parameters) {
+                        runtime.lowMemoryNotification();
+                        retained[0] = runtime.getRetainedByteBufferCount();
+                    }
+                }, "checkRetained");
+            }
+        };
+        for (int i = 0; i < 1000; i++) {
+            executor.postMessage(ByteBuffer.allocateDirect(1024));
+        }
+        executor.postMessage("check");
+        executor.start();
+        executor.shutdown();
+        executor.join();
+
+        assertTrue(retained[0] >= 0);
+        assertTrue(retained[0] < 10);
+    }
+
+    private V8Executor createMessageExecutor(final String script) {
+        return new V8Executor(script, true, "messageHandler") {
+            @Override
+            protected void setup(final V8 runtime) {
+                runtime.registerJavaMethod(V8ExecutorTest.this, "postMessage", "postMessage", new Class<?>[] { Object[].class });
+            }
+        };
+    }
+
     public void postMessage(final Object... s) {
         passed = true;
         for (Object element : s) {
@@ -247,6 +247,22 @@ public class V8MapTest {
         map.release();
     }
 
+    @Test
+    public void testReleaseMapReleasesKeysFromSeveralRuntimes() {
+        V8 other = V8.createV8Runtime();
+        V8Object v8Object = new V8Object(v8);
+        V8Object otherObject = new V8Object(other);
+        V8Map<String> map = new V8Map<String>();
+        map.put(v8Object, "foo");
+        map.put(otherObject, "bar");
+        v8Object.release();
+        otherObject.release();
+
+        map.release();
+
+        other.release(true);
+    }
+
     @Test
     public void testRemoveKeyReleasesKey() {
         V8Map<String> map = new V8Map<String>();
@@ -16,6 +16,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -29,6 +30,7 @@ import org.junit.Test;
 
 import com.eclipsesource.v8.V8;
 import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8ArrayBuffer;
 import com.eclipsesource.v8.V8Object;
 import com.eclipsesource.v8.V8Value;
 
@@ -748,6 +750,59 @@ public class V8ObjectUtilsTest {
         ((V8Object) result).release();
     }
 
+    @Test
+    public void testGetV8ResultByteBuffer() {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(4);
+        byteBuffer.put(0, (byte) 7);
+        Object result = V8ObjectUtils.getV8Result(v8, byteBuffer);
+
+        assertTrue(result instanceof V8ArrayBuffer);
+        assertEquals(4, ((V8ArrayBuffer) result).getByteLength());
+        assertEquals(7, ((V8ArrayBuffer) result).getBackingStore().get(0));
+        ((V8Object) result).release();
+    }
+
+    @Test
+    public void testPushHeapByteBufferCopiesRemainingBytes() {
+        V8Array array = new V8Array(v8);
+        ByteBuffer byteBuffer = ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 });
+        byteBuffer.position(1);
+
+        V8ObjectUtils.pushValue(v8, array, byteBuffer);
+        byteBuffer.put(2, (byte) 9);
+
+        v8.add("result", array);
+        assertEquals(3, v8.executeIntegerScript("result[0].byteLength"));
+        assertEquals(2, v8.executeIntegerScript("new Uint8Array(result[0])[0]"));
+        assertEquals(3, v8.executeIntegerScript("new Uint8Array(result[0])[1]"));
+        array.release();
+    }
+
+    @Test
+    public void testPushDirectByteBufferSharesMemory() {
+        V8Array array = new V8Array(v8);
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(4);
+
+        V8ObjectUtils.pushValue(v8, array, byteBuffer);
+        byteBuffer.put(0, (byte) 9);
+
+        v8.add("result", array);
+        assertEquals(9, v8.executeIntegerScript("new Uint8Array(result[0])[0]"));
+        array.release();
+    }
+
+    @Test
+    public void testMapWithByteBuffer() {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("data", ByteBuffer.wrap(new byte[] { 1, 2 }));
+
+        V8Object result = V8ObjectUtils.toV8Object(v8, map);
+
+        v8.add("result", result);
+        assertEquals(2, v8.executeIntegerScript("new Uint8Array(result.data)[1]"));
+        result.release();
+    }
+
     @Test
     public void testPushInteger() {
         V8Array array = new V8Array(v8);
@@ -0,0 +1,497 @@
+/*******************************************************************************
+ * Copyright (c) 2016 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8SnapshotBuilder;
+
+public class V8RuntimePoolTest {
+
+    private V8RuntimePool pool;
+
+    @After
+    public void tearDown() {
+        if (pool != null) {
+            pool.release();
+        }
+        if (V8.getActiveRuntimes() != 0) {
+            throw new IllegalStateException("V8Runtimes not properly released.");
+        }
+    }
+
+    @Test
+    public void testPoolCreatesRuntimes() {
+        pool = new V8RuntimePool(3);
+
+        assertEquals(3, V8.getActiveRuntimes());
+        assertEquals(3, pool.getSize());
+        assertEquals(3, pool.getIdleCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new V8RuntimePool(0);
+    }
+
+    @Test
+    public void testSetupRunOnEveryRuntime() {
+        pool = new V8RuntimePool(2, new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("var x = 7;");
+            }
+        });
+
+        V8 runtime1 = pool.lease();
+        V8 runtime2 = pool.lease();
+
+        assertEquals(7, runtime1.getInteger("x"));
+        assertEquals(7, runtime2.getInteger("x"));
+        pool.returnRuntime(runtime1);
+        pool.returnRuntime(runtime2);
+    }
+
+    @Test
+    public void testFailedSetupReleasesRuntimes() {
+        try {
+            new V8RuntimePool(2, new V8Runnable() {
+
+                @Override
+                public void run(final V8 runtime) {
+                    runtime.executeVoidScript("throw 'error';");
+                }
+            });
+        } catch (RuntimeException e) {
+            assertEquals(0, V8.getActiveRuntimes());
+            return;
+        }
+        throw new AssertionError("Setup failure not reported.");
+    }
+
+    @Test
+    public void testPoolFromSnapshot() {
+        byte[] snapshot = new V8SnapshotBuilder().addScript("var x = 7;").build();
+        pool = new V8RuntimePool(1, null, snapshot, null);
+
+        V8 runtime = pool.lease();
+
+        assertEquals(7, runtime.getInteger("x"));
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testLeasedRuntimeLockedToThread() {
+        pool = new V8RuntimePool(1);
+
+        V8 runtime = pool.lease();
+
+        assertTrue(runtime.getLocker().hasLock());
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testReturnedRuntimeUnlocked() {
+        pool = new V8RuntimePool(1);
+        V8 runtime = pool.lease();
+
+        pool.returnRuntime(runtime);
+
+        assertFalse(runtime.getLocker().hasLock());
+    }
+
+    @Test
+    public void testRuntimeHandedToOtherThread() throws InterruptedException {
+        pool = new V8RuntimePool(1);
+        pool.returnRuntime(pool.lease());
+        final int[] result = new int[1];
+
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                V8 runtime = pool.lease();
+                result[0] = runtime.executeIntegerScript("1 + 1");
+                pool.returnRuntime(runtime);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertEquals(2, result[0]);
+    }
+
+    @Test
+    public void testLeaseWaitsForReturn() throws InterruptedException {
+        pool = new V8RuntimePool(1);
+        final V8 runtime = pool.lease();
+        final V8[] result = new V8[1];
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                result[0] = pool.lease();
+                pool.returnRuntime(result[0]);
+            }
+        });
+        thread.start();
+        Thread.sleep(100);
+
+        pool.returnRuntime(runtime);
+        thread.join();
+
+        assertSame(runtime, result[0]);
+        assertTrue(pool.getTotalWaitTime() > 0);
+        assertTrue(pool.getMaxWaitTime() > 0);
+    }
+
+    @Test
+    public void testLeaseTimeout() throws InterruptedException {
+        pool = new V8RuntimePool(1);
+        V8 runtime = pool.lease();
+
+        V8 result = pool.lease(10, TimeUnit.MILLISECONDS);
+
+        assertNull(result);
+        assertEquals(1, pool.getTimeoutCount());
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testLeaseWithTimeout() throws InterruptedException {
+        pool = new V8RuntimePool(1);
+
+        V8 runtime = pool.lease(10, TimeUnit.MILLISECONDS);
+
+        assertNotNull(runtime);
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testUtilization() {
+        pool = new V8RuntimePool(4);
+
+        V8 runtime = pool.lease();
+
+        assertEquals(0.25, pool.getUtilization(), 0.0001);
+        assertEquals(1, pool.getLeasedCount());
+        assertEquals(3, pool.getIdleCount());
+        pool.returnRuntime(runtime);
+        assertEquals(0, pool.getUtilization(), 0.0001);
+    }
+
+    @Test
+    public void testLeaseCount() {
+        pool = new V8RuntimePool(1);
+
+        pool.returnRuntime(pool.lease());
+        pool.returnRuntime(pool.lease());
+
+        assertEquals(2, pool.getLeaseCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReturnRuntimeNotFromPool() {
+        pool = new V8RuntimePool(1);
+        V8 runtime = V8.createV8Runtime();
+        try {
+            pool.returnRuntime(runtime);
+        } finally {
+            runtime.release();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReturnRuntimeTwice() {
+        pool = new V8RuntimePool(1);
+        V8 runtime = pool.lease();
+        pool.returnRuntime(runtime);
+
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testResetHandlerRunOnReturn() {
+        pool = new V8RuntimePool(1);
+        pool.setResetHandler(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.add("reset", true);
+            }
+        });
+
+        pool.returnRuntime(pool.lease());
+        V8 runtime = pool.lease();
+
+        assertTrue(runtime.getBoolean("reset"));
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testResetGlobals() {
+        pool = new V8RuntimePool(1, new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("var x = 7;");
+            }
+        });
+        pool.setResetGlobals(true);
+        V8 runtime = pool.lease();
+        runtime.executeVoidScript("y = 8; var z = 9;");
+
+        pool.returnRuntime(runtime);
+        runtime = pool.lease();
+
+        assertEquals(7, runtime.getInteger("x"));
+        assertEquals("undefined", runtime.executeStringScript("typeof y"));
+        assertEquals("undefined", runtime.executeStringScript("typeof z"));
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testGlobalsKeptWithoutReset() {
+        pool = new V8RuntimePool(1);
+        V8 runtime = pool.lease();
+        runtime.executeVoidScript("y = 8;");
+
+        pool.returnRuntime(runtime);
+        runtime = pool.lease();
+
+        assertEquals(8, runtime.getInteger("y"));
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testFailedResetEvictsRuntime() {
+        pool = new V8RuntimePool(1);
+        pool.setResetHandler(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                throw new RuntimeException();
+            }
+        });
+        V8 runtime = pool.lease();
+
+        pool.returnRuntime(runtime);
+
+        assertTrue(runtime.isReleased());
+        assertEquals(1, pool.getEvictionCount());
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(1, V8.getActiveRuntimes());
+    }
+
+    @Test
+    public void testReleasedRuntimeEvicted() {
+        pool = new V8RuntimePool(1);
+        V8 runtime = pool.lease();
+        runtime.release();
+
+        pool.returnRuntime(runtime);
+        V8 newRuntime = pool.lease();
+
+        assertNotSame(runtime, newRuntime);
+        assertEquals(1, pool.getEvictionCount());
+        pool.returnRuntime(newRuntime);
+    }
+
+    @Test
+    public void testReleasedRuntimeEvictedWhileOthersAreIdle() {
+        pool = new V8RuntimePool(3);
+        V8 runtime = pool.lease();
+        runtime.release();
+
+        pool.returnRuntime(runtime);
+
+        assertEquals(1, pool.getEvictionCount());
+        assertEquals(3, pool.getIdleCount());
+        assertEquals(0, pool.getLeasedCount());
+        assertEquals(3, V8.getActiveRuntimes());
+    }
+
+    @Test
+    public void testMaxLeasesEvictsRuntime() {
+        pool = new V8RuntimePool(1);
+        pool.setMaxLeases(2);
+        V8 runtime = pool.lease();
+        pool.returnRuntime(runtime);
+        pool.returnRuntime(pool.lease());
+
+        V8 newRuntime = pool.lease();
+
+        assertNotSame(runtime, newRuntime);
+        assertEquals(1, pool.getEvictionCount());
+        pool.returnRuntime(newRuntime);
+    }
+
+    @Test
+    public void testMaxUsedHeapSizeEvictsRuntime() {
+        pool = new V8RuntimePool(1);
+        pool.setMaxUsedHeapSize(1);
+        V8 runtime = pool.lease();
+        pool.returnRuntime(runtime);
+
+        V8 newRuntime = pool.lease();
+
+        assertNotSame(runtime, newRuntime);
+        assertEquals(1, pool.getEvictionCount());
+        pool.returnRuntime(newRuntime);
+    }
+
+    @Test
+    public void testRuntimeBelowMaxUsedHeapSizeKept() {
+        pool = new V8RuntimePool(1);
+        pool.setMaxUsedHeapSize(Long.MAX_VALUE);
+        V8 runtime = pool.lease();
+        pool.returnRuntime(runtime);
+
+        V8 sameRuntime = pool.lease();
+
+        assertSame(runtime, sameRuntime);
+        assertEquals(0, pool.getEvictionCount());
+        pool.returnRuntime(sameRuntime);
+    }
+
+    @Test
+    public void testPendingTerminationCancelledOnReturn() {
+        pool = new V8RuntimePool(1);
+        V8 runtime = pool.lease();
+        runtime.terminateExecution();
+        pool.returnRuntime(runtime);
+
+        V8 sameRuntime = pool.lease();
+
+        assertSame(runtime, sameRuntime);
+        assertEquals(1000, sameRuntime.executeIntegerScript("var i = 0; for (var j = 0; j < 1000; j++) { i++; } i;"));
+        pool.returnRuntime(sameRuntime);
+    }
+
+    @Test
+    public void testReplacedRuntimeRunsSetup() {
+        pool = new V8RuntimePool(1, new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("var x = 7;");
+            }
+        });
+        pool.setMaxLeases(1);
+        pool.returnRuntime(pool.lease());
+
+        V8 runtime = pool.lease();
+
+        assertEquals(7, runtime.getInteger("x"));
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testFailedReplacementCreatedOnNextLease() {
+        final boolean[] failSetup = new boolean[1];
+        pool = new V8RuntimePool(1, new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                if (failSetup[0]) {
+                    throw new RuntimeException();
+                }
+                runtime.executeVoidScript("var x = 7;");
+            }
+        });
+        pool.setMaxLeases(1);
+        failSetup[0] = true;
+        pool.returnRuntime(pool.lease());
+
+        assertEquals(1, pool.getReplacementFailureCount());
+        assertEquals(0, pool.getRuntimeCount());
+        assertEquals(0, V8.getActiveRuntimes());
+
+        failSetup[0] = false;
+        V8 runtime = pool.lease();
+
+        assertEquals(7, runtime.getInteger("x"));
+        assertEquals(1, pool.getRuntimeCount());
+        pool.returnRuntime(runtime);
+    }
+
+    @Test
+    public void testFailedReplacementReportedToLease() {
+        final boolean[] failSetup = new boolean[1];
+        pool = new V8RuntimePool(1, new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                if (failSetup[0]) {
+                    throw new IllegalStateException();
+                }
+            }
+        });
+        pool.setMaxLeases(1);
+        failSetup[0] = true;
+        pool.returnRuntime(pool.lease());
+
+        try {
+            pool.lease();
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        assertEquals(2, pool.getReplacementFailureCount());
+        assertEquals(0, pool.getRuntimeCount());
+    }
+
+    @Test
+    public void testReleasePool() {
+        pool = new V8RuntimePool(2);
+
+        pool.release();
+
+        assertTrue(pool.isReleased());
+        assertEquals(0, V8.getActiveRuntimes());
+    }
+
+    @Test
+    public void testLeasedRuntimeReleasedOnReturn() {
+        pool = new V8RuntimePool(2);
+        V8 runtime = pool.lease();
+        pool.release();
+
+        pool.returnRuntime(runtime);
+
+        assertTrue(runtime.isReleased());
+        assertEquals(0, V8.getActiveRuntimes());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testLeaseFromReleasedPool() {
+        pool = new V8RuntimePool(1);
+        pool.release();
+
+        pool.lease();
+    }
+
+}